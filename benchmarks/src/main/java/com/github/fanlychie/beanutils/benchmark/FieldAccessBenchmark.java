@@ -0,0 +1,102 @@
+package com.github.fanlychie.beanutils.benchmark;
+
+import com.github.fanlychie.beanutils.BeanUtils;
+import com.github.fanlychie.beanutils.accessor.FieldAccessor;
+import com.github.fanlychie.beanutils.accessor.FieldAccessors;
+import com.github.fanlychie.beanutils.operator.FieldOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比各字段访问后端的读写性能, 每个后端在独立的 JVM 中运行
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldAccessBenchmark {
+
+    @Param({"reflect", "varhandle", "hiddenclass", "tiered"})
+    public String backend;
+
+    private Item item;
+
+    private FieldOperator fieldOperator;
+
+    private FieldAccessor countAccessor;
+
+    private FieldAccessor nameAccessor;
+
+    @Setup
+    public void setup() {
+        // 必须在首次创建访问器之前指定后端
+        System.setProperty(FieldAccessors.BACKEND_PROPERTY, backend);
+        item = new Item(42, "beanutils");
+        fieldOperator = BeanUtils.fieldOperate(Item.class);
+        countAccessor = fieldOperator.getAccessorByFieldName("count");
+        nameAccessor = fieldOperator.getAccessorByFieldName("name");
+        if (!backend.equals(FieldAccessors.getBackend())) {
+            throw new IllegalStateException("expected " + backend + " but was " + FieldAccessors.getBackend());
+        }
+    }
+
+    @Benchmark
+    public Object getValueByFieldName() {
+        return fieldOperator.getValueByFieldName(item, "name");
+    }
+
+    @Benchmark
+    public void setValueByFieldName() {
+        fieldOperator.setValueByFieldName(item, "name", "fanlychie");
+    }
+
+    @Benchmark
+    public Object accessorGet() {
+        return nameAccessor.get(item);
+    }
+
+    @Benchmark
+    public int accessorGetInt() {
+        return countAccessor.getInt(item);
+    }
+
+    @Benchmark
+    public int directGetter() {
+        return item.getCount();
+    }
+
+    public static class Item {
+
+        private int count;
+
+        private String name;
+
+        public Item(int count, String name) {
+            this.count = count;
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+}
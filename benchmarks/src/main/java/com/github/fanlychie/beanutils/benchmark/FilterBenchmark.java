@@ -0,0 +1,93 @@
+package com.github.fanlychie.beanutils.benchmark;
+
+import com.github.fanlychie.beanutils.BeanUtils;
+import com.github.fanlychie.beanutils.filter.BeanFilter;
+import com.github.fanlychie.beanutils.operator.FieldOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比按字段名称逐个取值(装箱)过滤与编译的过滤器的开销
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private List<Order> orders;
+
+    private FieldOperator fieldOperator;
+
+    private BeanFilter<Order> filter;
+
+    @Setup
+    public void setup() {
+        orders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            orders.add(new Order(i % 1000, i % 7 * 1.5, i % 3 == 0));
+        }
+        fieldOperator = BeanUtils.fieldOperate(Order.class);
+        filter = BeanUtils.filter(Order.class)
+                .where("amount").gt(100).and("rate").le(6.0).and("paid").eq(true);
+    }
+
+    @Benchmark
+    public List<Order> byFieldName() {
+        List<Order> list = new ArrayList<>();
+        for (Order order : orders) {
+            int amount = fieldOperator.<Integer>getValueByFieldName(order, "amount");
+            double rate = fieldOperator.<Double>getValueByFieldName(order, "rate");
+            boolean paid = fieldOperator.<Boolean>getValueByFieldName(order, "paid");
+            if (amount > 100 && rate <= 6.0 && paid) {
+                list.add(order);
+            }
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Order> compiled() {
+        return filter.filter(orders);
+    }
+
+    @Benchmark
+    public List<Order> compiledParallel() {
+        return filter.parallelFilter(orders);
+    }
+
+    public static class Order {
+
+        private int amount;
+
+        private double rate;
+
+        private boolean paid;
+
+        public Order(int amount, double rate, boolean paid) {
+            this.amount = amount;
+            this.rate = rate;
+            this.paid = paid;
+        }
+
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.github.fanlychie.beanutils.benchmark;
+
+import com.github.fanlychie.beanutils.BeanUtils;
+import com.github.fanlychie.beanutils.operator.InvocationResults;
+import com.github.fanlychie.beanutils.operator.MethodOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比逐个调用 invokeMethod 与批量调用 invokeAll 对 10000 个元素调用 setTenantId(x) 的开销
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvokeAllBenchmark {
+
+    private List<Tenant> tenants;
+
+    private MethodOperator methodOperator;
+
+    @Setup
+    public void setup() {
+        tenants = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            tenants.add(new Tenant());
+        }
+        methodOperator = BeanUtils.methodOperate(Tenant.class);
+    }
+
+    @Benchmark
+    public List<Tenant> invokeMethod() {
+        for (Tenant tenant : tenants) {
+            methodOperator.invokeMethod(tenant, "setTenantId", 42L);
+        }
+        return tenants;
+    }
+
+    @Benchmark
+    public Object[] invokeAll() {
+        return methodOperator.invokeAll(tenants, "setTenantId", 42L);
+    }
+
+    @Benchmark
+    public InvocationResults tryInvokeAll() {
+        return methodOperator.tryInvokeAll(tenants, "setTenantId", false, 42L);
+    }
+
+    public static class Tenant {
+
+        private long tenantId;
+
+        public void setTenantId(long tenantId) {
+            this.tenantId = tenantId;
+        }
+
+        public long getTenantId() {
+            return tenantId;
+        }
+
+    }
+
+}
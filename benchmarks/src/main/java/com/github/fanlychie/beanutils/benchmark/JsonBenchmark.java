@@ -0,0 +1,183 @@
+package com.github.fanlychie.beanutils.benchmark;
+
+import com.github.fanlychie.beanutils.BeanUtils;
+import com.github.fanlychie.beanutils.json.BeanJsonWriter;
+import com.github.fanlychie.beanutils.operator.FieldOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比先转为 Map 再通用序列化与按缓存的写出计划直接写出 JSON 的开销
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    private Order order;
+
+    private BeanJsonWriter<Order> writer;
+
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setup() {
+        List<Line> lines = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            lines.add(new Line("sku-" + i, i + 1, 9.5 * i));
+        }
+        order = new Order(1234567890123L, "beanutils \"order\"", 42, true, 1999.0, lines);
+        writer = BeanUtils.jsonWriter(Order.class);
+        out = new ByteArrayOutputStream(1024);
+    }
+
+    @Benchmark
+    public int toMapThenSerialize() throws IOException {
+        out.reset();
+        StringBuilder builder = new StringBuilder(256);
+        serialize(toMap(order), builder);
+        out.write(builder.toString().getBytes(StandardCharsets.UTF_8));
+        return out.size();
+    }
+
+    @Benchmark
+    public int jsonWriter() throws IOException {
+        out.reset();
+        writer.write(order, out);
+        return out.size();
+    }
+
+    /**
+     * 按字段名称逐个取值转为 Map, 嵌套的 Bean 递归转换
+     */
+    private static Map<String, Object> toMap(Object bean) {
+        FieldOperator fieldOperator = BeanUtils.fieldOperate(bean.getClass());
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Field field : fieldOperator.getFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            Object value = fieldOperator.getValueByFieldName(bean, field.getName());
+            if (value instanceof Collection) {
+                List<Object> list = new ArrayList<>();
+                for (Object element : (Collection<?>) value) {
+                    list.add(toMap(element));
+                }
+                value = list;
+            }
+            map.put(field.getName(), value);
+        }
+        return map;
+    }
+
+    /**
+     * 通用的 Map 序列化
+     */
+    private static void serialize(Object value, StringBuilder builder) {
+        if (value == null) {
+            builder.append("null");
+        } else if (value instanceof Map) {
+            builder.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                serialize(String.valueOf(entry.getKey()), builder);
+                builder.append(':');
+                serialize(entry.getValue(), builder);
+            }
+            builder.append('}');
+        } else if (value instanceof Collection) {
+            builder.append('[');
+            boolean first = true;
+            for (Object element : (Collection<?>) value) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                serialize(element, builder);
+            }
+            builder.append(']');
+        } else if (value instanceof String) {
+            builder.append('"');
+            String text = (String) value;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"' || c == '\\') {
+                    builder.append('\\');
+                }
+                builder.append(c);
+            }
+            builder.append('"');
+        } else {
+            builder.append(String.valueOf(value));
+        }
+    }
+
+    public static class Order {
+
+        private long id;
+
+        private String title;
+
+        private int quantity;
+
+        private boolean paid;
+
+        private double amount;
+
+        private List<Line> lines;
+
+        public Order(long id, String title, int quantity, boolean paid, double amount, List<Line> lines) {
+            this.id = id;
+            this.title = title;
+            this.quantity = quantity;
+            this.paid = paid;
+            this.amount = amount;
+            this.lines = lines;
+        }
+
+    }
+
+    public static class Line {
+
+        private String sku;
+
+        private int count;
+
+        private double price;
+
+        public Line(String sku, int count, double price) {
+            this.sku = sku;
+            this.count = count;
+            this.price = price;
+        }
+
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.github.fanlychie.beanutils.benchmark;
+
+import com.github.fanlychie.beanutils.BeanUtils;
+import com.github.fanlychie.beanutils.merge.BeanMerger;
+import com.github.fanlychie.beanutils.operator.FieldOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比逐个属性按名称读写的反射循环与合并计划将 PATCH DTO 的非 null 属性合并到实体的开销
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergeBenchmark {
+
+    private Customer patch;
+
+    private Customer entity;
+
+    private FieldOperator fieldOperator;
+
+    private BeanMerger<Customer, Customer> merger;
+
+    private BeanMerger<Customer, Customer> atomicMerger;
+
+    @Setup
+    public void setup() {
+        patch = new Customer();
+        patch.email = "fanlychie@example.com";
+        patch.level = 3;
+        entity = new Customer();
+        entity.name = "fanlychie";
+        entity.city = "Guangzhou";
+        fieldOperator = BeanUtils.fieldOperate(Customer.class);
+        merger = BeanUtils.merger(Customer.class, Customer.class);
+        atomicMerger = merger.atomic();
+    }
+
+    @Benchmark
+    public Customer reflectiveLoop() {
+        for (Field field : fieldOperator.getFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            Object value = fieldOperator.getValueByFieldName(patch, field.getName());
+            if (value != null && !(value instanceof Number && ((Number) value).longValue() == 0)) {
+                fieldOperator.setValueByFieldName(entity, field.getName(), value);
+            }
+        }
+        return entity;
+    }
+
+    @Benchmark
+    public Customer merger() {
+        return merger.merge(patch, entity);
+    }
+
+    @Benchmark
+    public Customer atomicMerger() {
+        return atomicMerger.merge(patch, entity);
+    }
+
+    public static class Customer {
+
+        private String name;
+
+        private String email;
+
+        private String phone;
+
+        private String city;
+
+        private String street;
+
+        private int level;
+
+        private long points;
+
+        private Boolean vip;
+
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.github.fanlychie.beanutils.benchmark;
+
+import com.github.fanlychie.beanutils.operator.FieldOperator;
+import com.github.fanlychie.beanutils.operator.MethodOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比宽类上立即解析与延迟解析的初始化开销: 创建操作实例并只访问其中 3 个成员.
+ * 固定使用反射后端, 以免每次创建操作实例时生成访问器类的开销掩盖元数据解析的开销
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dbeanutils.accessor=reflect")
+public class OperatorInitBenchmark {
+
+    @Param({"false", "true"})
+    public boolean lazy;
+
+    private WideEntities.WideLeaf leaf;
+
+    @Setup
+    public void setup() {
+        leaf = new WideEntities.WideLeaf();
+    }
+
+    @Benchmark
+    public Object fieldOperatorInit() {
+        FieldOperator fieldOperator = new FieldOperator(WideEntities.WideLeaf.class, true, true, Object.class, lazy).init();
+        fieldOperator.getValueByFieldName(leaf, "l1");
+        fieldOperator.getValueByFieldName(leaf, "m2");
+        return fieldOperator.getValueByFieldName(leaf, "b3");
+    }
+
+    @Benchmark
+    public Object methodOperatorInit() {
+        MethodOperator methodOperator = new MethodOperator(WideEntities.WideLeaf.class, true, true, Object.class, lazy).init();
+        methodOperator.invokeMethod(leaf, "getL1");
+        methodOperator.invokeMethod(leaf, "getM2");
+        return methodOperator.invokeMethod(leaf, "getB3");
+    }
+
+}
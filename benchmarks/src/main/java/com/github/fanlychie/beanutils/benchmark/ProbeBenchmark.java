@@ -0,0 +1,88 @@
+package com.github.fanlychie.beanutils.benchmark;
+
+import com.github.fanlychie.beanutils.BeanUtils;
+import com.github.fanlychie.beanutils.exception.FieldOperateException;
+import com.github.fanlychie.beanutils.exception.MethodOperateException;
+import com.github.fanlychie.beanutils.operator.FieldOperator;
+import com.github.fanlychie.beanutils.operator.MethodOperator;
+import com.github.fanlychie.beanutils.util.ExceptionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比查找不存在的成员时, 捕获异常与非抛出式探测接口的开销
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProbeBenchmark {
+
+    @Param({"false", "true"})
+    public String stackless;
+
+    private FieldAccessBenchmark.Item item;
+
+    private FieldOperator fieldOperator;
+
+    private MethodOperator methodOperator;
+
+    @Setup
+    public void setup() {
+        // 必须在 ExceptionUtils 初始化之前指定
+        System.setProperty(ExceptionUtils.STACKLESS_PROPERTY, stackless);
+        if (ExceptionUtils.isStackless() != Boolean.parseBoolean(stackless)) {
+            throw new IllegalStateException("stackless property was read too early");
+        }
+        item = new FieldAccessBenchmark.Item(42, "beanutils");
+        fieldOperator = BeanUtils.fieldOperate(FieldAccessBenchmark.Item.class);
+        methodOperator = BeanUtils.methodOperate(FieldAccessBenchmark.Item.class);
+    }
+
+    @Benchmark
+    public Object fieldHit() {
+        return fieldOperator.getValueByFieldName(item, "name");
+    }
+
+    @Benchmark
+    public Object fieldMissCatch() {
+        try {
+            return fieldOperator.getValueByFieldName(item, "missing");
+        } catch (FieldOperateException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Object fieldMissTry() {
+        return fieldOperator.tryGetValue(item, "missing", null);
+    }
+
+    @Benchmark
+    public Object methodMissCatch() {
+        try {
+            return methodOperator.invokeMethod(item, "missing", 1);
+        } catch (MethodOperateException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Object methodMissTry() {
+        return methodOperator.tryInvoke(item, "missing", 1);
+    }
+
+}
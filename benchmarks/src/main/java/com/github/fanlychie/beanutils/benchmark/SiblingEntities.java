@@ -0,0 +1,3665 @@
+package com.github.fanlychie.beanutils.benchmark;
+
+/**
+ * 300 个继承同一 BaseEntity 的兄弟实体类, BaseEntity 声明 60 个属性及其 getter/setter
+ */
+public class SiblingEntities {
+
+    public static final Class<?>[] SIBLINGS = {
+            Entity0.class, Entity1.class, Entity2.class, Entity3.class, Entity4.class, Entity5.class,
+            Entity6.class, Entity7.class, Entity8.class, Entity9.class, Entity10.class, Entity11.class,
+            Entity12.class, Entity13.class, Entity14.class, Entity15.class, Entity16.class, Entity17.class,
+            Entity18.class, Entity19.class, Entity20.class, Entity21.class, Entity22.class, Entity23.class,
+            Entity24.class, Entity25.class, Entity26.class, Entity27.class, Entity28.class, Entity29.class,
+            Entity30.class, Entity31.class, Entity32.class, Entity33.class, Entity34.class, Entity35.class,
+            Entity36.class, Entity37.class, Entity38.class, Entity39.class, Entity40.class, Entity41.class,
+            Entity42.class, Entity43.class, Entity44.class, Entity45.class, Entity46.class, Entity47.class,
+            Entity48.class, Entity49.class, Entity50.class, Entity51.class, Entity52.class, Entity53.class,
+            Entity54.class, Entity55.class, Entity56.class, Entity57.class, Entity58.class, Entity59.class,
+            Entity60.class, Entity61.class, Entity62.class, Entity63.class, Entity64.class, Entity65.class,
+            Entity66.class, Entity67.class, Entity68.class, Entity69.class, Entity70.class, Entity71.class,
+            Entity72.class, Entity73.class, Entity74.class, Entity75.class, Entity76.class, Entity77.class,
+            Entity78.class, Entity79.class, Entity80.class, Entity81.class, Entity82.class, Entity83.class,
+            Entity84.class, Entity85.class, Entity86.class, Entity87.class, Entity88.class, Entity89.class,
+            Entity90.class, Entity91.class, Entity92.class, Entity93.class, Entity94.class, Entity95.class,
+            Entity96.class, Entity97.class, Entity98.class, Entity99.class, Entity100.class, Entity101.class,
+            Entity102.class, Entity103.class, Entity104.class, Entity105.class, Entity106.class, Entity107.class,
+            Entity108.class, Entity109.class, Entity110.class, Entity111.class, Entity112.class, Entity113.class,
+            Entity114.class, Entity115.class, Entity116.class, Entity117.class, Entity118.class, Entity119.class,
+            Entity120.class, Entity121.class, Entity122.class, Entity123.class, Entity124.class, Entity125.class,
+            Entity126.class, Entity127.class, Entity128.class, Entity129.class, Entity130.class, Entity131.class,
+            Entity132.class, Entity133.class, Entity134.class, Entity135.class, Entity136.class, Entity137.class,
+            Entity138.class, Entity139.class, Entity140.class, Entity141.class, Entity142.class, Entity143.class,
+            Entity144.class, Entity145.class, Entity146.class, Entity147.class, Entity148.class, Entity149.class,
+            Entity150.class, Entity151.class, Entity152.class, Entity153.class, Entity154.class, Entity155.class,
+            Entity156.class, Entity157.class, Entity158.class, Entity159.class, Entity160.class, Entity161.class,
+            Entity162.class, Entity163.class, Entity164.class, Entity165.class, Entity166.class, Entity167.class,
+            Entity168.class, Entity169.class, Entity170.class, Entity171.class, Entity172.class, Entity173.class,
+            Entity174.class, Entity175.class, Entity176.class, Entity177.class, Entity178.class, Entity179.class,
+            Entity180.class, Entity181.class, Entity182.class, Entity183.class, Entity184.class, Entity185.class,
+            Entity186.class, Entity187.class, Entity188.class, Entity189.class, Entity190.class, Entity191.class,
+            Entity192.class, Entity193.class, Entity194.class, Entity195.class, Entity196.class, Entity197.class,
+            Entity198.class, Entity199.class, Entity200.class, Entity201.class, Entity202.class, Entity203.class,
+            Entity204.class, Entity205.class, Entity206.class, Entity207.class, Entity208.class, Entity209.class,
+            Entity210.class, Entity211.class, Entity212.class, Entity213.class, Entity214.class, Entity215.class,
+            Entity216.class, Entity217.class, Entity218.class, Entity219.class, Entity220.class, Entity221.class,
+            Entity222.class, Entity223.class, Entity224.class, Entity225.class, Entity226.class, Entity227.class,
+            Entity228.class, Entity229.class, Entity230.class, Entity231.class, Entity232.class, Entity233.class,
+            Entity234.class, Entity235.class, Entity236.class, Entity237.class, Entity238.class, Entity239.class,
+            Entity240.class, Entity241.class, Entity242.class, Entity243.class, Entity244.class, Entity245.class,
+            Entity246.class, Entity247.class, Entity248.class, Entity249.class, Entity250.class, Entity251.class,
+            Entity252.class, Entity253.class, Entity254.class, Entity255.class, Entity256.class, Entity257.class,
+            Entity258.class, Entity259.class, Entity260.class, Entity261.class, Entity262.class, Entity263.class,
+            Entity264.class, Entity265.class, Entity266.class, Entity267.class, Entity268.class, Entity269.class,
+            Entity270.class, Entity271.class, Entity272.class, Entity273.class, Entity274.class, Entity275.class,
+            Entity276.class, Entity277.class, Entity278.class, Entity279.class, Entity280.class, Entity281.class,
+            Entity282.class, Entity283.class, Entity284.class, Entity285.class, Entity286.class, Entity287.class,
+            Entity288.class, Entity289.class, Entity290.class, Entity291.class, Entity292.class, Entity293.class,
+            Entity294.class, Entity295.class, Entity296.class, Entity297.class, Entity298.class, Entity299.class
+    };
+
+    public static class BaseEntity {
+
+        private long base0;
+
+        private long base1;
+
+        private long base2;
+
+        private long base3;
+
+        private long base4;
+
+        private long base5;
+
+        private long base6;
+
+        private long base7;
+
+        private long base8;
+
+        private long base9;
+
+        private long base10;
+
+        private long base11;
+
+        private long base12;
+
+        private long base13;
+
+        private long base14;
+
+        private long base15;
+
+        private long base16;
+
+        private long base17;
+
+        private long base18;
+
+        private long base19;
+
+        private long base20;
+
+        private long base21;
+
+        private long base22;
+
+        private long base23;
+
+        private long base24;
+
+        private long base25;
+
+        private long base26;
+
+        private long base27;
+
+        private long base28;
+
+        private long base29;
+
+        private long base30;
+
+        private long base31;
+
+        private long base32;
+
+        private long base33;
+
+        private long base34;
+
+        private long base35;
+
+        private long base36;
+
+        private long base37;
+
+        private long base38;
+
+        private long base39;
+
+        private long base40;
+
+        private long base41;
+
+        private long base42;
+
+        private long base43;
+
+        private long base44;
+
+        private long base45;
+
+        private long base46;
+
+        private long base47;
+
+        private long base48;
+
+        private long base49;
+
+        private long base50;
+
+        private long base51;
+
+        private long base52;
+
+        private long base53;
+
+        private long base54;
+
+        private long base55;
+
+        private long base56;
+
+        private long base57;
+
+        private long base58;
+
+        private long base59;
+
+        public long getBase0() {
+            return base0;
+        }
+
+        public void setBase0(long base0) {
+            this.base0 = base0;
+        }
+
+        public long getBase1() {
+            return base1;
+        }
+
+        public void setBase1(long base1) {
+            this.base1 = base1;
+        }
+
+        public long getBase2() {
+            return base2;
+        }
+
+        public void setBase2(long base2) {
+            this.base2 = base2;
+        }
+
+        public long getBase3() {
+            return base3;
+        }
+
+        public void setBase3(long base3) {
+            this.base3 = base3;
+        }
+
+        public long getBase4() {
+            return base4;
+        }
+
+        public void setBase4(long base4) {
+            this.base4 = base4;
+        }
+
+        public long getBase5() {
+            return base5;
+        }
+
+        public void setBase5(long base5) {
+            this.base5 = base5;
+        }
+
+        public long getBase6() {
+            return base6;
+        }
+
+        public void setBase6(long base6) {
+            this.base6 = base6;
+        }
+
+        public long getBase7() {
+            return base7;
+        }
+
+        public void setBase7(long base7) {
+            this.base7 = base7;
+        }
+
+        public long getBase8() {
+            return base8;
+        }
+
+        public void setBase8(long base8) {
+            this.base8 = base8;
+        }
+
+        public long getBase9() {
+            return base9;
+        }
+
+        public void setBase9(long base9) {
+            this.base9 = base9;
+        }
+
+        public long getBase10() {
+            return base10;
+        }
+
+        public void setBase10(long base10) {
+            this.base10 = base10;
+        }
+
+        public long getBase11() {
+            return base11;
+        }
+
+        public void setBase11(long base11) {
+            this.base11 = base11;
+        }
+
+        public long getBase12() {
+            return base12;
+        }
+
+        public void setBase12(long base12) {
+            this.base12 = base12;
+        }
+
+        public long getBase13() {
+            return base13;
+        }
+
+        public void setBase13(long base13) {
+            this.base13 = base13;
+        }
+
+        public long getBase14() {
+            return base14;
+        }
+
+        public void setBase14(long base14) {
+            this.base14 = base14;
+        }
+
+        public long getBase15() {
+            return base15;
+        }
+
+        public void setBase15(long base15) {
+            this.base15 = base15;
+        }
+
+        public long getBase16() {
+            return base16;
+        }
+
+        public void setBase16(long base16) {
+            this.base16 = base16;
+        }
+
+        public long getBase17() {
+            return base17;
+        }
+
+        public void setBase17(long base17) {
+            this.base17 = base17;
+        }
+
+        public long getBase18() {
+            return base18;
+        }
+
+        public void setBase18(long base18) {
+            this.base18 = base18;
+        }
+
+        public long getBase19() {
+            return base19;
+        }
+
+        public void setBase19(long base19) {
+            this.base19 = base19;
+        }
+
+        public long getBase20() {
+            return base20;
+        }
+
+        public void setBase20(long base20) {
+            this.base20 = base20;
+        }
+
+        public long getBase21() {
+            return base21;
+        }
+
+        public void setBase21(long base21) {
+            this.base21 = base21;
+        }
+
+        public long getBase22() {
+            return base22;
+        }
+
+        public void setBase22(long base22) {
+            this.base22 = base22;
+        }
+
+        public long getBase23() {
+            return base23;
+        }
+
+        public void setBase23(long base23) {
+            this.base23 = base23;
+        }
+
+        public long getBase24() {
+            return base24;
+        }
+
+        public void setBase24(long base24) {
+            this.base24 = base24;
+        }
+
+        public long getBase25() {
+            return base25;
+        }
+
+        public void setBase25(long base25) {
+            this.base25 = base25;
+        }
+
+        public long getBase26() {
+            return base26;
+        }
+
+        public void setBase26(long base26) {
+            this.base26 = base26;
+        }
+
+        public long getBase27() {
+            return base27;
+        }
+
+        public void setBase27(long base27) {
+            this.base27 = base27;
+        }
+
+        public long getBase28() {
+            return base28;
+        }
+
+        public void setBase28(long base28) {
+            this.base28 = base28;
+        }
+
+        public long getBase29() {
+            return base29;
+        }
+
+        public void setBase29(long base29) {
+            this.base29 = base29;
+        }
+
+        public long getBase30() {
+            return base30;
+        }
+
+        public void setBase30(long base30) {
+            this.base30 = base30;
+        }
+
+        public long getBase31() {
+            return base31;
+        }
+
+        public void setBase31(long base31) {
+            this.base31 = base31;
+        }
+
+        public long getBase32() {
+            return base32;
+        }
+
+        public void setBase32(long base32) {
+            this.base32 = base32;
+        }
+
+        public long getBase33() {
+            return base33;
+        }
+
+        public void setBase33(long base33) {
+            this.base33 = base33;
+        }
+
+        public long getBase34() {
+            return base34;
+        }
+
+        public void setBase34(long base34) {
+            this.base34 = base34;
+        }
+
+        public long getBase35() {
+            return base35;
+        }
+
+        public void setBase35(long base35) {
+            this.base35 = base35;
+        }
+
+        public long getBase36() {
+            return base36;
+        }
+
+        public void setBase36(long base36) {
+            this.base36 = base36;
+        }
+
+        public long getBase37() {
+            return base37;
+        }
+
+        public void setBase37(long base37) {
+            this.base37 = base37;
+        }
+
+        public long getBase38() {
+            return base38;
+        }
+
+        public void setBase38(long base38) {
+            this.base38 = base38;
+        }
+
+        public long getBase39() {
+            return base39;
+        }
+
+        public void setBase39(long base39) {
+            this.base39 = base39;
+        }
+
+        public long getBase40() {
+            return base40;
+        }
+
+        public void setBase40(long base40) {
+            this.base40 = base40;
+        }
+
+        public long getBase41() {
+            return base41;
+        }
+
+        public void setBase41(long base41) {
+            this.base41 = base41;
+        }
+
+        public long getBase42() {
+            return base42;
+        }
+
+        public void setBase42(long base42) {
+            this.base42 = base42;
+        }
+
+        public long getBase43() {
+            return base43;
+        }
+
+        public void setBase43(long base43) {
+            this.base43 = base43;
+        }
+
+        public long getBase44() {
+            return base44;
+        }
+
+        public void setBase44(long base44) {
+            this.base44 = base44;
+        }
+
+        public long getBase45() {
+            return base45;
+        }
+
+        public void setBase45(long base45) {
+            this.base45 = base45;
+        }
+
+        public long getBase46() {
+            return base46;
+        }
+
+        public void setBase46(long base46) {
+            this.base46 = base46;
+        }
+
+        public long getBase47() {
+            return base47;
+        }
+
+        public void setBase47(long base47) {
+            this.base47 = base47;
+        }
+
+        public long getBase48() {
+            return base48;
+        }
+
+        public void setBase48(long base48) {
+            this.base48 = base48;
+        }
+
+        public long getBase49() {
+            return base49;
+        }
+
+        public void setBase49(long base49) {
+            this.base49 = base49;
+        }
+
+        public long getBase50() {
+            return base50;
+        }
+
+        public void setBase50(long base50) {
+            this.base50 = base50;
+        }
+
+        public long getBase51() {
+            return base51;
+        }
+
+        public void setBase51(long base51) {
+            this.base51 = base51;
+        }
+
+        public long getBase52() {
+            return base52;
+        }
+
+        public void setBase52(long base52) {
+            this.base52 = base52;
+        }
+
+        public long getBase53() {
+            return base53;
+        }
+
+        public void setBase53(long base53) {
+            this.base53 = base53;
+        }
+
+        public long getBase54() {
+            return base54;
+        }
+
+        public void setBase54(long base54) {
+            this.base54 = base54;
+        }
+
+        public long getBase55() {
+            return base55;
+        }
+
+        public void setBase55(long base55) {
+            this.base55 = base55;
+        }
+
+        public long getBase56() {
+            return base56;
+        }
+
+        public void setBase56(long base56) {
+            this.base56 = base56;
+        }
+
+        public long getBase57() {
+            return base57;
+        }
+
+        public void setBase57(long base57) {
+            this.base57 = base57;
+        }
+
+        public long getBase58() {
+            return base58;
+        }
+
+        public void setBase58(long base58) {
+            this.base58 = base58;
+        }
+
+        public long getBase59() {
+            return base59;
+        }
+
+        public void setBase59(long base59) {
+            this.base59 = base59;
+        }
+
+    }
+
+    public static class Entity0 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity1 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity2 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity3 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity4 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity5 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity6 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity7 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity8 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity9 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity10 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity11 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity12 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity13 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity14 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity15 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity16 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity17 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity18 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity19 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity20 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity21 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity22 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity23 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity24 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity25 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity26 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity27 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity28 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity29 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity30 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity31 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity32 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity33 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity34 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity35 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity36 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity37 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity38 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity39 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity40 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity41 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity42 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity43 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity44 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity45 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity46 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity47 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity48 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity49 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity50 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity51 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity52 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity53 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity54 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity55 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity56 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity57 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity58 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity59 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity60 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity61 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity62 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity63 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity64 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity65 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity66 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity67 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity68 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity69 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity70 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity71 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity72 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity73 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity74 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity75 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity76 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity77 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity78 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity79 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity80 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity81 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity82 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity83 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity84 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity85 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity86 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity87 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity88 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity89 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity90 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity91 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity92 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity93 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity94 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity95 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity96 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity97 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity98 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity99 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity100 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity101 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity102 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity103 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity104 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity105 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity106 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity107 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity108 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity109 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity110 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity111 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity112 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity113 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity114 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity115 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity116 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity117 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity118 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity119 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity120 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity121 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity122 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity123 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity124 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity125 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity126 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity127 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity128 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity129 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity130 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity131 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity132 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity133 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity134 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity135 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity136 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity137 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity138 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity139 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity140 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity141 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity142 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity143 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity144 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity145 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity146 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity147 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity148 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity149 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity150 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity151 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity152 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity153 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity154 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity155 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity156 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity157 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity158 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity159 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity160 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity161 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity162 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity163 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity164 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity165 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity166 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity167 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity168 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity169 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity170 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity171 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity172 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity173 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity174 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity175 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity176 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity177 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity178 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity179 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity180 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity181 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity182 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity183 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity184 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity185 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity186 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity187 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity188 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity189 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity190 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity191 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity192 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity193 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity194 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity195 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity196 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity197 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity198 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity199 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity200 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity201 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity202 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity203 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity204 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity205 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity206 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity207 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity208 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity209 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity210 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity211 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity212 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity213 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity214 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity215 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity216 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity217 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity218 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity219 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity220 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity221 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity222 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity223 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity224 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity225 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity226 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity227 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity228 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity229 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity230 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity231 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity232 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity233 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity234 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity235 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity236 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity237 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity238 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity239 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity240 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity241 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity242 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity243 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity244 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity245 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity246 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity247 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity248 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity249 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity250 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity251 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity252 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity253 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity254 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity255 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity256 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity257 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity258 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity259 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity260 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity261 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity262 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity263 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity264 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity265 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity266 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity267 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity268 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity269 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity270 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity271 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity272 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity273 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity274 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity275 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity276 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity277 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity278 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity279 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity280 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity281 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity282 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity283 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity284 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity285 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity286 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity287 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity288 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity289 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity290 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity291 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity292 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity293 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity294 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity295 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity296 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity297 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity298 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+    public static class Entity299 extends BaseEntity {
+
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.github.fanlychie.beanutils.benchmark;
+
+import com.github.fanlychie.beanutils.operator.FieldOperator;
+import com.github.fanlychie.beanutils.operator.MethodOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 在全新的 JVM 中为 300 个兄弟实体类初始化 FieldOperator 和 MethodOperator 的耗时.
+ * 运行 main 方法可输出这些操作实例的堆内存占用报告
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 10, jvmArgsAppend = "-Dbeanutils.accessor=reflect")
+public class SiblingInitBenchmark {
+
+    @Benchmark
+    public Object initSiblings() {
+        return initOperators();
+    }
+
+    /**
+     * 为全部兄弟实体类初始化操作实例
+     *
+     * @return 返回操作实例
+     */
+    private static List<Object> initOperators() {
+        List<Object> operators = new ArrayList<>();
+        for (Class<?> sibling : SiblingEntities.SIBLINGS) {
+            operators.add(new FieldOperator(sibling, true, true, Object.class).init());
+            operators.add(new MethodOperator(sibling, true, true, Object.class).init());
+        }
+        return operators;
+    }
+
+    /**
+     * 输出堆内存占用报告
+     */
+    public static void main(String[] args) throws Exception {
+        // 预先装载类, 排除类元数据的影响
+        for (Class<?> sibling : SiblingEntities.SIBLINGS) {
+            sibling.getDeclaredFields();
+            sibling.getDeclaredMethods();
+        }
+        long before = usedHeap();
+        List<Object> operators = initOperators();
+        long after = usedHeap();
+        System.out.println("operators: " + operators.size() + ", retained bytes: " + (after - before)
+                + ", per sibling class: " + (after - before) / SiblingEntities.SIBLINGS.length);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.github.fanlychie.beanutils.benchmark;
+
+import com.github.fanlychie.beanutils.BeanUtils;
+import com.github.fanlychie.beanutils.operator.FieldOperator;
+import com.github.fanlychie.beanutils.sort.BeanComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比按字段名称取值(装箱)的比较器、访问器比较器及排序键提取模式按 "region, -score, id" 排序的开销
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private List<Score> source;
+
+    private List<Score> list;
+
+    private Comparator<Score> byFieldName;
+
+    private BeanComparator<Score> comparator;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        source = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            source.add(new Score("region" + random.nextInt(20), random.nextInt(1000), i));
+        }
+        final FieldOperator fieldOperator = BeanUtils.fieldOperate(Score.class);
+        byFieldName = new Comparator<Score>() {
+            @Override
+            public int compare(Score o1, Score o2) {
+                int result = fieldOperator.<String>getValueByFieldName(o1, "region")
+                        .compareTo(fieldOperator.<String>getValueByFieldName(o2, "region"));
+                if (result == 0) {
+                    result = fieldOperator.<Integer>getValueByFieldName(o2, "score")
+                            .compareTo(fieldOperator.<Integer>getValueByFieldName(o1, "score"));
+                }
+                if (result == 0) {
+                    result = fieldOperator.<Long>getValueByFieldName(o1, "id")
+                            .compareTo(fieldOperator.<Long>getValueByFieldName(o2, "id"));
+                }
+                return result;
+            }
+        };
+        comparator = BeanUtils.comparator(Score.class, "region", "-score", "id");
+    }
+
+    @Setup(Level.Invocation)
+    public void shuffle() {
+        list = new ArrayList<>(source);
+    }
+
+    @Benchmark
+    public List<Score> fieldNameComparator() {
+        Collections.sort(list, byFieldName);
+        return list;
+    }
+
+    @Benchmark
+    public List<Score> accessorComparator() {
+        Collections.sort(list, comparator);
+        return list;
+    }
+
+    @Benchmark
+    public List<Score> keyExtraction() {
+        comparator.sort(list);
+        return list;
+    }
+
+    public static class Score {
+
+        private String region;
+
+        private int score;
+
+        private long id;
+
+        public Score(String region, int score, long id) {
+            this.region = region;
+            this.score = score;
+            this.id = id;
+        }
+
+    }
+
+}
@@ -0,0 +1,3021 @@
+package com.github.fanlychie.beanutils.benchmark;
+
+/**
+ * 宽类层次结构, 每层声明 100 个属性及其 getter/setter, 模拟生成的 JPA 实体
+ */
+public class WideEntities {
+
+
+    public static class WideBase {
+
+        private int b0;
+
+        private int b1;
+
+        private int b2;
+
+        private int b3;
+
+        private int b4;
+
+        private int b5;
+
+        private int b6;
+
+        private int b7;
+
+        private int b8;
+
+        private int b9;
+
+        private int b10;
+
+        private int b11;
+
+        private int b12;
+
+        private int b13;
+
+        private int b14;
+
+        private int b15;
+
+        private int b16;
+
+        private int b17;
+
+        private int b18;
+
+        private int b19;
+
+        private int b20;
+
+        private int b21;
+
+        private int b22;
+
+        private int b23;
+
+        private int b24;
+
+        private int b25;
+
+        private int b26;
+
+        private int b27;
+
+        private int b28;
+
+        private int b29;
+
+        private int b30;
+
+        private int b31;
+
+        private int b32;
+
+        private int b33;
+
+        private int b34;
+
+        private int b35;
+
+        private int b36;
+
+        private int b37;
+
+        private int b38;
+
+        private int b39;
+
+        private int b40;
+
+        private int b41;
+
+        private int b42;
+
+        private int b43;
+
+        private int b44;
+
+        private int b45;
+
+        private int b46;
+
+        private int b47;
+
+        private int b48;
+
+        private int b49;
+
+        private int b50;
+
+        private int b51;
+
+        private int b52;
+
+        private int b53;
+
+        private int b54;
+
+        private int b55;
+
+        private int b56;
+
+        private int b57;
+
+        private int b58;
+
+        private int b59;
+
+        private int b60;
+
+        private int b61;
+
+        private int b62;
+
+        private int b63;
+
+        private int b64;
+
+        private int b65;
+
+        private int b66;
+
+        private int b67;
+
+        private int b68;
+
+        private int b69;
+
+        private int b70;
+
+        private int b71;
+
+        private int b72;
+
+        private int b73;
+
+        private int b74;
+
+        private int b75;
+
+        private int b76;
+
+        private int b77;
+
+        private int b78;
+
+        private int b79;
+
+        private int b80;
+
+        private int b81;
+
+        private int b82;
+
+        private int b83;
+
+        private int b84;
+
+        private int b85;
+
+        private int b86;
+
+        private int b87;
+
+        private int b88;
+
+        private int b89;
+
+        private int b90;
+
+        private int b91;
+
+        private int b92;
+
+        private int b93;
+
+        private int b94;
+
+        private int b95;
+
+        private int b96;
+
+        private int b97;
+
+        private int b98;
+
+        private int b99;
+
+        public int getB0() {
+            return b0;
+        }
+
+        public void setB0(int b0) {
+            this.b0 = b0;
+        }
+
+        public int getB1() {
+            return b1;
+        }
+
+        public void setB1(int b1) {
+            this.b1 = b1;
+        }
+
+        public int getB2() {
+            return b2;
+        }
+
+        public void setB2(int b2) {
+            this.b2 = b2;
+        }
+
+        public int getB3() {
+            return b3;
+        }
+
+        public void setB3(int b3) {
+            this.b3 = b3;
+        }
+
+        public int getB4() {
+            return b4;
+        }
+
+        public void setB4(int b4) {
+            this.b4 = b4;
+        }
+
+        public int getB5() {
+            return b5;
+        }
+
+        public void setB5(int b5) {
+            this.b5 = b5;
+        }
+
+        public int getB6() {
+            return b6;
+        }
+
+        public void setB6(int b6) {
+            this.b6 = b6;
+        }
+
+        public int getB7() {
+            return b7;
+        }
+
+        public void setB7(int b7) {
+            this.b7 = b7;
+        }
+
+        public int getB8() {
+            return b8;
+        }
+
+        public void setB8(int b8) {
+            this.b8 = b8;
+        }
+
+        public int getB9() {
+            return b9;
+        }
+
+        public void setB9(int b9) {
+            this.b9 = b9;
+        }
+
+        public int getB10() {
+            return b10;
+        }
+
+        public void setB10(int b10) {
+            this.b10 = b10;
+        }
+
+        public int getB11() {
+            return b11;
+        }
+
+        public void setB11(int b11) {
+            this.b11 = b11;
+        }
+
+        public int getB12() {
+            return b12;
+        }
+
+        public void setB12(int b12) {
+            this.b12 = b12;
+        }
+
+        public int getB13() {
+            return b13;
+        }
+
+        public void setB13(int b13) {
+            this.b13 = b13;
+        }
+
+        public int getB14() {
+            return b14;
+        }
+
+        public void setB14(int b14) {
+            this.b14 = b14;
+        }
+
+        public int getB15() {
+            return b15;
+        }
+
+        public void setB15(int b15) {
+            this.b15 = b15;
+        }
+
+        public int getB16() {
+            return b16;
+        }
+
+        public void setB16(int b16) {
+            this.b16 = b16;
+        }
+
+        public int getB17() {
+            return b17;
+        }
+
+        public void setB17(int b17) {
+            this.b17 = b17;
+        }
+
+        public int getB18() {
+            return b18;
+        }
+
+        public void setB18(int b18) {
+            this.b18 = b18;
+        }
+
+        public int getB19() {
+            return b19;
+        }
+
+        public void setB19(int b19) {
+            this.b19 = b19;
+        }
+
+        public int getB20() {
+            return b20;
+        }
+
+        public void setB20(int b20) {
+            this.b20 = b20;
+        }
+
+        public int getB21() {
+            return b21;
+        }
+
+        public void setB21(int b21) {
+            this.b21 = b21;
+        }
+
+        public int getB22() {
+            return b22;
+        }
+
+        public void setB22(int b22) {
+            this.b22 = b22;
+        }
+
+        public int getB23() {
+            return b23;
+        }
+
+        public void setB23(int b23) {
+            this.b23 = b23;
+        }
+
+        public int getB24() {
+            return b24;
+        }
+
+        public void setB24(int b24) {
+            this.b24 = b24;
+        }
+
+        public int getB25() {
+            return b25;
+        }
+
+        public void setB25(int b25) {
+            this.b25 = b25;
+        }
+
+        public int getB26() {
+            return b26;
+        }
+
+        public void setB26(int b26) {
+            this.b26 = b26;
+        }
+
+        public int getB27() {
+            return b27;
+        }
+
+        public void setB27(int b27) {
+            this.b27 = b27;
+        }
+
+        public int getB28() {
+            return b28;
+        }
+
+        public void setB28(int b28) {
+            this.b28 = b28;
+        }
+
+        public int getB29() {
+            return b29;
+        }
+
+        public void setB29(int b29) {
+            this.b29 = b29;
+        }
+
+        public int getB30() {
+            return b30;
+        }
+
+        public void setB30(int b30) {
+            this.b30 = b30;
+        }
+
+        public int getB31() {
+            return b31;
+        }
+
+        public void setB31(int b31) {
+            this.b31 = b31;
+        }
+
+        public int getB32() {
+            return b32;
+        }
+
+        public void setB32(int b32) {
+            this.b32 = b32;
+        }
+
+        public int getB33() {
+            return b33;
+        }
+
+        public void setB33(int b33) {
+            this.b33 = b33;
+        }
+
+        public int getB34() {
+            return b34;
+        }
+
+        public void setB34(int b34) {
+            this.b34 = b34;
+        }
+
+        public int getB35() {
+            return b35;
+        }
+
+        public void setB35(int b35) {
+            this.b35 = b35;
+        }
+
+        public int getB36() {
+            return b36;
+        }
+
+        public void setB36(int b36) {
+            this.b36 = b36;
+        }
+
+        public int getB37() {
+            return b37;
+        }
+
+        public void setB37(int b37) {
+            this.b37 = b37;
+        }
+
+        public int getB38() {
+            return b38;
+        }
+
+        public void setB38(int b38) {
+            this.b38 = b38;
+        }
+
+        public int getB39() {
+            return b39;
+        }
+
+        public void setB39(int b39) {
+            this.b39 = b39;
+        }
+
+        public int getB40() {
+            return b40;
+        }
+
+        public void setB40(int b40) {
+            this.b40 = b40;
+        }
+
+        public int getB41() {
+            return b41;
+        }
+
+        public void setB41(int b41) {
+            this.b41 = b41;
+        }
+
+        public int getB42() {
+            return b42;
+        }
+
+        public void setB42(int b42) {
+            this.b42 = b42;
+        }
+
+        public int getB43() {
+            return b43;
+        }
+
+        public void setB43(int b43) {
+            this.b43 = b43;
+        }
+
+        public int getB44() {
+            return b44;
+        }
+
+        public void setB44(int b44) {
+            this.b44 = b44;
+        }
+
+        public int getB45() {
+            return b45;
+        }
+
+        public void setB45(int b45) {
+            this.b45 = b45;
+        }
+
+        public int getB46() {
+            return b46;
+        }
+
+        public void setB46(int b46) {
+            this.b46 = b46;
+        }
+
+        public int getB47() {
+            return b47;
+        }
+
+        public void setB47(int b47) {
+            this.b47 = b47;
+        }
+
+        public int getB48() {
+            return b48;
+        }
+
+        public void setB48(int b48) {
+            this.b48 = b48;
+        }
+
+        public int getB49() {
+            return b49;
+        }
+
+        public void setB49(int b49) {
+            this.b49 = b49;
+        }
+
+        public int getB50() {
+            return b50;
+        }
+
+        public void setB50(int b50) {
+            this.b50 = b50;
+        }
+
+        public int getB51() {
+            return b51;
+        }
+
+        public void setB51(int b51) {
+            this.b51 = b51;
+        }
+
+        public int getB52() {
+            return b52;
+        }
+
+        public void setB52(int b52) {
+            this.b52 = b52;
+        }
+
+        public int getB53() {
+            return b53;
+        }
+
+        public void setB53(int b53) {
+            this.b53 = b53;
+        }
+
+        public int getB54() {
+            return b54;
+        }
+
+        public void setB54(int b54) {
+            this.b54 = b54;
+        }
+
+        public int getB55() {
+            return b55;
+        }
+
+        public void setB55(int b55) {
+            this.b55 = b55;
+        }
+
+        public int getB56() {
+            return b56;
+        }
+
+        public void setB56(int b56) {
+            this.b56 = b56;
+        }
+
+        public int getB57() {
+            return b57;
+        }
+
+        public void setB57(int b57) {
+            this.b57 = b57;
+        }
+
+        public int getB58() {
+            return b58;
+        }
+
+        public void setB58(int b58) {
+            this.b58 = b58;
+        }
+
+        public int getB59() {
+            return b59;
+        }
+
+        public void setB59(int b59) {
+            this.b59 = b59;
+        }
+
+        public int getB60() {
+            return b60;
+        }
+
+        public void setB60(int b60) {
+            this.b60 = b60;
+        }
+
+        public int getB61() {
+            return b61;
+        }
+
+        public void setB61(int b61) {
+            this.b61 = b61;
+        }
+
+        public int getB62() {
+            return b62;
+        }
+
+        public void setB62(int b62) {
+            this.b62 = b62;
+        }
+
+        public int getB63() {
+            return b63;
+        }
+
+        public void setB63(int b63) {
+            this.b63 = b63;
+        }
+
+        public int getB64() {
+            return b64;
+        }
+
+        public void setB64(int b64) {
+            this.b64 = b64;
+        }
+
+        public int getB65() {
+            return b65;
+        }
+
+        public void setB65(int b65) {
+            this.b65 = b65;
+        }
+
+        public int getB66() {
+            return b66;
+        }
+
+        public void setB66(int b66) {
+            this.b66 = b66;
+        }
+
+        public int getB67() {
+            return b67;
+        }
+
+        public void setB67(int b67) {
+            this.b67 = b67;
+        }
+
+        public int getB68() {
+            return b68;
+        }
+
+        public void setB68(int b68) {
+            this.b68 = b68;
+        }
+
+        public int getB69() {
+            return b69;
+        }
+
+        public void setB69(int b69) {
+            this.b69 = b69;
+        }
+
+        public int getB70() {
+            return b70;
+        }
+
+        public void setB70(int b70) {
+            this.b70 = b70;
+        }
+
+        public int getB71() {
+            return b71;
+        }
+
+        public void setB71(int b71) {
+            this.b71 = b71;
+        }
+
+        public int getB72() {
+            return b72;
+        }
+
+        public void setB72(int b72) {
+            this.b72 = b72;
+        }
+
+        public int getB73() {
+            return b73;
+        }
+
+        public void setB73(int b73) {
+            this.b73 = b73;
+        }
+
+        public int getB74() {
+            return b74;
+        }
+
+        public void setB74(int b74) {
+            this.b74 = b74;
+        }
+
+        public int getB75() {
+            return b75;
+        }
+
+        public void setB75(int b75) {
+            this.b75 = b75;
+        }
+
+        public int getB76() {
+            return b76;
+        }
+
+        public void setB76(int b76) {
+            this.b76 = b76;
+        }
+
+        public int getB77() {
+            return b77;
+        }
+
+        public void setB77(int b77) {
+            this.b77 = b77;
+        }
+
+        public int getB78() {
+            return b78;
+        }
+
+        public void setB78(int b78) {
+            this.b78 = b78;
+        }
+
+        public int getB79() {
+            return b79;
+        }
+
+        public void setB79(int b79) {
+            this.b79 = b79;
+        }
+
+        public int getB80() {
+            return b80;
+        }
+
+        public void setB80(int b80) {
+            this.b80 = b80;
+        }
+
+        public int getB81() {
+            return b81;
+        }
+
+        public void setB81(int b81) {
+            this.b81 = b81;
+        }
+
+        public int getB82() {
+            return b82;
+        }
+
+        public void setB82(int b82) {
+            this.b82 = b82;
+        }
+
+        public int getB83() {
+            return b83;
+        }
+
+        public void setB83(int b83) {
+            this.b83 = b83;
+        }
+
+        public int getB84() {
+            return b84;
+        }
+
+        public void setB84(int b84) {
+            this.b84 = b84;
+        }
+
+        public int getB85() {
+            return b85;
+        }
+
+        public void setB85(int b85) {
+            this.b85 = b85;
+        }
+
+        public int getB86() {
+            return b86;
+        }
+
+        public void setB86(int b86) {
+            this.b86 = b86;
+        }
+
+        public int getB87() {
+            return b87;
+        }
+
+        public void setB87(int b87) {
+            this.b87 = b87;
+        }
+
+        public int getB88() {
+            return b88;
+        }
+
+        public void setB88(int b88) {
+            this.b88 = b88;
+        }
+
+        public int getB89() {
+            return b89;
+        }
+
+        public void setB89(int b89) {
+            this.b89 = b89;
+        }
+
+        public int getB90() {
+            return b90;
+        }
+
+        public void setB90(int b90) {
+            this.b90 = b90;
+        }
+
+        public int getB91() {
+            return b91;
+        }
+
+        public void setB91(int b91) {
+            this.b91 = b91;
+        }
+
+        public int getB92() {
+            return b92;
+        }
+
+        public void setB92(int b92) {
+            this.b92 = b92;
+        }
+
+        public int getB93() {
+            return b93;
+        }
+
+        public void setB93(int b93) {
+            this.b93 = b93;
+        }
+
+        public int getB94() {
+            return b94;
+        }
+
+        public void setB94(int b94) {
+            this.b94 = b94;
+        }
+
+        public int getB95() {
+            return b95;
+        }
+
+        public void setB95(int b95) {
+            this.b95 = b95;
+        }
+
+        public int getB96() {
+            return b96;
+        }
+
+        public void setB96(int b96) {
+            this.b96 = b96;
+        }
+
+        public int getB97() {
+            return b97;
+        }
+
+        public void setB97(int b97) {
+            this.b97 = b97;
+        }
+
+        public int getB98() {
+            return b98;
+        }
+
+        public void setB98(int b98) {
+            this.b98 = b98;
+        }
+
+        public int getB99() {
+            return b99;
+        }
+
+        public void setB99(int b99) {
+            this.b99 = b99;
+        }
+
+    }
+
+    public static class WideMiddle extends WideBase {
+
+        private int m0;
+
+        private int m1;
+
+        private int m2;
+
+        private int m3;
+
+        private int m4;
+
+        private int m5;
+
+        private int m6;
+
+        private int m7;
+
+        private int m8;
+
+        private int m9;
+
+        private int m10;
+
+        private int m11;
+
+        private int m12;
+
+        private int m13;
+
+        private int m14;
+
+        private int m15;
+
+        private int m16;
+
+        private int m17;
+
+        private int m18;
+
+        private int m19;
+
+        private int m20;
+
+        private int m21;
+
+        private int m22;
+
+        private int m23;
+
+        private int m24;
+
+        private int m25;
+
+        private int m26;
+
+        private int m27;
+
+        private int m28;
+
+        private int m29;
+
+        private int m30;
+
+        private int m31;
+
+        private int m32;
+
+        private int m33;
+
+        private int m34;
+
+        private int m35;
+
+        private int m36;
+
+        private int m37;
+
+        private int m38;
+
+        private int m39;
+
+        private int m40;
+
+        private int m41;
+
+        private int m42;
+
+        private int m43;
+
+        private int m44;
+
+        private int m45;
+
+        private int m46;
+
+        private int m47;
+
+        private int m48;
+
+        private int m49;
+
+        private int m50;
+
+        private int m51;
+
+        private int m52;
+
+        private int m53;
+
+        private int m54;
+
+        private int m55;
+
+        private int m56;
+
+        private int m57;
+
+        private int m58;
+
+        private int m59;
+
+        private int m60;
+
+        private int m61;
+
+        private int m62;
+
+        private int m63;
+
+        private int m64;
+
+        private int m65;
+
+        private int m66;
+
+        private int m67;
+
+        private int m68;
+
+        private int m69;
+
+        private int m70;
+
+        private int m71;
+
+        private int m72;
+
+        private int m73;
+
+        private int m74;
+
+        private int m75;
+
+        private int m76;
+
+        private int m77;
+
+        private int m78;
+
+        private int m79;
+
+        private int m80;
+
+        private int m81;
+
+        private int m82;
+
+        private int m83;
+
+        private int m84;
+
+        private int m85;
+
+        private int m86;
+
+        private int m87;
+
+        private int m88;
+
+        private int m89;
+
+        private int m90;
+
+        private int m91;
+
+        private int m92;
+
+        private int m93;
+
+        private int m94;
+
+        private int m95;
+
+        private int m96;
+
+        private int m97;
+
+        private int m98;
+
+        private int m99;
+
+        public int getM0() {
+            return m0;
+        }
+
+        public void setM0(int m0) {
+            this.m0 = m0;
+        }
+
+        public int getM1() {
+            return m1;
+        }
+
+        public void setM1(int m1) {
+            this.m1 = m1;
+        }
+
+        public int getM2() {
+            return m2;
+        }
+
+        public void setM2(int m2) {
+            this.m2 = m2;
+        }
+
+        public int getM3() {
+            return m3;
+        }
+
+        public void setM3(int m3) {
+            this.m3 = m3;
+        }
+
+        public int getM4() {
+            return m4;
+        }
+
+        public void setM4(int m4) {
+            this.m4 = m4;
+        }
+
+        public int getM5() {
+            return m5;
+        }
+
+        public void setM5(int m5) {
+            this.m5 = m5;
+        }
+
+        public int getM6() {
+            return m6;
+        }
+
+        public void setM6(int m6) {
+            this.m6 = m6;
+        }
+
+        public int getM7() {
+            return m7;
+        }
+
+        public void setM7(int m7) {
+            this.m7 = m7;
+        }
+
+        public int getM8() {
+            return m8;
+        }
+
+        public void setM8(int m8) {
+            this.m8 = m8;
+        }
+
+        public int getM9() {
+            return m9;
+        }
+
+        public void setM9(int m9) {
+            this.m9 = m9;
+        }
+
+        public int getM10() {
+            return m10;
+        }
+
+        public void setM10(int m10) {
+            this.m10 = m10;
+        }
+
+        public int getM11() {
+            return m11;
+        }
+
+        public void setM11(int m11) {
+            this.m11 = m11;
+        }
+
+        public int getM12() {
+            return m12;
+        }
+
+        public void setM12(int m12) {
+            this.m12 = m12;
+        }
+
+        public int getM13() {
+            return m13;
+        }
+
+        public void setM13(int m13) {
+            this.m13 = m13;
+        }
+
+        public int getM14() {
+            return m14;
+        }
+
+        public void setM14(int m14) {
+            this.m14 = m14;
+        }
+
+        public int getM15() {
+            return m15;
+        }
+
+        public void setM15(int m15) {
+            this.m15 = m15;
+        }
+
+        public int getM16() {
+            return m16;
+        }
+
+        public void setM16(int m16) {
+            this.m16 = m16;
+        }
+
+        public int getM17() {
+            return m17;
+        }
+
+        public void setM17(int m17) {
+            this.m17 = m17;
+        }
+
+        public int getM18() {
+            return m18;
+        }
+
+        public void setM18(int m18) {
+            this.m18 = m18;
+        }
+
+        public int getM19() {
+            return m19;
+        }
+
+        public void setM19(int m19) {
+            this.m19 = m19;
+        }
+
+        public int getM20() {
+            return m20;
+        }
+
+        public void setM20(int m20) {
+            this.m20 = m20;
+        }
+
+        public int getM21() {
+            return m21;
+        }
+
+        public void setM21(int m21) {
+            this.m21 = m21;
+        }
+
+        public int getM22() {
+            return m22;
+        }
+
+        public void setM22(int m22) {
+            this.m22 = m22;
+        }
+
+        public int getM23() {
+            return m23;
+        }
+
+        public void setM23(int m23) {
+            this.m23 = m23;
+        }
+
+        public int getM24() {
+            return m24;
+        }
+
+        public void setM24(int m24) {
+            this.m24 = m24;
+        }
+
+        public int getM25() {
+            return m25;
+        }
+
+        public void setM25(int m25) {
+            this.m25 = m25;
+        }
+
+        public int getM26() {
+            return m26;
+        }
+
+        public void setM26(int m26) {
+            this.m26 = m26;
+        }
+
+        public int getM27() {
+            return m27;
+        }
+
+        public void setM27(int m27) {
+            this.m27 = m27;
+        }
+
+        public int getM28() {
+            return m28;
+        }
+
+        public void setM28(int m28) {
+            this.m28 = m28;
+        }
+
+        public int getM29() {
+            return m29;
+        }
+
+        public void setM29(int m29) {
+            this.m29 = m29;
+        }
+
+        public int getM30() {
+            return m30;
+        }
+
+        public void setM30(int m30) {
+            this.m30 = m30;
+        }
+
+        public int getM31() {
+            return m31;
+        }
+
+        public void setM31(int m31) {
+            this.m31 = m31;
+        }
+
+        public int getM32() {
+            return m32;
+        }
+
+        public void setM32(int m32) {
+            this.m32 = m32;
+        }
+
+        public int getM33() {
+            return m33;
+        }
+
+        public void setM33(int m33) {
+            this.m33 = m33;
+        }
+
+        public int getM34() {
+            return m34;
+        }
+
+        public void setM34(int m34) {
+            this.m34 = m34;
+        }
+
+        public int getM35() {
+            return m35;
+        }
+
+        public void setM35(int m35) {
+            this.m35 = m35;
+        }
+
+        public int getM36() {
+            return m36;
+        }
+
+        public void setM36(int m36) {
+            this.m36 = m36;
+        }
+
+        public int getM37() {
+            return m37;
+        }
+
+        public void setM37(int m37) {
+            this.m37 = m37;
+        }
+
+        public int getM38() {
+            return m38;
+        }
+
+        public void setM38(int m38) {
+            this.m38 = m38;
+        }
+
+        public int getM39() {
+            return m39;
+        }
+
+        public void setM39(int m39) {
+            this.m39 = m39;
+        }
+
+        public int getM40() {
+            return m40;
+        }
+
+        public void setM40(int m40) {
+            this.m40 = m40;
+        }
+
+        public int getM41() {
+            return m41;
+        }
+
+        public void setM41(int m41) {
+            this.m41 = m41;
+        }
+
+        public int getM42() {
+            return m42;
+        }
+
+        public void setM42(int m42) {
+            this.m42 = m42;
+        }
+
+        public int getM43() {
+            return m43;
+        }
+
+        public void setM43(int m43) {
+            this.m43 = m43;
+        }
+
+        public int getM44() {
+            return m44;
+        }
+
+        public void setM44(int m44) {
+            this.m44 = m44;
+        }
+
+        public int getM45() {
+            return m45;
+        }
+
+        public void setM45(int m45) {
+            this.m45 = m45;
+        }
+
+        public int getM46() {
+            return m46;
+        }
+
+        public void setM46(int m46) {
+            this.m46 = m46;
+        }
+
+        public int getM47() {
+            return m47;
+        }
+
+        public void setM47(int m47) {
+            this.m47 = m47;
+        }
+
+        public int getM48() {
+            return m48;
+        }
+
+        public void setM48(int m48) {
+            this.m48 = m48;
+        }
+
+        public int getM49() {
+            return m49;
+        }
+
+        public void setM49(int m49) {
+            this.m49 = m49;
+        }
+
+        public int getM50() {
+            return m50;
+        }
+
+        public void setM50(int m50) {
+            this.m50 = m50;
+        }
+
+        public int getM51() {
+            return m51;
+        }
+
+        public void setM51(int m51) {
+            this.m51 = m51;
+        }
+
+        public int getM52() {
+            return m52;
+        }
+
+        public void setM52(int m52) {
+            this.m52 = m52;
+        }
+
+        public int getM53() {
+            return m53;
+        }
+
+        public void setM53(int m53) {
+            this.m53 = m53;
+        }
+
+        public int getM54() {
+            return m54;
+        }
+
+        public void setM54(int m54) {
+            this.m54 = m54;
+        }
+
+        public int getM55() {
+            return m55;
+        }
+
+        public void setM55(int m55) {
+            this.m55 = m55;
+        }
+
+        public int getM56() {
+            return m56;
+        }
+
+        public void setM56(int m56) {
+            this.m56 = m56;
+        }
+
+        public int getM57() {
+            return m57;
+        }
+
+        public void setM57(int m57) {
+            this.m57 = m57;
+        }
+
+        public int getM58() {
+            return m58;
+        }
+
+        public void setM58(int m58) {
+            this.m58 = m58;
+        }
+
+        public int getM59() {
+            return m59;
+        }
+
+        public void setM59(int m59) {
+            this.m59 = m59;
+        }
+
+        public int getM60() {
+            return m60;
+        }
+
+        public void setM60(int m60) {
+            this.m60 = m60;
+        }
+
+        public int getM61() {
+            return m61;
+        }
+
+        public void setM61(int m61) {
+            this.m61 = m61;
+        }
+
+        public int getM62() {
+            return m62;
+        }
+
+        public void setM62(int m62) {
+            this.m62 = m62;
+        }
+
+        public int getM63() {
+            return m63;
+        }
+
+        public void setM63(int m63) {
+            this.m63 = m63;
+        }
+
+        public int getM64() {
+            return m64;
+        }
+
+        public void setM64(int m64) {
+            this.m64 = m64;
+        }
+
+        public int getM65() {
+            return m65;
+        }
+
+        public void setM65(int m65) {
+            this.m65 = m65;
+        }
+
+        public int getM66() {
+            return m66;
+        }
+
+        public void setM66(int m66) {
+            this.m66 = m66;
+        }
+
+        public int getM67() {
+            return m67;
+        }
+
+        public void setM67(int m67) {
+            this.m67 = m67;
+        }
+
+        public int getM68() {
+            return m68;
+        }
+
+        public void setM68(int m68) {
+            this.m68 = m68;
+        }
+
+        public int getM69() {
+            return m69;
+        }
+
+        public void setM69(int m69) {
+            this.m69 = m69;
+        }
+
+        public int getM70() {
+            return m70;
+        }
+
+        public void setM70(int m70) {
+            this.m70 = m70;
+        }
+
+        public int getM71() {
+            return m71;
+        }
+
+        public void setM71(int m71) {
+            this.m71 = m71;
+        }
+
+        public int getM72() {
+            return m72;
+        }
+
+        public void setM72(int m72) {
+            this.m72 = m72;
+        }
+
+        public int getM73() {
+            return m73;
+        }
+
+        public void setM73(int m73) {
+            this.m73 = m73;
+        }
+
+        public int getM74() {
+            return m74;
+        }
+
+        public void setM74(int m74) {
+            this.m74 = m74;
+        }
+
+        public int getM75() {
+            return m75;
+        }
+
+        public void setM75(int m75) {
+            this.m75 = m75;
+        }
+
+        public int getM76() {
+            return m76;
+        }
+
+        public void setM76(int m76) {
+            this.m76 = m76;
+        }
+
+        public int getM77() {
+            return m77;
+        }
+
+        public void setM77(int m77) {
+            this.m77 = m77;
+        }
+
+        public int getM78() {
+            return m78;
+        }
+
+        public void setM78(int m78) {
+            this.m78 = m78;
+        }
+
+        public int getM79() {
+            return m79;
+        }
+
+        public void setM79(int m79) {
+            this.m79 = m79;
+        }
+
+        public int getM80() {
+            return m80;
+        }
+
+        public void setM80(int m80) {
+            this.m80 = m80;
+        }
+
+        public int getM81() {
+            return m81;
+        }
+
+        public void setM81(int m81) {
+            this.m81 = m81;
+        }
+
+        public int getM82() {
+            return m82;
+        }
+
+        public void setM82(int m82) {
+            this.m82 = m82;
+        }
+
+        public int getM83() {
+            return m83;
+        }
+
+        public void setM83(int m83) {
+            this.m83 = m83;
+        }
+
+        public int getM84() {
+            return m84;
+        }
+
+        public void setM84(int m84) {
+            this.m84 = m84;
+        }
+
+        public int getM85() {
+            return m85;
+        }
+
+        public void setM85(int m85) {
+            this.m85 = m85;
+        }
+
+        public int getM86() {
+            return m86;
+        }
+
+        public void setM86(int m86) {
+            this.m86 = m86;
+        }
+
+        public int getM87() {
+            return m87;
+        }
+
+        public void setM87(int m87) {
+            this.m87 = m87;
+        }
+
+        public int getM88() {
+            return m88;
+        }
+
+        public void setM88(int m88) {
+            this.m88 = m88;
+        }
+
+        public int getM89() {
+            return m89;
+        }
+
+        public void setM89(int m89) {
+            this.m89 = m89;
+        }
+
+        public int getM90() {
+            return m90;
+        }
+
+        public void setM90(int m90) {
+            this.m90 = m90;
+        }
+
+        public int getM91() {
+            return m91;
+        }
+
+        public void setM91(int m91) {
+            this.m91 = m91;
+        }
+
+        public int getM92() {
+            return m92;
+        }
+
+        public void setM92(int m92) {
+            this.m92 = m92;
+        }
+
+        public int getM93() {
+            return m93;
+        }
+
+        public void setM93(int m93) {
+            this.m93 = m93;
+        }
+
+        public int getM94() {
+            return m94;
+        }
+
+        public void setM94(int m94) {
+            this.m94 = m94;
+        }
+
+        public int getM95() {
+            return m95;
+        }
+
+        public void setM95(int m95) {
+            this.m95 = m95;
+        }
+
+        public int getM96() {
+            return m96;
+        }
+
+        public void setM96(int m96) {
+            this.m96 = m96;
+        }
+
+        public int getM97() {
+            return m97;
+        }
+
+        public void setM97(int m97) {
+            this.m97 = m97;
+        }
+
+        public int getM98() {
+            return m98;
+        }
+
+        public void setM98(int m98) {
+            this.m98 = m98;
+        }
+
+        public int getM99() {
+            return m99;
+        }
+
+        public void setM99(int m99) {
+            this.m99 = m99;
+        }
+
+    }
+
+    public static class WideLeaf extends WideMiddle {
+
+        private int l0;
+
+        private int l1;
+
+        private int l2;
+
+        private int l3;
+
+        private int l4;
+
+        private int l5;
+
+        private int l6;
+
+        private int l7;
+
+        private int l8;
+
+        private int l9;
+
+        private int l10;
+
+        private int l11;
+
+        private int l12;
+
+        private int l13;
+
+        private int l14;
+
+        private int l15;
+
+        private int l16;
+
+        private int l17;
+
+        private int l18;
+
+        private int l19;
+
+        private int l20;
+
+        private int l21;
+
+        private int l22;
+
+        private int l23;
+
+        private int l24;
+
+        private int l25;
+
+        private int l26;
+
+        private int l27;
+
+        private int l28;
+
+        private int l29;
+
+        private int l30;
+
+        private int l31;
+
+        private int l32;
+
+        private int l33;
+
+        private int l34;
+
+        private int l35;
+
+        private int l36;
+
+        private int l37;
+
+        private int l38;
+
+        private int l39;
+
+        private int l40;
+
+        private int l41;
+
+        private int l42;
+
+        private int l43;
+
+        private int l44;
+
+        private int l45;
+
+        private int l46;
+
+        private int l47;
+
+        private int l48;
+
+        private int l49;
+
+        private int l50;
+
+        private int l51;
+
+        private int l52;
+
+        private int l53;
+
+        private int l54;
+
+        private int l55;
+
+        private int l56;
+
+        private int l57;
+
+        private int l58;
+
+        private int l59;
+
+        private int l60;
+
+        private int l61;
+
+        private int l62;
+
+        private int l63;
+
+        private int l64;
+
+        private int l65;
+
+        private int l66;
+
+        private int l67;
+
+        private int l68;
+
+        private int l69;
+
+        private int l70;
+
+        private int l71;
+
+        private int l72;
+
+        private int l73;
+
+        private int l74;
+
+        private int l75;
+
+        private int l76;
+
+        private int l77;
+
+        private int l78;
+
+        private int l79;
+
+        private int l80;
+
+        private int l81;
+
+        private int l82;
+
+        private int l83;
+
+        private int l84;
+
+        private int l85;
+
+        private int l86;
+
+        private int l87;
+
+        private int l88;
+
+        private int l89;
+
+        private int l90;
+
+        private int l91;
+
+        private int l92;
+
+        private int l93;
+
+        private int l94;
+
+        private int l95;
+
+        private int l96;
+
+        private int l97;
+
+        private int l98;
+
+        private int l99;
+
+        public int getL0() {
+            return l0;
+        }
+
+        public void setL0(int l0) {
+            this.l0 = l0;
+        }
+
+        public int getL1() {
+            return l1;
+        }
+
+        public void setL1(int l1) {
+            this.l1 = l1;
+        }
+
+        public int getL2() {
+            return l2;
+        }
+
+        public void setL2(int l2) {
+            this.l2 = l2;
+        }
+
+        public int getL3() {
+            return l3;
+        }
+
+        public void setL3(int l3) {
+            this.l3 = l3;
+        }
+
+        public int getL4() {
+            return l4;
+        }
+
+        public void setL4(int l4) {
+            this.l4 = l4;
+        }
+
+        public int getL5() {
+            return l5;
+        }
+
+        public void setL5(int l5) {
+            this.l5 = l5;
+        }
+
+        public int getL6() {
+            return l6;
+        }
+
+        public void setL6(int l6) {
+            this.l6 = l6;
+        }
+
+        public int getL7() {
+            return l7;
+        }
+
+        public void setL7(int l7) {
+            this.l7 = l7;
+        }
+
+        public int getL8() {
+            return l8;
+        }
+
+        public void setL8(int l8) {
+            this.l8 = l8;
+        }
+
+        public int getL9() {
+            return l9;
+        }
+
+        public void setL9(int l9) {
+            this.l9 = l9;
+        }
+
+        public int getL10() {
+            return l10;
+        }
+
+        public void setL10(int l10) {
+            this.l10 = l10;
+        }
+
+        public int getL11() {
+            return l11;
+        }
+
+        public void setL11(int l11) {
+            this.l11 = l11;
+        }
+
+        public int getL12() {
+            return l12;
+        }
+
+        public void setL12(int l12) {
+            this.l12 = l12;
+        }
+
+        public int getL13() {
+            return l13;
+        }
+
+        public void setL13(int l13) {
+            this.l13 = l13;
+        }
+
+        public int getL14() {
+            return l14;
+        }
+
+        public void setL14(int l14) {
+            this.l14 = l14;
+        }
+
+        public int getL15() {
+            return l15;
+        }
+
+        public void setL15(int l15) {
+            this.l15 = l15;
+        }
+
+        public int getL16() {
+            return l16;
+        }
+
+        public void setL16(int l16) {
+            this.l16 = l16;
+        }
+
+        public int getL17() {
+            return l17;
+        }
+
+        public void setL17(int l17) {
+            this.l17 = l17;
+        }
+
+        public int getL18() {
+            return l18;
+        }
+
+        public void setL18(int l18) {
+            this.l18 = l18;
+        }
+
+        public int getL19() {
+            return l19;
+        }
+
+        public void setL19(int l19) {
+            this.l19 = l19;
+        }
+
+        public int getL20() {
+            return l20;
+        }
+
+        public void setL20(int l20) {
+            this.l20 = l20;
+        }
+
+        public int getL21() {
+            return l21;
+        }
+
+        public void setL21(int l21) {
+            this.l21 = l21;
+        }
+
+        public int getL22() {
+            return l22;
+        }
+
+        public void setL22(int l22) {
+            this.l22 = l22;
+        }
+
+        public int getL23() {
+            return l23;
+        }
+
+        public void setL23(int l23) {
+            this.l23 = l23;
+        }
+
+        public int getL24() {
+            return l24;
+        }
+
+        public void setL24(int l24) {
+            this.l24 = l24;
+        }
+
+        public int getL25() {
+            return l25;
+        }
+
+        public void setL25(int l25) {
+            this.l25 = l25;
+        }
+
+        public int getL26() {
+            return l26;
+        }
+
+        public void setL26(int l26) {
+            this.l26 = l26;
+        }
+
+        public int getL27() {
+            return l27;
+        }
+
+        public void setL27(int l27) {
+            this.l27 = l27;
+        }
+
+        public int getL28() {
+            return l28;
+        }
+
+        public void setL28(int l28) {
+            this.l28 = l28;
+        }
+
+        public int getL29() {
+            return l29;
+        }
+
+        public void setL29(int l29) {
+            this.l29 = l29;
+        }
+
+        public int getL30() {
+            return l30;
+        }
+
+        public void setL30(int l30) {
+            this.l30 = l30;
+        }
+
+        public int getL31() {
+            return l31;
+        }
+
+        public void setL31(int l31) {
+            this.l31 = l31;
+        }
+
+        public int getL32() {
+            return l32;
+        }
+
+        public void setL32(int l32) {
+            this.l32 = l32;
+        }
+
+        public int getL33() {
+            return l33;
+        }
+
+        public void setL33(int l33) {
+            this.l33 = l33;
+        }
+
+        public int getL34() {
+            return l34;
+        }
+
+        public void setL34(int l34) {
+            this.l34 = l34;
+        }
+
+        public int getL35() {
+            return l35;
+        }
+
+        public void setL35(int l35) {
+            this.l35 = l35;
+        }
+
+        public int getL36() {
+            return l36;
+        }
+
+        public void setL36(int l36) {
+            this.l36 = l36;
+        }
+
+        public int getL37() {
+            return l37;
+        }
+
+        public void setL37(int l37) {
+            this.l37 = l37;
+        }
+
+        public int getL38() {
+            return l38;
+        }
+
+        public void setL38(int l38) {
+            this.l38 = l38;
+        }
+
+        public int getL39() {
+            return l39;
+        }
+
+        public void setL39(int l39) {
+            this.l39 = l39;
+        }
+
+        public int getL40() {
+            return l40;
+        }
+
+        public void setL40(int l40) {
+            this.l40 = l40;
+        }
+
+        public int getL41() {
+            return l41;
+        }
+
+        public void setL41(int l41) {
+            this.l41 = l41;
+        }
+
+        public int getL42() {
+            return l42;
+        }
+
+        public void setL42(int l42) {
+            this.l42 = l42;
+        }
+
+        public int getL43() {
+            return l43;
+        }
+
+        public void setL43(int l43) {
+            this.l43 = l43;
+        }
+
+        public int getL44() {
+            return l44;
+        }
+
+        public void setL44(int l44) {
+            this.l44 = l44;
+        }
+
+        public int getL45() {
+            return l45;
+        }
+
+        public void setL45(int l45) {
+            this.l45 = l45;
+        }
+
+        public int getL46() {
+            return l46;
+        }
+
+        public void setL46(int l46) {
+            this.l46 = l46;
+        }
+
+        public int getL47() {
+            return l47;
+        }
+
+        public void setL47(int l47) {
+            this.l47 = l47;
+        }
+
+        public int getL48() {
+            return l48;
+        }
+
+        public void setL48(int l48) {
+            this.l48 = l48;
+        }
+
+        public int getL49() {
+            return l49;
+        }
+
+        public void setL49(int l49) {
+            this.l49 = l49;
+        }
+
+        public int getL50() {
+            return l50;
+        }
+
+        public void setL50(int l50) {
+            this.l50 = l50;
+        }
+
+        public int getL51() {
+            return l51;
+        }
+
+        public void setL51(int l51) {
+            this.l51 = l51;
+        }
+
+        public int getL52() {
+            return l52;
+        }
+
+        public void setL52(int l52) {
+            this.l52 = l52;
+        }
+
+        public int getL53() {
+            return l53;
+        }
+
+        public void setL53(int l53) {
+            this.l53 = l53;
+        }
+
+        public int getL54() {
+            return l54;
+        }
+
+        public void setL54(int l54) {
+            this.l54 = l54;
+        }
+
+        public int getL55() {
+            return l55;
+        }
+
+        public void setL55(int l55) {
+            this.l55 = l55;
+        }
+
+        public int getL56() {
+            return l56;
+        }
+
+        public void setL56(int l56) {
+            this.l56 = l56;
+        }
+
+        public int getL57() {
+            return l57;
+        }
+
+        public void setL57(int l57) {
+            this.l57 = l57;
+        }
+
+        public int getL58() {
+            return l58;
+        }
+
+        public void setL58(int l58) {
+            this.l58 = l58;
+        }
+
+        public int getL59() {
+            return l59;
+        }
+
+        public void setL59(int l59) {
+            this.l59 = l59;
+        }
+
+        public int getL60() {
+            return l60;
+        }
+
+        public void setL60(int l60) {
+            this.l60 = l60;
+        }
+
+        public int getL61() {
+            return l61;
+        }
+
+        public void setL61(int l61) {
+            this.l61 = l61;
+        }
+
+        public int getL62() {
+            return l62;
+        }
+
+        public void setL62(int l62) {
+            this.l62 = l62;
+        }
+
+        public int getL63() {
+            return l63;
+        }
+
+        public void setL63(int l63) {
+            this.l63 = l63;
+        }
+
+        public int getL64() {
+            return l64;
+        }
+
+        public void setL64(int l64) {
+            this.l64 = l64;
+        }
+
+        public int getL65() {
+            return l65;
+        }
+
+        public void setL65(int l65) {
+            this.l65 = l65;
+        }
+
+        public int getL66() {
+            return l66;
+        }
+
+        public void setL66(int l66) {
+            this.l66 = l66;
+        }
+
+        public int getL67() {
+            return l67;
+        }
+
+        public void setL67(int l67) {
+            this.l67 = l67;
+        }
+
+        public int getL68() {
+            return l68;
+        }
+
+        public void setL68(int l68) {
+            this.l68 = l68;
+        }
+
+        public int getL69() {
+            return l69;
+        }
+
+        public void setL69(int l69) {
+            this.l69 = l69;
+        }
+
+        public int getL70() {
+            return l70;
+        }
+
+        public void setL70(int l70) {
+            this.l70 = l70;
+        }
+
+        public int getL71() {
+            return l71;
+        }
+
+        public void setL71(int l71) {
+            this.l71 = l71;
+        }
+
+        public int getL72() {
+            return l72;
+        }
+
+        public void setL72(int l72) {
+            this.l72 = l72;
+        }
+
+        public int getL73() {
+            return l73;
+        }
+
+        public void setL73(int l73) {
+            this.l73 = l73;
+        }
+
+        public int getL74() {
+            return l74;
+        }
+
+        public void setL74(int l74) {
+            this.l74 = l74;
+        }
+
+        public int getL75() {
+            return l75;
+        }
+
+        public void setL75(int l75) {
+            this.l75 = l75;
+        }
+
+        public int getL76() {
+            return l76;
+        }
+
+        public void setL76(int l76) {
+            this.l76 = l76;
+        }
+
+        public int getL77() {
+            return l77;
+        }
+
+        public void setL77(int l77) {
+            this.l77 = l77;
+        }
+
+        public int getL78() {
+            return l78;
+        }
+
+        public void setL78(int l78) {
+            this.l78 = l78;
+        }
+
+        public int getL79() {
+            return l79;
+        }
+
+        public void setL79(int l79) {
+            this.l79 = l79;
+        }
+
+        public int getL80() {
+            return l80;
+        }
+
+        public void setL80(int l80) {
+            this.l80 = l80;
+        }
+
+        public int getL81() {
+            return l81;
+        }
+
+        public void setL81(int l81) {
+            this.l81 = l81;
+        }
+
+        public int getL82() {
+            return l82;
+        }
+
+        public void setL82(int l82) {
+            this.l82 = l82;
+        }
+
+        public int getL83() {
+            return l83;
+        }
+
+        public void setL83(int l83) {
+            this.l83 = l83;
+        }
+
+        public int getL84() {
+            return l84;
+        }
+
+        public void setL84(int l84) {
+            this.l84 = l84;
+        }
+
+        public int getL85() {
+            return l85;
+        }
+
+        public void setL85(int l85) {
+            this.l85 = l85;
+        }
+
+        public int getL86() {
+            return l86;
+        }
+
+        public void setL86(int l86) {
+            this.l86 = l86;
+        }
+
+        public int getL87() {
+            return l87;
+        }
+
+        public void setL87(int l87) {
+            this.l87 = l87;
+        }
+
+        public int getL88() {
+            return l88;
+        }
+
+        public void setL88(int l88) {
+            this.l88 = l88;
+        }
+
+        public int getL89() {
+            return l89;
+        }
+
+        public void setL89(int l89) {
+            this.l89 = l89;
+        }
+
+        public int getL90() {
+            return l90;
+        }
+
+        public void setL90(int l90) {
+            this.l90 = l90;
+        }
+
+        public int getL91() {
+            return l91;
+        }
+
+        public void setL91(int l91) {
+            this.l91 = l91;
+        }
+
+        public int getL92() {
+            return l92;
+        }
+
+        public void setL92(int l92) {
+            this.l92 = l92;
+        }
+
+        public int getL93() {
+            return l93;
+        }
+
+        public void setL93(int l93) {
+            this.l93 = l93;
+        }
+
+        public int getL94() {
+            return l94;
+        }
+
+        public void setL94(int l94) {
+            this.l94 = l94;
+        }
+
+        public int getL95() {
+            return l95;
+        }
+
+        public void setL95(int l95) {
+            this.l95 = l95;
+        }
+
+        public int getL96() {
+            return l96;
+        }
+
+        public void setL96(int l96) {
+            this.l96 = l96;
+        }
+
+        public int getL97() {
+            return l97;
+        }
+
+        public void setL97(int l97) {
+            this.l97 = l97;
+        }
+
+        public int getL98() {
+            return l98;
+        }
+
+        public void setL98(int l98) {
+            this.l98 = l98;
+        }
+
+        public int getL99() {
+            return l99;
+        }
+
+        public void setL99(int l99) {
+            this.l99 = l99;
+        }
+
+    }
+
+}
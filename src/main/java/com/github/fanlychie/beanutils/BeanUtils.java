@@ -1,8 +1,17 @@
 package com.github.fanlychie.beanutils;
 
+import com.github.fanlychie.beanutils.arena.BeanArena;
+import com.github.fanlychie.beanutils.filter.BeanFilter;
+import com.github.fanlychie.beanutils.json.BeanJsonWriter;
+import com.github.fanlychie.beanutils.merge.BeanMerger;
+import com.github.fanlychie.beanutils.operator.ConstructorBinding;
 import com.github.fanlychie.beanutils.operator.ConstructorOperator;
+import com.github.fanlychie.beanutils.operator.DeclaredFields;
+import com.github.fanlychie.beanutils.operator.DeclaredMethods;
 import com.github.fanlychie.beanutils.operator.FieldOperator;
 import com.github.fanlychie.beanutils.operator.MethodOperator;
+import com.github.fanlychie.beanutils.operator.PropertyOperator;
+import com.github.fanlychie.beanutils.sort.BeanComparator;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -19,18 +28,60 @@ public class BeanUtils {
         private static Map<Class<?>, FieldOperator> cache = new ConcurrentHashMap<>();
     }
 
+    // 当第一次被调用时才装载进内存, 延迟加载
+    private static class LazyFieldOperatorCacheHolder {
+        // 延迟解析的字段常驻内存
+        private static Map<Class<?>, FieldOperator> cache = new ConcurrentHashMap<>();
+    }
+
     // 当第一次被调用时才装载进内存, 延迟加载
     private static class MethodOperatorCacheHolder {
         // 方法常驻内存
         private static Map<Class<?>, MethodOperator> cache = new ConcurrentHashMap<>();
     }
 
+    // 当第一次被调用时才装载进内存, 延迟加载
+    private static class LazyMethodOperatorCacheHolder {
+        // 延迟解析的方法常驻内存
+        private static Map<Class<?>, MethodOperator> cache = new ConcurrentHashMap<>();
+    }
+
+    // 当第一次被调用时才装载进内存, 延迟加载
+    private static class PropertyOperatorCacheHolder {
+        // <类型, <setter 识别方式, 属性>> 常驻内存
+        private static Map<Class<?>, Map<Integer, PropertyOperator>> cache = new ConcurrentHashMap<>();
+    }
+
     // 当第一次被调用时才装载进内存, 延迟加载
     private static class ConstructorOperatorCacheHolder {
         // 构造器常驻内存
         private static Map<Class<?>, ConstructorOperator> cache = new ConcurrentHashMap<>();
     }
 
+    // 当第一次被调用时才装载进内存, 延迟加载
+    private static class ConstructorBindingCacheHolder {
+        // <来源类型, <目标类型, 构造器绑定计划>> 常驻内存
+        private static Map<Class<?>, Map<Class<?>, ConstructorBinding<?>>> cache = new ConcurrentHashMap<>();
+    }
+
+    // 当第一次被调用时才装载进内存, 延迟加载
+    private static class ComparatorCacheHolder {
+        // <Bean 类型, <null 值顺序及排序字段, 比较器>> 常驻内存
+        private static Map<Class<?>, Map<String, BeanComparator<?>>> cache = new ConcurrentHashMap<>();
+    }
+
+    // 当第一次被调用时才装载进内存, 延迟加载
+    private static class JsonWriterCacheHolder {
+        // JSON 写出计划常驻内存
+        private static Map<Class<?>, BeanJsonWriter<?>> cache = new ConcurrentHashMap<>();
+    }
+
+    // 当第一次被调用时才装载进内存, 延迟加载
+    private static class MergerCacheHolder {
+        // <来源类型, <目标类型, 合并计划>> 常驻内存
+        private static Map<Class<?>, Map<Class<?>, BeanMerger<?, ?>>> cache = new ConcurrentHashMap<>();
+    }
+
     /**
      * 获得操作字段能力的实例
      *
@@ -49,15 +100,38 @@ public class BeanUtils {
      * @param stopClass            在递归查找时, 遇到此类则终止搜索字段
      */
     public static FieldOperator fieldOperate(Class<?> pojoClass, boolean accessibleStatic, boolean accessibleSuperclass, Class<?> stopClass) {
-        if (!FieldOperatorCacheHolder.cache.containsKey(pojoClass)) {
+        return fieldOperate(pojoClass, accessibleStatic, accessibleSuperclass, stopClass, false);
+    }
+
+    /**
+     * 获得延迟解析的操作字段能力的实例, 初始化时不查找属性, 属性在首次按名称访问时解析
+     *
+     * @param pojoClass 任意的Class类型
+     */
+    public static FieldOperator lazyFieldOperate(Class<?> pojoClass) {
+        return fieldOperate(pojoClass, true, true, Object.class, true);
+    }
+
+    /**
+     * 获得操作字段能力的实例
+     *
+     * @param pojoClass            任意的Class类型
+     * @param accessibleStatic     是否允许访问Class的静态属性
+     * @param accessibleSuperclass 是否递归查找Class的父类属性
+     * @param stopClass            在递归查找时, 遇到此类则终止搜索字段
+     * @param lazy                 是否延迟解析
+     */
+    public static FieldOperator fieldOperate(Class<?> pojoClass, boolean accessibleStatic, boolean accessibleSuperclass, Class<?> stopClass, boolean lazy) {
+        // 延迟解析与否分别缓存, 互不覆盖
+        Map<Class<?>, FieldOperator> cache = lazy ? LazyFieldOperatorCacheHolder.cache : FieldOperatorCacheHolder.cache;
+        if (!cache.containsKey(pojoClass)) {
             synchronized (pojoClass) {
-                if (!FieldOperatorCacheHolder.cache.containsKey(pojoClass)) {
-                    FieldOperatorCacheHolder.cache.put(pojoClass,
-                            new FieldOperator(pojoClass, accessibleStatic, accessibleSuperclass, stopClass).init());
+                if (!cache.containsKey(pojoClass)) {
+                    cache.put(pojoClass, new FieldOperator(pojoClass, accessibleStatic, accessibleSuperclass, stopClass, lazy).init());
                 }
             }
         }
-        return FieldOperatorCacheHolder.cache.get(pojoClass);
+        return cache.get(pojoClass);
     }
 
     /**
@@ -78,15 +152,77 @@ public class BeanUtils {
      * @param stopClass            在递归查找时, 遇到此类则终止搜索字段
      */
     public static MethodOperator methodOperate(Class<?> pojoClass, boolean accessibleStatic, boolean accessibleSuperclass, Class<?> stopClass) {
-        if (!MethodOperatorCacheHolder.cache.containsKey(pojoClass)) {
+        return methodOperate(pojoClass, accessibleStatic, accessibleSuperclass, stopClass, false);
+    }
+
+    /**
+     * 获得延迟解析的操作方法能力的实例, 初始化时不查找方法, 方法在首次按名称调用时解析
+     *
+     * @param pojoClass 任意的Class类型
+     */
+    public static MethodOperator lazyMethodOperate(Class<?> pojoClass) {
+        return methodOperate(pojoClass, true, true, Object.class, true);
+    }
+
+    /**
+     * 获得操作方法能力的实例
+     *
+     * @param pojoClass            任意的Class类型
+     * @param accessibleStatic     是否允许访问Class的静态属性
+     * @param accessibleSuperclass 是否递归查找Class的父类属性
+     * @param stopClass            在递归查找时, 遇到此类则终止搜索字段
+     * @param lazy                 是否延迟解析
+     */
+    public static MethodOperator methodOperate(Class<?> pojoClass, boolean accessibleStatic, boolean accessibleSuperclass, Class<?> stopClass, boolean lazy) {
+        // 延迟解析与否分别缓存, 互不覆盖
+        Map<Class<?>, MethodOperator> cache = lazy ? LazyMethodOperatorCacheHolder.cache : MethodOperatorCacheHolder.cache;
+        if (!cache.containsKey(pojoClass)) {
+            synchronized (pojoClass) {
+                if (!cache.containsKey(pojoClass)) {
+                    cache.put(pojoClass, new MethodOperator(pojoClass, accessibleStatic, accessibleSuperclass, stopClass, lazy).init());
+                }
+            }
+        }
+        return cache.get(pojoClass);
+    }
+
+    /**
+     * 获得操作 JavaBean 属性能力的实例, 属性优先通过 getter/setter 方法读写
+     *
+     * @param pojoClass 任意的Class类型
+     */
+    public static PropertyOperator propertyOperate(Class<?> pojoClass) {
+        return propertyOperate(pojoClass, false, false);
+    }
+
+    /**
+     * 获得操作 JavaBean 属性能力的实例, 属性优先通过 getter/setter 方法读写
+     *
+     * @param pojoClass     任意的Class类型
+     * @param fluentSetter  是否识别返回值不为 void 的 setX 方法(链式 setter)
+     * @param builderSetter 是否识别与属性同名、返回当前类型的单参数方法(构建器风格 setter)
+     */
+    public static PropertyOperator propertyOperate(Class<?> pojoClass, boolean fluentSetter, boolean builderSetter) {
+        Map<Integer, PropertyOperator> operators = PropertyOperatorCacheHolder.cache.get(pojoClass);
+        if (operators == null) {
             synchronized (pojoClass) {
-                if (!MethodOperatorCacheHolder.cache.containsKey(pojoClass)) {
-                    MethodOperatorCacheHolder.cache.put(pojoClass,
-                            new MethodOperator(pojoClass, accessibleStatic, accessibleSuperclass, stopClass).init());
+                operators = PropertyOperatorCacheHolder.cache.get(pojoClass);
+                if (operators == null) {
+                    operators = new ConcurrentHashMap<>();
+                    PropertyOperatorCacheHolder.cache.put(pojoClass, operators);
                 }
             }
         }
-        return MethodOperatorCacheHolder.cache.get(pojoClass);
+        // 不同的 setter 识别方式配对出的属性不同, 分别缓存
+        Integer key = (fluentSetter ? 1 : 0) | (builderSetter ? 2 : 0);
+        if (!operators.containsKey(key)) {
+            synchronized (pojoClass) {
+                if (!operators.containsKey(key)) {
+                    operators.put(key, new PropertyOperator(pojoClass, fluentSetter, builderSetter).init());
+                }
+            }
+        }
+        return operators.get(key);
     }
 
     /**
@@ -106,4 +242,205 @@ public class BeanUtils {
         return ConstructorOperatorCacheHolder.cache.get(pojoClass);
     }
 
-}
\ No newline at end of file
+    /**
+     * 获得按名称将来源对象的属性绑定到目标类构造器参数的计划, 每对 (来源类型, 目标类型) 只配对一次
+     *
+     * @param sourceClass 来源类型
+     * @param targetClass 目标类型
+     * @param <T>         目标类型
+     */
+    public static <T> ConstructorBinding<T> constructorBinding(Class<?> sourceClass, Class<T> targetClass) {
+        Map<Class<?>, ConstructorBinding<?>> bindings = ConstructorBindingCacheHolder.cache.get(sourceClass);
+        if (bindings == null) {
+            synchronized (sourceClass) {
+                bindings = ConstructorBindingCacheHolder.cache.get(sourceClass);
+                if (bindings == null) {
+                    bindings = new ConcurrentHashMap<>();
+                    ConstructorBindingCacheHolder.cache.put(sourceClass, bindings);
+                }
+            }
+        }
+        if (!bindings.containsKey(targetClass)) {
+            // 先在锁外取得来源类型的属性操作, 避免在持有目标类型的锁时再获取来源类型的锁
+            propertyOperate(sourceClass);
+            synchronized (targetClass) {
+                if (!bindings.containsKey(targetClass)) {
+                    bindings.put(targetClass, new ConstructorBinding<>(sourceClass, targetClass).init());
+                }
+            }
+        }
+        return (ConstructorBinding<T>) bindings.get(targetClass);
+    }
+
+    /**
+     * 创建按名称将值数组的各列绑定到目标类构造器参数的计划, 不做缓存, 调用方应持有并复用
+     *
+     * @param targetClass 目标类型
+     * @param valueNames  值数组各列的名称
+     * @param <T>         目标类型
+     */
+    public static <T> ConstructorBinding<T> constructorBinding(Class<T> targetClass, String... valueNames) {
+        return new ConstructorBinding<>(targetClass, valueNames).init();
+    }
+
+    /**
+     * 创建堆外 Bean 存储区, 存储区持有堆外内存, 不做缓存, 用完需调用 free 释放
+     *
+     * @param pojoClass 任意的Class类型, 其实例属性只能是基本数据类型或字符串
+     * @param <T>       Bean 类型
+     */
+    public static <T> BeanArena<T> beanArena(Class<T> pojoClass) {
+        return new BeanArena<>(pojoClass);
+    }
+
+    /**
+     * 创建 Bean 过滤器, 字段访问器取自缓存的字段操作, 过滤器本身不做缓存, 调用方应持有并复用
+     *
+     * @param pojoClass 任意的Class类型
+     * @param <T>       Bean 类型
+     */
+    public static <T> BeanFilter<T> filter(Class<T> pojoClass) {
+        return new BeanFilter<>(pojoClass, fieldOperate(pojoClass));
+    }
+
+    /**
+     * 获得按多个字段排序的比较器, null 值排在最后. 相同的 (Bean 类型, 排序字段) 只创建一次
+     *
+     * @param pojoClass 任意的Class类型
+     * @param fields    排序字段, 以 "-" 开头表示降序, 如 "region", "-score", "id"
+     * @param <T>       Bean 类型
+     */
+    public static <T> BeanComparator<T> comparator(Class<T> pojoClass, String... fields) {
+        return comparator(pojoClass, false, fields);
+    }
+
+    /**
+     * 获得按多个字段排序的比较器. 相同的 (Bean 类型, null 值顺序, 排序字段) 只创建一次
+     *
+     * @param pojoClass  任意的Class类型
+     * @param nullsFirst null 值是否排在最前, 与升降序无关
+     * @param fields     排序字段, 以 "-" 开头表示降序, 如 "region", "-score", "id"
+     * @param <T>        Bean 类型
+     */
+    public static <T> BeanComparator<T> comparator(Class<T> pojoClass, boolean nullsFirst, String... fields) {
+        Map<String, BeanComparator<?>> comparators = ComparatorCacheHolder.cache.get(pojoClass);
+        if (comparators == null) {
+            synchronized (pojoClass) {
+                comparators = ComparatorCacheHolder.cache.get(pojoClass);
+                if (comparators == null) {
+                    comparators = new ConcurrentHashMap<>();
+                    ComparatorCacheHolder.cache.put(pojoClass, comparators);
+                }
+            }
+        }
+        StringBuilder key = new StringBuilder(nullsFirst ? "nullsFirst" : "nullsLast");
+        for (String field : fields) {
+            key.append(',').append(field);
+        }
+        String cacheKey = key.toString();
+        BeanComparator<?> comparator = comparators.get(cacheKey);
+        if (comparator == null) {
+            synchronized (pojoClass) {
+                comparator = comparators.get(cacheKey);
+                if (comparator == null) {
+                    comparator = new BeanComparator<>(pojoClass, fieldOperate(pojoClass), nullsFirst, fields);
+                    comparators.put(cacheKey, comparator);
+                }
+            }
+        }
+        return (BeanComparator<T>) comparator;
+    }
+
+    /**
+     * 获得 Bean 的 JSON 写出计划, 每个类型只创建一次, 嵌套的 Bean 及集合元素复用其类型的计划
+     *
+     * @param pojoClass 任意的Class类型
+     * @param <T>       Bean 类型
+     */
+    public static <T> BeanJsonWriter<T> jsonWriter(Class<T> pojoClass) {
+        BeanJsonWriter<?> writer = JsonWriterCacheHolder.cache.get(pojoClass);
+        if (writer == null) {
+            synchronized (pojoClass) {
+                writer = JsonWriterCacheHolder.cache.get(pojoClass);
+                if (writer == null) {
+                    writer = new BeanJsonWriter<>(pojoClass, fieldOperate(pojoClass));
+                    JsonWriterCacheHolder.cache.put(pojoClass, writer);
+                }
+            }
+        }
+        return (BeanJsonWriter<T>) writer;
+    }
+
+    /**
+     * 获得将来源对象中不为 null 且不为默认值的属性合并到目标对象的计划, 每对 (来源类型, 目标类型) 只配对一次.
+     * 缓存的计划全部使用 OVERWRITE 策略, 修改策略返回的新计划不做缓存, 调用方应持有并复用
+     *
+     * @param sourceClass 来源类型
+     * @param targetClass 目标类型
+     * @param <S>         来源类型
+     * @param <D>         目标类型
+     */
+    public static <S, D> BeanMerger<S, D> merger(Class<S> sourceClass, Class<D> targetClass) {
+        Map<Class<?>, BeanMerger<?, ?>> mergers = MergerCacheHolder.cache.get(sourceClass);
+        if (mergers == null) {
+            synchronized (sourceClass) {
+                mergers = MergerCacheHolder.cache.get(sourceClass);
+                if (mergers == null) {
+                    mergers = new ConcurrentHashMap<>();
+                    MergerCacheHolder.cache.put(sourceClass, mergers);
+                }
+            }
+        }
+        if (!mergers.containsKey(targetClass)) {
+            synchronized (targetClass) {
+                if (!mergers.containsKey(targetClass)) {
+                    mergers.put(targetClass, new BeanMerger<>(sourceClass, targetClass, fieldOperate(sourceClass), fieldOperate(targetClass)));
+                }
+            }
+        }
+        return (BeanMerger<S, D>) mergers.get(targetClass);
+    }
+
+    /**
+     * 估算全部缓存的操作实例及其共享的类元数据的堆内存占用.
+     * 只统计字段、方法、构造器操作实例及类元数据; 属性操作、构造器绑定、比较器、JSON 写出及合并计划的缓存不在统计范围内,
+     * 这些计划复用上述操作实例的字段访问器, 自身只持有按属性排列的小数组
+     *
+     * @return 返回内存占用报告
+     */
+    public static CacheFootprint footprint() {
+        long fieldOperatorBytes = 0;
+        for (FieldOperator fieldOperator : FieldOperatorCacheHolder.cache.values()) {
+            fieldOperatorBytes += fieldOperator.footprint();
+        }
+        for (FieldOperator fieldOperator : LazyFieldOperatorCacheHolder.cache.values()) {
+            fieldOperatorBytes += fieldOperator.footprint();
+        }
+        long methodOperatorBytes = 0;
+        for (MethodOperator methodOperator : MethodOperatorCacheHolder.cache.values()) {
+            methodOperatorBytes += methodOperator.footprint();
+        }
+        for (MethodOperator methodOperator : LazyMethodOperatorCacheHolder.cache.values()) {
+            methodOperatorBytes += methodOperator.footprint();
+        }
+        long constructorOperatorBytes = 0;
+        for (ConstructorOperator constructorOperator : ConstructorOperatorCacheHolder.cache.values()) {
+            constructorOperatorBytes += constructorOperator.footprint();
+        }
+        int sharedMetadata = 0;
+        long sharedMetadataBytes = 0;
+        for (DeclaredFields declaredFields : DeclaredFields.cached()) {
+            sharedMetadata++;
+            sharedMetadataBytes += declaredFields.footprint();
+        }
+        for (DeclaredMethods declaredMethods : DeclaredMethods.cached()) {
+            sharedMetadata++;
+            sharedMetadataBytes += declaredMethods.footprint();
+        }
+        return new CacheFootprint(FieldOperatorCacheHolder.cache.size() + LazyFieldOperatorCacheHolder.cache.size(), fieldOperatorBytes,
+                MethodOperatorCacheHolder.cache.size() + LazyMethodOperatorCacheHolder.cache.size(), methodOperatorBytes,
+                ConstructorOperatorCacheHolder.cache.size(), constructorOperatorBytes,
+                sharedMetadata, sharedMetadataBytes);
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.github.fanlychie.beanutils;
+
+/**
+ * BeanUtils 缓存的内存占用报告, 各项均为估算的堆内存字节数.
+ * 只包括字段、方法、构造器操作实例及其共享的类元数据, 不包括属性操作、构造器绑定、比较器、JSON 写出及合并计划的缓存
+ */
+public class CacheFootprint {
+
+    /**
+     * 缓存的 FieldOperator 数量
+     */
+    private int fieldOperators;
+
+    /**
+     * 缓存的 FieldOperator 自身的字节数
+     */
+    private long fieldOperatorBytes;
+
+    /**
+     * 缓存的 MethodOperator 数量
+     */
+    private int methodOperators;
+
+    /**
+     * 缓存的 MethodOperator 自身的字节数
+     */
+    private long methodOperatorBytes;
+
+    /**
+     * 缓存的 ConstructorOperator 数量
+     */
+    private int constructorOperators;
+
+    /**
+     * 缓存的 ConstructorOperator 的字节数
+     */
+    private long constructorOperatorBytes;
+
+    /**
+     * 操作实例共享的类元数据数量
+     */
+    private int sharedMetadata;
+
+    /**
+     * 操作实例共享的类元数据的字节数
+     */
+    private long sharedMetadataBytes;
+
+    CacheFootprint(int fieldOperators, long fieldOperatorBytes, int methodOperators, long methodOperatorBytes,
+                   int constructorOperators, long constructorOperatorBytes, int sharedMetadata, long sharedMetadataBytes) {
+        this.fieldOperators = fieldOperators;
+        this.fieldOperatorBytes = fieldOperatorBytes;
+        this.methodOperators = methodOperators;
+        this.methodOperatorBytes = methodOperatorBytes;
+        this.constructorOperators = constructorOperators;
+        this.constructorOperatorBytes = constructorOperatorBytes;
+        this.sharedMetadata = sharedMetadata;
+        this.sharedMetadataBytes = sharedMetadataBytes;
+    }
+
+    public int getFieldOperators() {
+        return fieldOperators;
+    }
+
+    public long getFieldOperatorBytes() {
+        return fieldOperatorBytes;
+    }
+
+    public int getMethodOperators() {
+        return methodOperators;
+    }
+
+    public long getMethodOperatorBytes() {
+        return methodOperatorBytes;
+    }
+
+    public int getConstructorOperators() {
+        return constructorOperators;
+    }
+
+    public long getConstructorOperatorBytes() {
+        return constructorOperatorBytes;
+    }
+
+    public int getSharedMetadata() {
+        return sharedMetadata;
+    }
+
+    public long getSharedMetadataBytes() {
+        return sharedMetadataBytes;
+    }
+
+    /**
+     * 获取全部缓存的字节数
+     *
+     * @return 返回全部缓存的字节数
+     */
+    public long getTotalBytes() {
+        return fieldOperatorBytes + methodOperatorBytes + constructorOperatorBytes + sharedMetadataBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "fieldOperators=" + fieldOperators + " (" + fieldOperatorBytes + " bytes)"
+                + ", methodOperators=" + methodOperators + " (" + methodOperatorBytes + " bytes)"
+                + ", constructorOperators=" + constructorOperators + " (" + constructorOperatorBytes + " bytes)"
+                + ", sharedMetadata=" + sharedMetadata + " (" + sharedMetadataBytes + " bytes)"
+                + ", totalBytes=" + getTotalBytes();
+    }
+
+}
@@ -0,0 +1,197 @@
+package com.github.fanlychie.beanutils.accessor;
+
+import com.github.fanlychie.beanutils.exception.ReflectCastException;
+
+import java.lang.reflect.Field;
+
+/**
+ * 字段访问器, 绑定到单个字段属性, 由 FieldAccessorFactory 按运行时选择的后端创建.
+ * 基本数据类型的读取方法默认经由 get 拆箱, 后端可覆盖以避免装箱
+ */
+public abstract class FieldAccessor {
+
+    /**
+     * 绑定的字段属性
+     */
+    private final Field field;
+
+    /**
+     * 构建实例
+     *
+     * @param field 字段属性
+     */
+    protected FieldAccessor(Field field) {
+        this.field = field;
+    }
+
+    /**
+     * 获取绑定的字段属性
+     *
+     * @return 返回绑定的字段属性
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * 获取属性值
+     *
+     * @param obj 具体对象, 静态属性传 null
+     * @return 返回属性值
+     */
+    public abstract Object get(Object obj);
+
+    /**
+     * 设置属性值
+     *
+     * @param obj   具体对象, 静态属性传 null
+     * @param value 值
+     */
+    public abstract void set(Object obj, Object value);
+
+    public int getInt(Object obj) {
+        return ((Number) get(obj)).intValue();
+    }
+
+    public long getLong(Object obj) {
+        return ((Number) get(obj)).longValue();
+    }
+
+    public double getDouble(Object obj) {
+        return ((Number) get(obj)).doubleValue();
+    }
+
+    public float getFloat(Object obj) {
+        return ((Number) get(obj)).floatValue();
+    }
+
+    public short getShort(Object obj) {
+        return ((Number) get(obj)).shortValue();
+    }
+
+    public byte getByte(Object obj) {
+        return ((Number) get(obj)).byteValue();
+    }
+
+    public char getChar(Object obj) {
+        return (Character) get(obj);
+    }
+
+    public boolean getBoolean(Object obj) {
+        return (Boolean) get(obj);
+    }
+
+    /**
+     * 经由反射设置属性值, 供后端在值的类型与字段类型不完全一致时退回, 使转换规则及异常与 Field.set 一致
+     *
+     * @param obj   具体对象, 静态属性传 null
+     * @param value 值
+     */
+    protected final void setReflectively(Object obj, Object value) {
+        try {
+            field.set(obj, value);
+        } catch (IllegalAccessException e) {
+            throw new ReflectCastException(e);
+        }
+    }
+
+    // 以下方法按 Field.set 的拆箱及拓宽基本类型转换规则取得基本数据类型的值, 供生成的访问器使用
+
+    protected final int toInt(Object value) {
+        if (value instanceof Integer) {
+            return (Integer) value;
+        } else if (value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+        } else if (value instanceof Character) {
+            return (Character) value;
+        }
+        throw cannotSet(value);
+    }
+
+    protected final long toLong(Object value) {
+        if (value instanceof Long) {
+            return (Long) value;
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        } else if (value instanceof Character) {
+            return (Character) value;
+        }
+        throw cannotSet(value);
+    }
+
+    protected final double toDouble(Object value) {
+        if (value instanceof Double) {
+            return (Double) value;
+        } else if (value instanceof Float || value instanceof Long || value instanceof Integer
+                || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).doubleValue();
+        } else if (value instanceof Character) {
+            return (Character) value;
+        }
+        throw cannotSet(value);
+    }
+
+    protected final float toFloat(Object value) {
+        if (value instanceof Float) {
+            return (Float) value;
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).floatValue();
+        } else if (value instanceof Character) {
+            return (Character) value;
+        }
+        throw cannotSet(value);
+    }
+
+    protected final short toShort(Object value) {
+        if (value instanceof Short || value instanceof Byte) {
+            return ((Number) value).shortValue();
+        }
+        throw cannotSet(value);
+    }
+
+    protected final byte toByte(Object value) {
+        if (value instanceof Byte) {
+            return (Byte) value;
+        }
+        throw cannotSet(value);
+    }
+
+    protected final char toChar(Object value) {
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        throw cannotSet(value);
+    }
+
+    protected final boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        throw cannotSet(value);
+    }
+
+    /**
+     * 校验引用类型的值能否赋给字段, 供生成的访问器使用
+     *
+     * @param value 值
+     * @return 返回原值
+     */
+    protected final Object checkType(Object value) {
+        if (value != null && !field.getType().isInstance(value)) {
+            throw cannotSet(value);
+        }
+        return value;
+    }
+
+    private IllegalArgumentException cannotSet(Object value) {
+        return new IllegalArgumentException("Can not set " + field.getType().getName() + " field "
+                + field.getDeclaringClass().getName() + "." + field.getName() + " to "
+                + (value == null ? "null value" : value.getClass().getName()));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + field + "]";
+    }
+
+}
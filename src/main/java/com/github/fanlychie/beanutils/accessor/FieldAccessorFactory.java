@@ -0,0 +1,26 @@
+package com.github.fanlychie.beanutils.accessor;
+
+import java.lang.reflect.Field;
+
+/**
+ * 字段访问器工厂, 每个实现对应一种访问后端.
+ * 创建的访问器写入时须与 Field.set 的转换规则及异常一致, 使各后端之间以及分层访问器升级前后的行为相同
+ */
+public abstract class FieldAccessorFactory {
+
+    /**
+     * 获取后端名称
+     *
+     * @return 返回后端名称
+     */
+    public abstract String getName();
+
+    /**
+     * 创建字段访问器
+     *
+     * @param field 已设置为可访问的字段属性
+     * @return 返回字段访问器, 当前后端不支持该字段时返回 null, 由下一级后端处理
+     */
+    public abstract FieldAccessor newAccessor(Field field);
+
+}
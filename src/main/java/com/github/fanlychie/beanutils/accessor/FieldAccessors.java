@@ -0,0 +1,173 @@
+package com.github.fanlychie.beanutils.accessor;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 字段访问后端选择器. 多版本 JAR 中, Java 9+ 提供 VarHandle 后端, Java 15+ 提供隐藏类后端,
+ * 运行时自动选择当前 JVM 可用的最优后端, 可通过系统属性 beanutils.accessor 强制指定(reflect, varhandle, hiddenclass).
+ * 选定的后端不支持某字段时, 依次降级到更低一级的后端. 指定为 tiered 时, 字段先以反射访问, 调用次数达到阈值后才升级到最优后端
+ */
+public final class FieldAccessors {
+
+    /**
+     * 用于强制指定后端的系统属性名称
+     */
+    public static final String BACKEND_PROPERTY = "beanutils.accessor";
+
+    /**
+     * 隐藏类后端名称
+     */
+    public static final String HIDDEN_CLASS = "hiddenclass";
+
+    /**
+     * VarHandle 后端名称
+     */
+    public static final String VAR_HANDLE = "varhandle";
+
+    /**
+     * 反射后端名称
+     */
+    public static final String REFLECT = ReflectFieldAccessor.NAME;
+
+    /**
+     * 分层模式名称
+     */
+    public static final String TIERED = TieredFieldAccessor.NAME;
+
+    /**
+     * 后端名称, 按优先级从高到低排列
+     */
+    private static final String[] BACKENDS = {HIDDEN_CLASS, VAR_HANDLE, REFLECT};
+
+    /**
+     * 后端实现类名称, 与 BACKENDS 一一对应
+     */
+    private static final String[] FACTORY_CLASSES = {
+            "com.github.fanlychie.beanutils.accessor.HiddenClassFieldAccessorFactory",
+            "com.github.fanlychie.beanutils.accessor.VarHandleFieldAccessorFactory",
+            "com.github.fanlychie.beanutils.accessor.ReflectFieldAccessor$Factory"
+    };
+
+    // 当第一次被调用时才装载进内存, 延迟加载
+    private static class FactoryChainHolder {
+        // 选定的后端及其降级后端
+        private static final List<FieldAccessorFactory> chain = lookupFactoryChain(System.getProperty(BACKEND_PROPERTY));
+        // 是否为分层模式
+        private static final boolean tiered = isTiered(System.getProperty(BACKEND_PROPERTY));
+    }
+
+    private FieldAccessors() {}
+
+    /**
+     * 创建字段访问器
+     *
+     * @param field 已设置为可访问的字段属性
+     * @return 返回字段访问器
+     */
+    public static FieldAccessor newAccessor(Field field) {
+        if (FactoryChainHolder.tiered) {
+            return new TieredFieldAccessor(field, FactoryChainHolder.chain);
+        }
+        for (FieldAccessorFactory factory : FactoryChainHolder.chain) {
+            FieldAccessor accessor = factory.newAccessor(field);
+            if (accessor != null) {
+                return accessor;
+            }
+        }
+        return new ReflectFieldAccessor(field);
+    }
+
+    /**
+     * 获取当前选定的后端名称
+     *
+     * @return 返回当前选定的后端名称
+     */
+    public static String getBackend() {
+        return FactoryChainHolder.tiered ? TIERED : FactoryChainHolder.chain.get(0).getName();
+    }
+
+    /**
+     * 获取分层模式下已升级到优化访问器的字段属性
+     *
+     * @return 返回按升级顺序排列的只读字段属性集合
+     */
+    public static List<Field> getPromotedFields() {
+        return TieredFieldAccessor.getPromotedFields();
+    }
+
+    /**
+     * 获取当前 JVM 可用的后端名称
+     *
+     * @return 返回可用的后端名称, 按优先级从高到低排列
+     */
+    public static List<String> getAvailableBackends() {
+        List<String> list = new ArrayList<>();
+        for (int i = 0; i < BACKENDS.length; i++) {
+            if (loadFactory(FACTORY_CLASSES[i]) != null) {
+                list.add(BACKENDS[i]);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * 查找后端链
+     *
+     * @param backend 强制指定的后端名称, 为 null 或空串时自动选择
+     * @return 返回选定的后端及其降级后端
+     */
+    private static List<FieldAccessorFactory> lookupFactoryChain(String backend) {
+        int start = 0;
+        if (backend != null && !backend.trim().isEmpty() && !isTiered(backend)) {
+            start = -1;
+            for (int i = 0; i < BACKENDS.length; i++) {
+                if (BACKENDS[i].equalsIgnoreCase(backend.trim())) {
+                    start = i;
+                }
+            }
+            if (start < 0) {
+                throw new IllegalStateException("unknown " + BACKEND_PROPERTY + " backend: " + backend);
+            }
+            if (loadFactory(FACTORY_CLASSES[start]) == null) {
+                throw new IllegalStateException(backend + " backend is not available on java "
+                        + System.getProperty("java.specification.version"));
+            }
+        }
+        List<FieldAccessorFactory> chain = new ArrayList<>();
+        for (int i = start; i < BACKENDS.length; i++) {
+            FieldAccessorFactory factory = loadFactory(FACTORY_CLASSES[i]);
+            if (factory != null) {
+                chain.add(factory);
+            }
+        }
+        return Collections.unmodifiableList(chain);
+    }
+
+    /**
+     * 判断是否为分层模式
+     *
+     * @param backend 强制指定的后端名称
+     * @return 为分层模式时返回 true, 否则返回 false
+     */
+    private static boolean isTiered(String backend) {
+        return backend != null && TIERED.equalsIgnoreCase(backend.trim());
+    }
+
+    /**
+     * 装载后端工厂, 类不存在(低版本 JVM 不读取多版本目录)或版本不兼容时返回 null
+     *
+     * @param className 后端实现类名称
+     * @return 返回后端工厂
+     */
+    private static FieldAccessorFactory loadFactory(String className) {
+        try {
+            return (FieldAccessorFactory) Class.forName(className).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+}
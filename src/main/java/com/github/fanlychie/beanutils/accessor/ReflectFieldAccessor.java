@@ -0,0 +1,128 @@
+package com.github.fanlychie.beanutils.accessor;
+
+import com.github.fanlychie.beanutils.exception.ReflectCastException;
+
+import java.lang.reflect.Field;
+
+/**
+ * 基于反射的字段访问器, 适用于所有 Java 版本
+ */
+public class ReflectFieldAccessor extends FieldAccessor {
+
+    /**
+     * 后端名称
+     */
+    public static final String NAME = "reflect";
+
+    public ReflectFieldAccessor(Field field) {
+        super(field);
+    }
+
+    @Override
+    public Object get(Object obj) {
+        try {
+            return getField().get(obj);
+        } catch (IllegalAccessException e) {
+            throw new ReflectCastException(e);
+        }
+    }
+
+    @Override
+    public void set(Object obj, Object value) {
+        try {
+            getField().set(obj, value);
+        } catch (IllegalAccessException e) {
+            throw new ReflectCastException(e);
+        }
+    }
+
+    @Override
+    public int getInt(Object obj) {
+        try {
+            return getField().getInt(obj);
+        } catch (IllegalAccessException e) {
+            throw new ReflectCastException(e);
+        }
+    }
+
+    @Override
+    public long getLong(Object obj) {
+        try {
+            return getField().getLong(obj);
+        } catch (IllegalAccessException e) {
+            throw new ReflectCastException(e);
+        }
+    }
+
+    @Override
+    public double getDouble(Object obj) {
+        try {
+            return getField().getDouble(obj);
+        } catch (IllegalAccessException e) {
+            throw new ReflectCastException(e);
+        }
+    }
+
+    @Override
+    public float getFloat(Object obj) {
+        try {
+            return getField().getFloat(obj);
+        } catch (IllegalAccessException e) {
+            throw new ReflectCastException(e);
+        }
+    }
+
+    @Override
+    public short getShort(Object obj) {
+        try {
+            return getField().getShort(obj);
+        } catch (IllegalAccessException e) {
+            throw new ReflectCastException(e);
+        }
+    }
+
+    @Override
+    public byte getByte(Object obj) {
+        try {
+            return getField().getByte(obj);
+        } catch (IllegalAccessException e) {
+            throw new ReflectCastException(e);
+        }
+    }
+
+    @Override
+    public char getChar(Object obj) {
+        try {
+            return getField().getChar(obj);
+        } catch (IllegalAccessException e) {
+            throw new ReflectCastException(e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object obj) {
+        try {
+            return getField().getBoolean(obj);
+        } catch (IllegalAccessException e) {
+            throw new ReflectCastException(e);
+        }
+    }
+
+    /**
+     * 反射后端工厂
+     */
+    public static class Factory extends FieldAccessorFactory {
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public FieldAccessor newAccessor(Field field) {
+            return new ReflectFieldAccessor(field);
+        }
+
+    }
+
+}
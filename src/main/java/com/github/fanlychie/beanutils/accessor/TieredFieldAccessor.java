@@ -0,0 +1,318 @@
+package com.github.fanlychie.beanutils.accessor;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 分层字段访问器, 先以反射访问字段并统计调用次数, 次数达到阈值后由后台线程创建优化的访问器并替换.
+ * 调用次数分散到多个计数槽, 计数槽之间以填充隔开. 线程按轮转分配计数槽, 在计数槽上发生竞争时换到下一个计数槽,
+ * 避免多线程竞争同一缓存行. 只升级到与反射的转换规则及异常一致的后端, 升级前后的行为相同
+ */
+public class TieredFieldAccessor extends FieldAccessor {
+
+    /**
+     * 后端名称
+     */
+    public static final String NAME = "tiered";
+
+    /**
+     * 用于指定升级阈值的系统属性名称
+     */
+    public static final String THRESHOLD_PROPERTY = "beanutils.accessor.tiered.threshold";
+
+    /**
+     * 默认的升级阈值
+     */
+    public static final int DEFAULT_THRESHOLD = 1000;
+
+    /**
+     * 升级阈值
+     */
+    private static final int THRESHOLD = Math.max(1, Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD));
+
+    /**
+     * 计数槽数量, 不超过处理器数量的 2 的幂, 最多 4 个
+     */
+    private static final int STRIPES = Math.min(4, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * 相邻计数槽之间的间隔(以 long 计), 使每个计数槽独占一个 64 字节的缓存行
+     */
+    private static final int PADDING = 8;
+
+    /**
+     * 每个计数槽需要达到的次数, 达到时再汇总全部计数槽
+     */
+    private static final int STRIPE_THRESHOLD = (THRESHOLD + STRIPES - 1) / STRIPES;
+
+    /**
+     * 记录的已升级字段属性数量上限
+     */
+    private static final int MAX_PROMOTED_RECORDS = 1024;
+
+    /**
+     * 最近升级的字段属性, 弱引用, 不阻止字段所属的类被卸载
+     */
+    private static final ConcurrentLinkedQueue<WeakReference<Field>> PROMOTED = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 已记录的升级字段属性数量
+     */
+    private static final AtomicInteger PROMOTED_RECORDS = new AtomicInteger();
+
+    /**
+     * 下一个线程分配到的计数槽
+     */
+    private static final AtomicInteger NEXT_STRIPE = new AtomicInteger();
+
+    /**
+     * 当前线程使用的计数槽, 发生竞争时递增
+     */
+    private static final ThreadLocal<int[]> STRIPE = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[]{NEXT_STRIPE.getAndIncrement()};
+        }
+    };
+
+    // 当第一次被调用时才装载进内存, 延迟加载
+    private static class PromoterHolder {
+        // 单个后台守护线程负责创建优化的访问器
+        private static final ExecutorService promoter = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "beanutils-accessor-promoter");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * 创建优化访问器的后端链
+     */
+    private final List<FieldAccessorFactory> chain;
+
+    /**
+     * 当前使用的访问器
+     */
+    private volatile FieldAccessor delegate;
+
+    /**
+     * 调用次数计数槽, 升级后或没有可升级的后端时为 null
+     */
+    private volatile AtomicLongArray counters;
+
+    /**
+     * 是否已提交升级
+     */
+    private final AtomicBoolean promoting = new AtomicBoolean();
+
+    /**
+     * 构建实例
+     *
+     * @param field 已设置为可访问的字段属性
+     * @param chain 创建优化访问器的后端链, 依次尝试, 其中的反射后端会被忽略
+     */
+    public TieredFieldAccessor(Field field, List<FieldAccessorFactory> chain) {
+        super(field);
+        List<FieldAccessorFactory> list = new ArrayList<>();
+        for (FieldAccessorFactory factory : chain) {
+            if (!ReflectFieldAccessor.NAME.equals(factory.getName())) {
+                list.add(factory);
+            }
+        }
+        this.chain = list;
+        this.delegate = new ReflectFieldAccessor(field);
+        // 没有可升级的后端时保持反射访问, 不再计数
+        this.counters = list.isEmpty() ? null : new AtomicLongArray(STRIPES * PADDING);
+    }
+
+    /**
+     * 获取最近升级的字段属性, 最多保留 1024 个, 已被回收的字段不再列出
+     *
+     * @return 返回按升级顺序排列的只读字段属性集合
+     */
+    public static List<Field> getPromotedFields() {
+        List<Field> fields = new ArrayList<>();
+        for (WeakReference<Field> reference : PROMOTED) {
+            Field field = reference.get();
+            if (field != null) {
+                fields.add(field);
+            }
+        }
+        return Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * 获取升级阈值
+     *
+     * @return 返回升级阈值
+     */
+    public static int getThreshold() {
+        return THRESHOLD;
+    }
+
+    /**
+     * 判断是否已升级
+     *
+     * @return 已替换为优化的访问器时返回 true, 否则返回 false
+     */
+    public boolean isPromoted() {
+        return !(delegate instanceof ReflectFieldAccessor);
+    }
+
+    /**
+     * 获取当前使用的访问器
+     *
+     * @return 返回当前使用的访问器
+     */
+    public FieldAccessor getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 获取升级前统计的调用次数
+     *
+     * @return 返回调用次数, 已尝试升级或没有可升级的后端时返回 -1
+     */
+    public long getInvocationCount() {
+        AtomicLongArray counters = this.counters;
+        if (counters == null) {
+            return -1;
+        }
+        long sum = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            sum += counters.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    @Override
+    public Object get(Object obj) {
+        count();
+        return delegate.get(obj);
+    }
+
+    @Override
+    public void set(Object obj, Object value) {
+        count();
+        delegate.set(obj, value);
+    }
+
+    @Override
+    public int getInt(Object obj) {
+        count();
+        return delegate.getInt(obj);
+    }
+
+    @Override
+    public long getLong(Object obj) {
+        count();
+        return delegate.getLong(obj);
+    }
+
+    @Override
+    public double getDouble(Object obj) {
+        count();
+        return delegate.getDouble(obj);
+    }
+
+    @Override
+    public float getFloat(Object obj) {
+        count();
+        return delegate.getFloat(obj);
+    }
+
+    @Override
+    public short getShort(Object obj) {
+        count();
+        return delegate.getShort(obj);
+    }
+
+    @Override
+    public byte getByte(Object obj) {
+        count();
+        return delegate.getByte(obj);
+    }
+
+    @Override
+    public char getChar(Object obj) {
+        count();
+        return delegate.getChar(obj);
+    }
+
+    @Override
+    public boolean getBoolean(Object obj) {
+        count();
+        return delegate.getBoolean(obj);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + delegate + "]";
+    }
+
+    /**
+     * 统计一次调用, 当前线程的计数槽达到其份额时汇总全部计数槽, 达到阈值则提交升级
+     */
+    private void count() {
+        AtomicLongArray counters = this.counters;
+        if (counters == null) {
+            return;
+        }
+        int[] stripe = STRIPE.get();
+        int index = (stripe[0] & (STRIPES - 1)) * PADDING;
+        long count = counters.get(index) + 1;
+        if (!counters.compareAndSet(index, count - 1, count)) {
+            // 发生竞争, 此后换用下一个计数槽
+            stripe[0]++;
+            count = counters.incrementAndGet(index);
+        }
+        if (count >= STRIPE_THRESHOLD && (count == STRIPE_THRESHOLD || (count & 63) == 0)
+                && getInvocationCount() >= THRESHOLD && promoting.compareAndSet(false, true)) {
+            PromoterHolder.promoter.execute(new Runnable() {
+                @Override
+                public void run() {
+                    promote();
+                }
+            });
+        }
+    }
+
+    /**
+     * 创建优化的访问器并替换, 在后台线程中执行. 全部后端都不支持该字段时继续使用反射访问器, 且不计入已升级的字段
+     */
+    private void promote() {
+        FieldAccessor accessor = null;
+        for (FieldAccessorFactory factory : chain) {
+            try {
+                accessor = factory.newAccessor(getField());
+            } catch (RuntimeException | LinkageError e) {
+                accessor = null;
+            }
+            if (accessor != null) {
+                break;
+            }
+        }
+        if (accessor != null && !(accessor instanceof ReflectFieldAccessor)) {
+            delegate = accessor;
+            PROMOTED.add(new WeakReference<>(getField()));
+            if (PROMOTED_RECORDS.incrementAndGet() > MAX_PROMOTED_RECORDS && PROMOTED.poll() != null) {
+                PROMOTED_RECORDS.decrementAndGet();
+            }
+        }
+        counters = null;
+    }
+
+}
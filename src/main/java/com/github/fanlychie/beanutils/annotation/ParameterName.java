@@ -0,0 +1,22 @@
+package com.github.fanlychie.beanutils.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 声明构造器参数绑定的属性名称, 用于未以 -parameters 编译的类
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ParameterName {
+
+    /**
+     * 属性名称
+     */
+    String value();
+
+}
@@ -0,0 +1,886 @@
+package com.github.fanlychie.beanutils.arena;
+
+import com.github.fanlychie.beanutils.BeanUtils;
+import com.github.fanlychie.beanutils.exception.FieldOperateException;
+import com.github.fanlychie.beanutils.exception.ReflectCastException;
+import com.github.fanlychie.beanutils.operator.ConstructorBinding;
+import com.github.fanlychie.beanutils.operator.ConstructorOperator;
+import com.github.fanlychie.beanutils.operator.FieldOperator;
+import com.github.fanlychie.beanutils.util.ObjectSizeUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 堆外 Bean 存储区, 按 FieldOperator 查找到的基本数据类型及字符串属性布局, 将实例以固定步长紧凑地写入堆外内存页.
+ * 字符串属性以去重字符串池的下标存储, 池中的字符串在存储区释放前一直保留, 不同取值很多的字符串属性会使池持续增长.
+ * 非线程安全, 追加与释放需由调用方同步.
+ *
+ * @param <T> Bean 类型
+ */
+public class BeanArena<T> {
+
+    /**
+     * 默认每页容纳的记录数
+     */
+    public static final int DEFAULT_RECORDS_PER_PAGE = 4096;
+
+    /**
+     * 每页容纳的最大记录数
+     */
+    public static final int MAX_RECORDS_PER_PAGE = 1 << 30;
+
+    /**
+     * 字符串属性为 null 时存储的下标
+     */
+    private static final int NULL_STRING = -1;
+
+    /**
+     * 直接内存缓冲区在堆上的估算字节数(缓冲区对象及其 Cleaner)
+     */
+    private static final long DIRECT_BUFFER_OVERHEAD = 128;
+
+    /**
+     * 散列表每个条目在堆上的估算字节数
+     */
+    private static final long HASH_ENTRY_OVERHEAD = 32;
+
+    /**
+     * Bean 类型
+     */
+    private Class<T> pojoClass;
+
+    /**
+     * 用于实例化 Bean 的构造器操作, 类没有无参构造器时为 null
+     */
+    private ConstructorOperator constructorOperator;
+
+    /**
+     * 类没有无参构造器时, 按名称将记录的各属性绑定到构造器参数的计划, 在首次还原实例时创建
+     */
+    private ConstructorBinding<T> constructorBinding;
+
+    /**
+     * 还原实例时需在构造后逐个设置的属性槽位
+     */
+    private int[] settableSlots;
+
+    /**
+     * 按布局顺序排列的字段属性
+     */
+    private Field[] fields;
+
+    /**
+     * 字段属性的类型, 与 fields 一一对应
+     */
+    private Class<?>[] types;
+
+    /**
+     * 字段属性在记录内的偏移量, 与 fields 一一对应
+     */
+    private int[] offsets;
+
+    /**
+     * <属性名称, 槽位> 散列表
+     */
+    private Map<String, Integer> nameSlotMap;
+
+    /**
+     * 每条记录的字节数
+     */
+    private int stride;
+
+    /**
+     * 每页记录数的位移量(每页记录数为 2 的幂)
+     */
+    private int pageShift;
+
+    /**
+     * 页内记录下标掩码
+     */
+    private int pageMask;
+
+    /**
+     * 每页的字节数
+     */
+    private int pageBytes;
+
+    /**
+     * 堆外内存页
+     */
+    private List<ByteBuffer> pages = new ArrayList<>();
+
+    /**
+     * 字符串池
+     */
+    private List<String> strings = new ArrayList<>();
+
+    /**
+     * <字符串, 池下标> 散列表
+     */
+    private Map<String, Integer> stringIndex = new HashMap<>();
+
+    /**
+     * 记录数
+     */
+    private int size;
+
+    /**
+     * 是否已释放
+     */
+    private boolean freed;
+
+    /**
+     * 构建实例
+     *
+     * @param pojoClass Bean 类型, 其实例属性只能是基本数据类型或字符串
+     */
+    public BeanArena(Class<T> pojoClass) {
+        this(pojoClass, DEFAULT_RECORDS_PER_PAGE);
+    }
+
+    /**
+     * 构建实例
+     *
+     * @param pojoClass      Bean 类型, 其实例属性只能是基本数据类型或字符串
+     * @param recordsPerPage 每页容纳的记录数, 向上取整为 2 的幂, 每页的字节数不能超过 Integer.MAX_VALUE
+     */
+    public BeanArena(Class<T> pojoClass, int recordsPerPage) {
+        if (recordsPerPage <= 0 || recordsPerPage > MAX_RECORDS_PER_PAGE) {
+            throw new IllegalArgumentException("recordsPerPage must be in [1, " + MAX_RECORDS_PER_PAGE + "]: " + recordsPerPage);
+        }
+        this.pojoClass = pojoClass;
+        this.pageShift = 32 - Integer.numberOfLeadingZeros(recordsPerPage - 1);
+        this.pageMask = (1 << pageShift) - 1;
+        layout(BeanUtils.fieldOperate(pojoClass));
+        // 页内位置均小于每页的字节数, 限定后按 int 计算不会溢出
+        long bytes = (long) (pageMask + 1) * stride;
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("page of " + (pageMask + 1) + " records of " + stride
+                    + " bytes exceeds " + Integer.MAX_VALUE + " bytes, use fewer recordsPerPage");
+        }
+        this.pageBytes = (int) bytes;
+        try {
+            pojoClass.getDeclaredConstructor();
+            this.constructorOperator = BeanUtils.constructorOperate(pojoClass);
+        } catch (NoSuchMethodException e) {
+            // 没有无参构造器, 还原实例时按名称绑定构造器参数
+        }
+    }
+
+    /**
+     * 追加一个实例
+     *
+     * @param bean 实例对象
+     * @return 返回记录的下标
+     */
+    public int append(T bean) {
+        ensureCapacity(size + 1L);
+        write(size, bean);
+        return size++;
+    }
+
+    /**
+     * 批量追加实例, 一次性分配所需的内存页
+     *
+     * @param beans 实例对象集合
+     * @return 返回第一条追加记录的下标
+     */
+    public int appendAll(Collection<? extends T> beans) {
+        int first = size;
+        ensureCapacity((long) size + beans.size());
+        for (T bean : beans) {
+            write(size++, bean);
+        }
+        return first;
+    }
+
+    /**
+     * 将记录还原为真实的 Bean 实例. 类有无参构造器时使用 ConstructorOperator 调用无参构造器再设置各属性,
+     * 否则使用 ConstructorBinding 按名称将属性传给构造器参数, 再设置构造器未接收的非 final 属性
+     *
+     * @param index 记录下标
+     * @return 返回还原的实例对象
+     */
+    public T materialize(int index) {
+        checkIndex(index);
+        ByteBuffer page = pages.get(index >>> pageShift);
+        int base = (index & pageMask) * stride;
+        T bean;
+        if (constructorOperator != null) {
+            bean = constructorOperator.invokeConstructor();
+            if (settableSlots == null) {
+                settableSlots = allSlots();
+            }
+        } else {
+            ConstructorBinding<T> binding = getConstructorBinding();
+            Object[] values = new Object[fields.length];
+            for (int slot = 0; slot < fields.length; slot++) {
+                values[slot] = read(page, base + offsets[slot], types[slot]);
+            }
+            bean = binding.newInstanceFromValues(values);
+        }
+        try {
+            for (int slot : settableSlots) {
+                fields[slot].set(bean, read(page, base + offsets[slot], types[slot]));
+            }
+        } catch (IllegalAccessException e) {
+            throw new ReflectCastException(e);
+        }
+        return bean;
+    }
+
+    /**
+     * 创建一个可复用的享元视图, 通过 moveTo 定位记录后读取属性值, 读取时不创建 Bean 实例
+     *
+     * @return 返回享元视图
+     */
+    public Flyweight flyweight() {
+        return new Flyweight();
+    }
+
+    /**
+     * 获取属性的槽位, 享元视图可按槽位读取以省去名称查找
+     *
+     * @param name 属性名称
+     * @return 返回属性的槽位
+     */
+    public int slotOf(String name) {
+        Integer slot = nameSlotMap.get(name);
+        if (slot == null) {
+            throw new FieldOperateException(name + " property can not be found in arena of " + pojoClass);
+        }
+        return slot;
+    }
+
+    /**
+     * 获取记录数
+     *
+     * @return 返回记录数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 获取每条记录的字节数
+     *
+     * @return 返回每条记录的字节数
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * 显式释放堆外内存并清空字符串池, 释放后不可再访问, 已定位的享元视图读取时抛出 IllegalStateException
+     */
+    public void free() {
+        if (freed) {
+            return;
+        }
+        freed = true;
+        for (ByteBuffer page : pages) {
+            release(page);
+        }
+        pages.clear();
+        strings.clear();
+        stringIndex.clear();
+        size = 0;
+    }
+
+    /**
+     * 是否已释放
+     *
+     * @return 已释放返回 true, 否则返回 false
+     */
+    public boolean isFreed() {
+        return freed;
+    }
+
+    /**
+     * 统计内存占用, 并与存储相同记录的 ArrayList&lt;T&gt; 的堆内存占用对比(按每个实例各自持有其字符串估算)
+     *
+     * @return 返回内存占用报告
+     */
+    public Footprint footprint() {
+        long heapBytes = ObjectSizeUtils.shallowSizeOf(getClass())
+                + ObjectSizeUtils.sizeOfArray(Object.class, pages.size())
+                + pages.size() * DIRECT_BUFFER_OVERHEAD
+                + ObjectSizeUtils.sizeOfArray(Object.class, strings.size())
+                + ObjectSizeUtils.sizeOfArray(Object.class, Integer.highestOneBit(Math.max(1, stringIndex.size())) << 1)
+                + stringIndex.size() * (ObjectSizeUtils.shallowSizeOf(Integer.class) + HASH_ENTRY_OVERHEAD);
+        for (String value : strings) {
+            heapBytes += ObjectSizeUtils.sizeOf(value);
+        }
+        long offHeapBytes = (long) pages.size() * pageBytes;
+        long listBytes = ObjectSizeUtils.align(ObjectSizeUtils.OBJECT_HEADER + 4 + 4 + ObjectSizeUtils.REFERENCE)
+                + ObjectSizeUtils.sizeOfArray(Object.class, size)
+                + size * ObjectSizeUtils.shallowSizeOf(pojoClass);
+        if (size > 0) {
+            Flyweight flyweight = flyweight();
+            for (int slot = 0; slot < fields.length; slot++) {
+                if (types[slot] == String.class) {
+                    for (int i = 0; i < size; i++) {
+                        listBytes += ObjectSizeUtils.sizeOf(flyweight.moveTo(i).getString(slot));
+                    }
+                }
+            }
+        }
+        return new Footprint(size, heapBytes, offHeapBytes, listBytes);
+    }
+
+    /**
+     * 获取构造器绑定计划, 首次调用时创建, 并记录构造后仍需设置的属性槽位
+     *
+     * @return 返回构造器绑定计划
+     */
+    private ConstructorBinding<T> getConstructorBinding() {
+        if (constructorBinding == null) {
+            String[] names = new String[fields.length];
+            for (int slot = 0; slot < fields.length; slot++) {
+                names[slot] = fields[slot].getName();
+            }
+            ConstructorBinding<T> binding = BeanUtils.constructorBinding(pojoClass, names);
+            List<String> parameterNames = binding.getParameterNames();
+            List<Integer> slots = new ArrayList<>();
+            for (int slot = 0; slot < fields.length; slot++) {
+                if (!parameterNames.contains(names[slot]) && !Modifier.isFinal(fields[slot].getModifiers())) {
+                    slots.add(slot);
+                }
+            }
+            int[] settable = new int[slots.size()];
+            for (int i = 0; i < settable.length; i++) {
+                settable[i] = slots.get(i);
+            }
+            settableSlots = settable;
+            constructorBinding = binding;
+        }
+        return constructorBinding;
+    }
+
+    /**
+     * 获取全部属性槽位
+     *
+     * @return 返回按顺序排列的全部槽位
+     */
+    private int[] allSlots() {
+        int[] slots = new int[fields.length];
+        for (int slot = 0; slot < slots.length; slot++) {
+            slots[slot] = slot;
+        }
+        return slots;
+    }
+
+    /**
+     * 计算字段布局, 按字段宽度降序排列以保证对齐
+     *
+     * @param fieldOperator 字段操作
+     */
+    private void layout(FieldOperator fieldOperator) {
+        List<Field> list = new ArrayList<>();
+        for (Field field : fieldOperator.getFields()) {
+            if (fieldOperator.isStatic(field)) {
+                continue;
+            }
+            Class<?> type = field.getType();
+            if (!type.isPrimitive() && type != String.class) {
+                throw new FieldOperateException(field.getName() + " property of " + type.getName()
+                        + " type can not be stored in arena of " + pojoClass);
+            }
+            list.add(field);
+        }
+        Field[] sorted = list.toArray(new Field[list.size()]);
+        Arrays.sort(sorted, new Comparator<Field>() {
+            @Override
+            public int compare(Field f1, Field f2) {
+                int c = widthOf(f2.getType()) - widthOf(f1.getType());
+                return c != 0 ? c : f1.getName().compareTo(f2.getName());
+            }
+        });
+        this.fields = sorted;
+        this.types = new Class<?>[sorted.length];
+        this.offsets = new int[sorted.length];
+        this.nameSlotMap = new HashMap<>();
+        int offset = 0;
+        for (int slot = 0; slot < sorted.length; slot++) {
+            types[slot] = sorted[slot].getType();
+            offsets[slot] = offset;
+            offset += widthOf(types[slot]);
+            nameSlotMap.put(sorted[slot].getName(), slot);
+        }
+        this.stride = Math.max(1, (offset + 7) & ~7);
+    }
+
+    /**
+     * 将实例写入记录
+     *
+     * @param index 记录下标
+     * @param bean  实例对象
+     */
+    private void write(int index, T bean) {
+        ByteBuffer page = pages.get(index >>> pageShift);
+        int base = (index & pageMask) * stride;
+        try {
+            for (int slot = 0; slot < fields.length; slot++) {
+                Field field = fields[slot];
+                Class<?> type = types[slot];
+                int position = base + offsets[slot];
+                if (type == int.class) {
+                    page.putInt(position, field.getInt(bean));
+                } else if (type == long.class) {
+                    page.putLong(position, field.getLong(bean));
+                } else if (type == double.class) {
+                    page.putDouble(position, field.getDouble(bean));
+                } else if (type == float.class) {
+                    page.putFloat(position, field.getFloat(bean));
+                } else if (type == short.class) {
+                    page.putShort(position, field.getShort(bean));
+                } else if (type == char.class) {
+                    page.putChar(position, field.getChar(bean));
+                } else if (type == byte.class) {
+                    page.put(position, field.getByte(bean));
+                } else if (type == boolean.class) {
+                    page.put(position, field.getBoolean(bean) ? (byte) 1 : (byte) 0);
+                } else {
+                    page.putInt(position, intern((String) field.get(bean)));
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new ReflectCastException(e);
+        }
+    }
+
+    /**
+     * 读取记录中的属性值
+     *
+     * @param page     内存页
+     * @param position 属性位置
+     * @param type     属性类型
+     * @return 返回属性值
+     */
+    private Object read(ByteBuffer page, int position, Class<?> type) {
+        if (type == int.class) {
+            return page.getInt(position);
+        } else if (type == long.class) {
+            return page.getLong(position);
+        } else if (type == double.class) {
+            return page.getDouble(position);
+        } else if (type == float.class) {
+            return page.getFloat(position);
+        } else if (type == short.class) {
+            return page.getShort(position);
+        } else if (type == char.class) {
+            return page.getChar(position);
+        } else if (type == byte.class) {
+            return page.get(position);
+        } else if (type == boolean.class) {
+            return page.get(position) != 0;
+        }
+        int index = page.getInt(position);
+        return index == NULL_STRING ? null : strings.get(index);
+    }
+
+    /**
+     * 将字符串放入字符串池
+     *
+     * @param value 字符串
+     * @return 返回字符串在池中的下标
+     */
+    private int intern(String value) {
+        if (value == null) {
+            return NULL_STRING;
+        }
+        Integer index = stringIndex.get(value);
+        if (index == null) {
+            index = strings.size();
+            strings.add(value);
+            stringIndex.put(value, index);
+        }
+        return index;
+    }
+
+    /**
+     * 确保内存页能容纳参数给定的记录数
+     *
+     * @param capacity 记录数
+     */
+    private void ensureCapacity(long capacity) {
+        if (freed) {
+            throw new IllegalStateException("arena of " + pojoClass + " has been freed");
+        }
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IllegalStateException("arena of " + pojoClass + " can not hold more than "
+                    + Integer.MAX_VALUE + " records");
+        }
+        while (((long) pages.size() << pageShift) < capacity) {
+            pages.add(ByteBuffer.allocateDirect(pageBytes).order(ByteOrder.nativeOrder()));
+        }
+    }
+
+    /**
+     * 检查记录下标
+     *
+     * @param index 记录下标
+     */
+    private void checkIndex(int index) {
+        if (freed) {
+            throw new IllegalStateException("arena of " + pojoClass + " has been freed");
+        }
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    /**
+     * 获取类型在记录中占用的字节数, 字符串按池下标存储占用 4 字节
+     *
+     * @param type 属性类型
+     * @return 返回占用的字节数
+     */
+    private static int widthOf(Class<?> type) {
+        return type == String.class ? 4 : ObjectSizeUtils.sizeOfType(type);
+    }
+
+    /**
+     * 立即释放直接内存缓冲区, 不支持时交由 GC 回收
+     *
+     * @param buffer 直接内存缓冲区
+     */
+    private static void release(ByteBuffer buffer) {
+        try {
+            // Java 9+
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+            return;
+        } catch (Exception e) {}
+        try {
+            // Java 7, 8
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                Method clean = cleaner.getClass().getMethod("clean");
+                clean.setAccessible(true);
+                clean.invoke(cleaner);
+            }
+        } catch (Exception e) {}
+    }
+
+    /**
+     * 享元视图, 定位到某条记录后直接从堆外内存读取属性值
+     */
+    public class Flyweight {
+
+        /**
+         * 当前记录所在的内存页
+         */
+        private ByteBuffer page;
+
+        /**
+         * 当前记录在内存页中的起始位置
+         */
+        private int base;
+
+        /**
+         * 当前记录下标
+         */
+        private int index = -1;
+
+        /**
+         * 定位到记录
+         *
+         * @param index 记录下标
+         * @return 返回当前视图
+         */
+        public Flyweight moveTo(int index) {
+            checkIndex(index);
+            this.page = pages.get(index >>> pageShift);
+            this.base = (index & pageMask) * stride;
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * 获取当前记录下标
+         *
+         * @return 返回当前记录下标
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * 按槽位读取当前记录的 int 类型属性值
+         *
+         * @param slot 属性槽位
+         * @return 返回属性值
+         */
+        public int getInt(int slot) {
+            return page.getInt(position(slot, int.class));
+        }
+
+        /**
+         * 按名称读取当前记录的 int 类型属性值
+         *
+         * @param name 属性名称
+         * @return 返回属性值
+         */
+        public int getInt(String name) {
+            return getInt(slotOf(name));
+        }
+
+        /**
+         * 按槽位读取当前记录的 long 类型属性值
+         *
+         * @param slot 属性槽位
+         * @return 返回属性值
+         */
+        public long getLong(int slot) {
+            return page.getLong(position(slot, long.class));
+        }
+
+        /**
+         * 按名称读取当前记录的 long 类型属性值
+         *
+         * @param name 属性名称
+         * @return 返回属性值
+         */
+        public long getLong(String name) {
+            return getLong(slotOf(name));
+        }
+
+        /**
+         * 按槽位读取当前记录的 double 类型属性值
+         *
+         * @param slot 属性槽位
+         * @return 返回属性值
+         */
+        public double getDouble(int slot) {
+            return page.getDouble(position(slot, double.class));
+        }
+
+        /**
+         * 按名称读取当前记录的 double 类型属性值
+         *
+         * @param name 属性名称
+         * @return 返回属性值
+         */
+        public double getDouble(String name) {
+            return getDouble(slotOf(name));
+        }
+
+        /**
+         * 按槽位读取当前记录的 float 类型属性值
+         *
+         * @param slot 属性槽位
+         * @return 返回属性值
+         */
+        public float getFloat(int slot) {
+            return page.getFloat(position(slot, float.class));
+        }
+
+        /**
+         * 按名称读取当前记录的 float 类型属性值
+         *
+         * @param name 属性名称
+         * @return 返回属性值
+         */
+        public float getFloat(String name) {
+            return getFloat(slotOf(name));
+        }
+
+        /**
+         * 按槽位读取当前记录的 short 类型属性值
+         *
+         * @param slot 属性槽位
+         * @return 返回属性值
+         */
+        public short getShort(int slot) {
+            return page.getShort(position(slot, short.class));
+        }
+
+        /**
+         * 按名称读取当前记录的 short 类型属性值
+         *
+         * @param name 属性名称
+         * @return 返回属性值
+         */
+        public short getShort(String name) {
+            return getShort(slotOf(name));
+        }
+
+        /**
+         * 按槽位读取当前记录的 char 类型属性值
+         *
+         * @param slot 属性槽位
+         * @return 返回属性值
+         */
+        public char getChar(int slot) {
+            return page.getChar(position(slot, char.class));
+        }
+
+        /**
+         * 按名称读取当前记录的 char 类型属性值
+         *
+         * @param name 属性名称
+         * @return 返回属性值
+         */
+        public char getChar(String name) {
+            return getChar(slotOf(name));
+        }
+
+        /**
+         * 按槽位读取当前记录的 byte 类型属性值
+         *
+         * @param slot 属性槽位
+         * @return 返回属性值
+         */
+        public byte getByte(int slot) {
+            return page.get(position(slot, byte.class));
+        }
+
+        /**
+         * 按名称读取当前记录的 byte 类型属性值
+         *
+         * @param name 属性名称
+         * @return 返回属性值
+         */
+        public byte getByte(String name) {
+            return getByte(slotOf(name));
+        }
+
+        /**
+         * 按槽位读取当前记录的 boolean 类型属性值
+         *
+         * @param slot 属性槽位
+         * @return 返回属性值
+         */
+        public boolean getBoolean(int slot) {
+            return page.get(position(slot, boolean.class)) != 0;
+        }
+
+        /**
+         * 按名称读取当前记录的 boolean 类型属性值
+         *
+         * @param name 属性名称
+         * @return 返回属性值
+         */
+        public boolean getBoolean(String name) {
+            return getBoolean(slotOf(name));
+        }
+
+        /**
+         * 按槽位读取当前记录的 String 类型属性值
+         *
+         * @param slot 属性槽位
+         * @return 返回属性值
+         */
+        public String getString(int slot) {
+            int stringIndex = page.getInt(position(slot, String.class));
+            return stringIndex == NULL_STRING ? null : strings.get(stringIndex);
+        }
+
+        /**
+         * 按名称读取当前记录的 String 类型属性值
+         *
+         * @param name 属性名称
+         * @return 返回属性值
+         */
+        public String getString(String name) {
+            return getString(slotOf(name));
+        }
+
+        /**
+         * 获取属性在内存页中的位置
+         *
+         * @param slot 属性槽位
+         * @param type 期望的属性类型
+         * @return 返回属性在内存页中的位置
+         */
+        private int position(int slot, Class<?> type) {
+            if (freed) {
+                // 内存页已释放, 继续读取将访问已归还的堆外内存
+                throw new IllegalStateException("arena of " + pojoClass + " has been freed");
+            }
+            if (page == null) {
+                throw new IllegalStateException("flyweight is not positioned, call moveTo first");
+            }
+            if (types[slot] != type) {
+                throw new FieldOperateException(fields[slot].getName() + " property is not a "
+                        + type.getName() + " type in arena of " + pojoClass);
+            }
+            return base + offsets[slot];
+        }
+
+    }
+
+    /**
+     * 内存占用报告
+     */
+    public static class Footprint {
+
+        /**
+         * 记录数
+         */
+        private int records;
+
+        /**
+         * 存储区的堆内存字节数
+         */
+        private long heapBytes;
+
+        /**
+         * 存储区的堆外内存字节数
+         */
+        private long offHeapBytes;
+
+        /**
+         * 等价 ArrayList 的堆内存字节数
+         */
+        private long listHeapBytes;
+
+        Footprint(int records, long heapBytes, long offHeapBytes, long listHeapBytes) {
+            this.records = records;
+            this.heapBytes = heapBytes;
+            this.offHeapBytes = offHeapBytes;
+            this.listHeapBytes = listHeapBytes;
+        }
+
+        public int getRecords() {
+            return records;
+        }
+
+        public long getHeapBytes() {
+            return heapBytes;
+        }
+
+        public long getOffHeapBytes() {
+            return offHeapBytes;
+        }
+
+        public long getListHeapBytes() {
+            return listHeapBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "records=" + records + ", arenaHeapBytes=" + heapBytes + ", arenaOffHeapBytes=" + offHeapBytes
+                    + ", arrayListHeapBytes=" + listHeapBytes;
+        }
+
+    }
+
+}
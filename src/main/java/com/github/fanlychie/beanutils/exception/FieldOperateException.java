@@ -6,8 +6,47 @@ package com.github.fanlychie.beanutils.exception;
  */
 public class FieldOperateException extends RuntimeException {
 
+    /**
+     * 找不到的属性名称, 用于延迟生成异常消息
+     */
+    private String fieldName;
+
+    /**
+     * 查找属性的类, 用于延迟生成异常消息
+     */
+    private Class<?> pojoClass;
+
+    /**
+     * 延迟生成的异常消息
+     */
+    private String message;
+
     public FieldOperateException(String message) {
         super(message);
     }
 
-}
\ No newline at end of file
+    /**
+     * 构建找不到属性的异常, 异常消息在首次调用 getMessage 时才生成
+     *
+     * @param fieldName          属性名称
+     * @param pojoClass          查找属性的类
+     * @param writableStackTrace 是否填充堆栈信息
+     */
+    public FieldOperateException(String fieldName, Class<?> pojoClass, boolean writableStackTrace) {
+        super(null, null, writableStackTrace, writableStackTrace);
+        this.fieldName = fieldName;
+        this.pojoClass = pojoClass;
+    }
+
+    @Override
+    public String getMessage() {
+        if (fieldName == null) {
+            return super.getMessage();
+        }
+        if (message == null) {
+            message = fieldName + " property can not be found in " + pojoClass;
+        }
+        return message;
+    }
+
+}
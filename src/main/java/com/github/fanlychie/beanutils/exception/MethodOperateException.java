@@ -6,8 +6,85 @@ package com.github.fanlychie.beanutils.exception;
  */
 public class MethodOperateException extends RuntimeException {
 
+    /**
+     * 查找方法的类, 用于延迟生成异常消息; 为 null 时 methodName 为全路径名称
+     */
+    private Class<?> pojoClass;
+
+    /**
+     * 找不到的方法的名称, 用于延迟生成异常消息
+     */
+    private String methodName;
+
+    /**
+     * 方法参数的类型列表, 用于延迟生成异常消息
+     */
+    private Class<?>[] argTypes;
+
+    /**
+     * 方法参数的值列表, 用于延迟生成异常消息
+     */
+    private Object[] argValues;
+
+    /**
+     * 延迟生成的异常消息
+     */
+    private String message;
+
     public MethodOperateException(String message) {
         super(message);
     }
 
-}
\ No newline at end of file
+    /**
+     * 构建找不到方法的异常, 异常消息在首次调用 getMessage 时才生成
+     *
+     * @param methodName         方法的全路径名称
+     * @param argTypes           方法参数的类型列表, 元素为 null 表示参数值为 null
+     * @param writableStackTrace 是否填充堆栈信息
+     */
+    public MethodOperateException(String methodName, Class<?>[] argTypes, boolean writableStackTrace) {
+        super(null, null, writableStackTrace, writableStackTrace);
+        this.methodName = methodName;
+        this.argTypes = argTypes;
+    }
+
+    /**
+     * 构建找不到方法的异常, 异常消息在首次调用 getMessage 时才由类、方法名称和参数值生成
+     *
+     * @param pojoClass          查找方法的类, 为 null 时 methodName 为全路径名称
+     * @param methodName         方法名称
+     * @param argValues          方法参数的值列表
+     * @param writableStackTrace 是否填充堆栈信息
+     */
+    public MethodOperateException(Class<?> pojoClass, String methodName, Object[] argValues, boolean writableStackTrace) {
+        super(null, null, writableStackTrace, writableStackTrace);
+        this.pojoClass = pojoClass;
+        this.methodName = methodName;
+        this.argValues = argValues;
+    }
+
+    @Override
+    public String getMessage() {
+        if (methodName == null) {
+            return super.getMessage();
+        }
+        if (message == null) {
+            StringBuilder builder = new StringBuilder("can not found method ");
+            if (pojoClass != null) {
+                builder.append(pojoClass.getName()).append(".");
+            }
+            builder.append(methodName).append("(");
+            int length = argTypes != null ? argTypes.length : argValues != null ? argValues.length : 0;
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                Class<?> argType = argTypes != null ? argTypes[i] : argValues[i] == null ? null : argValues[i].getClass();
+                builder.append(argType == null ? "null" : argType.getSimpleName());
+            }
+            message = builder.append(")").toString();
+        }
+        return message;
+    }
+
+}
@@ -0,0 +1,657 @@
+package com.github.fanlychie.beanutils.filter;
+
+import com.github.fanlychie.beanutils.accessor.FieldAccessor;
+import com.github.fanlychie.beanutils.exception.FieldOperateException;
+import com.github.fanlychie.beanutils.operator.FieldOperator;
+import com.github.fanlychie.beanutils.util.ParallelUtils;
+import com.github.fanlychie.beanutils.util.PrimitiveWrapperTypeUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Bean 过滤器, 以链式调用描述按字段查询的条件, 条件在声明时即解析到字段访问器并编译为断言树.
+ * 基本数据类型的字段经访问器对应类型的读取方法取值, 与基本数据类型的操作数直接比较, 不装箱;
+ * 操作数在编译时按字段类型转换(字符串转为枚举或数值, 数值转为 BigDecimal 等).
+ * 相邻的条件以 and 相连, or 开启新的条件组, 即按析取范式求值. 过滤器的构建非线程安全, 编译得到的断言树不可变, 可被多线程共享
+ *
+ * @param <T> Bean 类型
+ */
+public class BeanFilter<T> implements BeanPredicate<T> {
+
+    /**
+     * 并行过滤时每个任务处理的最少元素数
+     */
+    private static final int PARALLEL_THRESHOLD = 2048;
+
+    /**
+     * Bean 类型
+     */
+    private Class<T> pojoClass;
+
+    /**
+     * 用于解析字段访问器的字段操作
+     */
+    private FieldOperator fieldOperator;
+
+    /**
+     * 以 or 相连的条件组, 组内条件以 and 相连
+     */
+    private List<List<BeanPredicate<Object>>> groups = new ArrayList<>();
+
+    /**
+     * 编译得到的断言树, 条件改变时置为 null
+     */
+    private BeanPredicate<Object> compiled;
+
+    /**
+     * 构建实例
+     *
+     * @param pojoClass     Bean 类型
+     * @param fieldOperator 用于解析字段访问器的字段操作
+     */
+    public BeanFilter(Class<T> pojoClass, FieldOperator fieldOperator) {
+        this.pojoClass = pojoClass;
+        this.fieldOperator = fieldOperator;
+        this.groups.add(new ArrayList<BeanPredicate<Object>>());
+    }
+
+    /**
+     * 声明字段条件, 与当前条件组中已有的条件以 and 相连
+     *
+     * @param name 字段名称
+     * @return 返回字段条件
+     */
+    public Condition<T> where(String name) {
+        return new Condition<>(this, fieldOperator.getAccessorByFieldName(name));
+    }
+
+    /**
+     * 声明字段条件, 与当前条件组中已有的条件以 and 相连
+     *
+     * @param name 字段名称
+     * @return 返回字段条件
+     */
+    public Condition<T> and(String name) {
+        return where(name);
+    }
+
+    /**
+     * 开启新的条件组并声明其第一个字段条件, 新的条件组与已有的条件组以 or 相连
+     *
+     * @param name 字段名称
+     * @return 返回字段条件
+     */
+    public Condition<T> or(String name) {
+        FieldAccessor accessor = fieldOperator.getAccessorByFieldName(name);
+        newGroup();
+        return new Condition<>(this, accessor);
+    }
+
+    /**
+     * 将另一个过滤器作为整体加入当前条件组
+     *
+     * @param filter 过滤器
+     * @return 返回当前对象
+     */
+    public BeanFilter<T> and(BeanFilter<? super T> filter) {
+        return add(filter.compile());
+    }
+
+    /**
+     * 将另一个过滤器的取反作为整体加入当前条件组
+     *
+     * @param filter 过滤器
+     * @return 返回当前对象
+     */
+    public BeanFilter<T> andNot(BeanFilter<? super T> filter) {
+        return add(new Predicates.Not(filter.compile()));
+    }
+
+    /**
+     * 将另一个过滤器作为新的条件组, 与已有的条件组以 or 相连
+     *
+     * @param filter 过滤器
+     * @return 返回当前对象
+     */
+    public BeanFilter<T> or(BeanFilter<? super T> filter) {
+        BeanPredicate<Object> predicate = filter.compile();
+        newGroup();
+        return add(predicate);
+    }
+
+    /**
+     * 获取编译得到的断言树, 其后对过滤器的修改不影响已获取的断言树
+     *
+     * @return 返回不可变的断言
+     */
+    public BeanPredicate<T> toPredicate() {
+        return (BeanPredicate<T>) compile();
+    }
+
+    @Override
+    public boolean test(T bean) {
+        return compile().test(bean);
+    }
+
+    /**
+     * 顺序过滤
+     *
+     * @param beans Bean 集合
+     * @return 返回满足条件的 Bean, 顺序与来源一致
+     */
+    public List<T> filter(Collection<? extends T> beans) {
+        BeanPredicate<Object> predicate = compile();
+        List<T> list = new ArrayList<>();
+        for (T bean : beans) {
+            if (predicate.test(bean)) {
+                list.add(bean);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * 并行过滤, 元素较少时退回顺序过滤
+     *
+     * @param beans Bean 集合
+     * @return 返回满足条件的 Bean, 顺序与来源一致
+     */
+    public List<T> parallelFilter(Collection<? extends T> beans) {
+        if (beans.size() <= PARALLEL_THRESHOLD) {
+            return filter(beans);
+        }
+        Object[] array = beans.toArray();
+        boolean[] matches = new boolean[array.length];
+        ParallelUtils.getPool().invoke(new FilterTask(compile(), array, matches, 0, array.length));
+        List<T> list = new ArrayList<>();
+        for (int i = 0; i < array.length; i++) {
+            if (matches[i]) {
+                list.add((T) array[i]);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * 统计满足条件的元素数
+     *
+     * @param beans Bean 集合
+     * @return 返回满足条件的元素数
+     */
+    public int count(Collection<? extends T> beans) {
+        BeanPredicate<Object> predicate = compile();
+        int count = 0;
+        for (T bean : beans) {
+            if (predicate.test(bean)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 获取 Bean 类型
+     *
+     * @return 返回 Bean 类型
+     */
+    public Class<T> getPojoClass() {
+        return pojoClass;
+    }
+
+    private BeanFilter<T> add(BeanPredicate<Object> predicate) {
+        groups.get(groups.size() - 1).add(predicate);
+        compiled = null;
+        return this;
+    }
+
+    private void newGroup() {
+        if (!groups.get(groups.size() - 1).isEmpty()) {
+            groups.add(new ArrayList<BeanPredicate<Object>>());
+        }
+    }
+
+    /**
+     * 编译断言树, 只有一个子断言的 and / or 节点直接以其子断言代替
+     */
+    private BeanPredicate<Object> compile() {
+        if (compiled == null) {
+            List<BeanPredicate<Object>> alternatives = new ArrayList<>(groups.size());
+            for (List<BeanPredicate<Object>> group : groups) {
+                if (group.size() == 1) {
+                    alternatives.add(group.get(0));
+                } else if (!group.isEmpty()) {
+                    alternatives.add(new Predicates.And(group.toArray(new BeanPredicate[group.size()])));
+                }
+            }
+            if (alternatives.isEmpty()) {
+                compiled = Predicates.Constant.TRUE;
+            } else if (alternatives.size() == 1) {
+                compiled = alternatives.get(0);
+            } else {
+                compiled = new Predicates.Or(alternatives.toArray(new BeanPredicate[alternatives.size()]));
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * 字段条件, 调用比较方法后将条件加入所属的过滤器并返回过滤器
+     *
+     * @param <T> Bean 类型
+     */
+    public static final class Condition<T> {
+
+        private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+        private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+
+        private final BeanFilter<T> filter;
+
+        private final FieldAccessor accessor;
+
+        private final Class<?> type;
+
+        private Condition(BeanFilter<T> filter, FieldAccessor accessor) {
+            this.filter = filter;
+            this.accessor = accessor;
+            this.type = accessor.getField().getType();
+        }
+
+        public BeanFilter<T> eq(long value) {
+            return filter.add(compare(Predicates.EQ, value));
+        }
+
+        public BeanFilter<T> eq(double value) {
+            return filter.add(compare(Predicates.EQ, value));
+        }
+
+        public BeanFilter<T> eq(boolean value) {
+            if (type == boolean.class) {
+                return filter.add(new Predicates.BooleanEquals(accessor, value));
+            }
+            return eq((Object) value);
+        }
+
+        public BeanFilter<T> eq(Object value) {
+            return filter.add(compare(Predicates.EQ, value));
+        }
+
+        public BeanFilter<T> ne(long value) {
+            return filter.add(compare(Predicates.NE, value));
+        }
+
+        public BeanFilter<T> ne(double value) {
+            return filter.add(compare(Predicates.NE, value));
+        }
+
+        public BeanFilter<T> ne(boolean value) {
+            if (type == boolean.class) {
+                return filter.add(new Predicates.BooleanEquals(accessor, !value));
+            }
+            return ne((Object) value);
+        }
+
+        public BeanFilter<T> ne(Object value) {
+            return filter.add(compare(Predicates.NE, value));
+        }
+
+        public BeanFilter<T> gt(long value) {
+            return filter.add(compare(Predicates.GT, value));
+        }
+
+        public BeanFilter<T> gt(double value) {
+            return filter.add(compare(Predicates.GT, value));
+        }
+
+        public BeanFilter<T> gt(Object value) {
+            return filter.add(compare(Predicates.GT, value));
+        }
+
+        public BeanFilter<T> ge(long value) {
+            return filter.add(compare(Predicates.GE, value));
+        }
+
+        public BeanFilter<T> ge(double value) {
+            return filter.add(compare(Predicates.GE, value));
+        }
+
+        public BeanFilter<T> ge(Object value) {
+            return filter.add(compare(Predicates.GE, value));
+        }
+
+        public BeanFilter<T> lt(long value) {
+            return filter.add(compare(Predicates.LT, value));
+        }
+
+        public BeanFilter<T> lt(double value) {
+            return filter.add(compare(Predicates.LT, value));
+        }
+
+        public BeanFilter<T> lt(Object value) {
+            return filter.add(compare(Predicates.LT, value));
+        }
+
+        public BeanFilter<T> le(long value) {
+            return filter.add(compare(Predicates.LE, value));
+        }
+
+        public BeanFilter<T> le(double value) {
+            return filter.add(compare(Predicates.LE, value));
+        }
+
+        public BeanFilter<T> le(Object value) {
+            return filter.add(compare(Predicates.LE, value));
+        }
+
+        /**
+         * 字段值在给定的值之间(包含两端)
+         */
+        public BeanFilter<T> between(long from, long to) {
+            return filter.add(new Predicates.And(new BeanPredicate[]{compare(Predicates.GE, from), compare(Predicates.LE, to)}));
+        }
+
+        /**
+         * 字段值在给定的值之间(包含两端)
+         */
+        public BeanFilter<T> between(double from, double to) {
+            return filter.add(new Predicates.And(new BeanPredicate[]{compare(Predicates.GE, from), compare(Predicates.LE, to)}));
+        }
+
+        /**
+         * 字段值属于给定的值之一
+         */
+        public BeanFilter<T> in(Object... values) {
+            return in(Arrays.asList(values));
+        }
+
+        /**
+         * 字段值属于给定的值之一
+         */
+        public BeanFilter<T> in(Collection<?> values) {
+            if (isIntegral(type)) {
+                long[] operands = new long[values.size()];
+                int size = 0;
+                for (Object value : values) {
+                    if (value == null) {
+                        continue;
+                    }
+                    Number number = toNumber(value);
+                    if (!isFractional(number)) {
+                        if (signBeyondLong(number) == 0) {
+                            operands[size++] = number.longValue();
+                        }
+                        continue;
+                    }
+                    // 带小数部分或超出 long 范围的值不可能与整数字段相等, 直接忽略
+                    double d = number.doubleValue();
+                    if (d == Math.rint(d) && d >= Long.MIN_VALUE && d < 0x1p63) {
+                        operands[size++] = (long) d;
+                    }
+                }
+                operands = Arrays.copyOf(operands, size);
+                Arrays.sort(operands);
+                return filter.add(new Predicates.IntegralIn(accessor, type, operands));
+            }
+            if (type.isPrimitive()) {
+                List<BeanPredicate<Object>> alternatives = new ArrayList<>(values.size());
+                for (Object value : values) {
+                    alternatives.add(compare(Predicates.EQ, value));
+                }
+                return filter.add(new Predicates.Or(alternatives.toArray(new BeanPredicate[alternatives.size()])));
+            }
+            Set<Object> operands = new HashSet<>();
+            for (Object value : values) {
+                operands.add(coerce(value));
+            }
+            return filter.add(new Predicates.In(accessor, operands));
+        }
+
+        /**
+         * 字段值为 null, 基本数据类型的字段恒不满足
+         */
+        public BeanFilter<T> isNull() {
+            return filter.add(type.isPrimitive() ? Predicates.Constant.FALSE : new Predicates.IsNull(accessor, false));
+        }
+
+        /**
+         * 字段值不为 null, 基本数据类型的字段恒满足
+         */
+        public BeanFilter<T> notNull() {
+            return filter.add(type.isPrimitive() ? Predicates.Constant.TRUE : new Predicates.IsNull(accessor, true));
+        }
+
+        private BeanPredicate<Object> compare(int op, long operand) {
+            if (type == int.class) {
+                return new Predicates.IntCompare(accessor, op, operand);
+            } else if (type == long.class) {
+                return new Predicates.LongCompare(accessor, op, operand);
+            } else if (isIntegral(type)) {
+                return new Predicates.SmallIntegralCompare(accessor, type, op, operand);
+            } else if (type == double.class || type == float.class) {
+                return new Predicates.DoubleCompare(accessor, type, op, operand);
+            } else if (isIntegral(PrimitiveWrapperTypeUtils.getPrimitiveType(type))) {
+                return new Predicates.LongNumberCompare(accessor, op, operand);
+            }
+            return compare(op, (Object) operand);
+        }
+
+        private BeanPredicate<Object> compare(int op, double operand) {
+            if (type.isPrimitive() && type != boolean.class) {
+                return new Predicates.DoubleCompare(accessor, type, op, operand);
+            }
+            Class<?> primitiveType = PrimitiveWrapperTypeUtils.getPrimitiveType(type);
+            if (primitiveType != null && primitiveType != boolean.class && primitiveType != char.class) {
+                return new Predicates.NumberCompare(accessor, op, operand);
+            }
+            return compare(op, (Object) operand);
+        }
+
+        private BeanPredicate<Object> compare(int op, Object operand) {
+            if (type.isPrimitive()) {
+                if (operand == null) {
+                    return op == Predicates.NE ? Predicates.Constant.TRUE : Predicates.Constant.FALSE;
+                }
+                if (type == boolean.class) {
+                    boolean value = operand instanceof Boolean ? (Boolean) operand : Boolean.parseBoolean(operand.toString());
+                    if (op != Predicates.EQ && op != Predicates.NE) {
+                        throw incomparable(operand);
+                    }
+                    return new Predicates.BooleanEquals(accessor, op == Predicates.EQ ? value : !value);
+                }
+                Number number = toNumber(operand);
+                if (isIntegral(type) && !isFractional(number)) {
+                    int sign = signBeyondLong(number);
+                    if (sign != 0) {
+                        return compare(opBeyondLong(op, sign), sign > 0 ? Long.MAX_VALUE : Long.MIN_VALUE);
+                    }
+                    return compare(op, number.longValue());
+                }
+                return compare(op, number.doubleValue());
+            }
+            if (op == Predicates.EQ || op == Predicates.NE) {
+                return new Predicates.ObjectEquals(accessor, coerce(operand), op == Predicates.NE);
+            }
+            if (operand == null) {
+                throw incomparable(null);
+            }
+            Class<?> primitiveType = PrimitiveWrapperTypeUtils.getPrimitiveType(type);
+            if (primitiveType != null && primitiveType != boolean.class && primitiveType != char.class) {
+                Number number = toNumber(operand);
+                if (isIntegral(primitiveType) && !isFractional(number)) {
+                    int sign = signBeyondLong(number);
+                    if (sign != 0) {
+                        return new Predicates.LongNumberCompare(accessor, opBeyondLong(op, sign),
+                                sign > 0 ? Long.MAX_VALUE : Long.MIN_VALUE);
+                    }
+                    return new Predicates.LongNumberCompare(accessor, op, number.longValue());
+                }
+                return new Predicates.NumberCompare(accessor, op, number.doubleValue());
+            }
+            Object value = coerce(operand);
+            if (!(value instanceof Comparable)) {
+                throw incomparable(operand);
+            }
+            return new Predicates.ComparableCompare(accessor, op, (Comparable<Object>) value);
+        }
+
+        /**
+         * 按字段类型转换操作数
+         */
+        private Object coerce(Object operand) {
+            Class<?> wrapperType = type.isPrimitive() ? PrimitiveWrapperTypeUtils.getWrapperType(type) : type;
+            if (operand == null || wrapperType.isInstance(operand)) {
+                return operand;
+            }
+            try {
+                if (type.isEnum() && operand instanceof String) {
+                    return Enum.valueOf((Class<Enum>) type, (String) operand);
+                } else if (type == BigDecimal.class) {
+                    return new BigDecimal(operand.toString());
+                } else if (type == BigInteger.class) {
+                    return new BigInteger(operand.toString());
+                } else if (type == String.class) {
+                    return operand.toString();
+                }
+                Class<?> primitiveType = PrimitiveWrapperTypeUtils.getPrimitiveType(wrapperType);
+                if (primitiveType != null && primitiveType != boolean.class && primitiveType != char.class) {
+                    Number number = toNumber(operand);
+                    if (isIntegral(primitiveType) && (isFractional(number) || signBeyondLong(number) != 0)) {
+                        // 不能精确转换的操作数不会与整数包装类型的值相等, 保留原值
+                        return number;
+                    }
+                    if (primitiveType == int.class) {
+                        return number.intValue();
+                    } else if (primitiveType == long.class) {
+                        return number.longValue();
+                    } else if (primitiveType == double.class) {
+                        return number.doubleValue();
+                    } else if (primitiveType == float.class) {
+                        return number.floatValue();
+                    } else if (primitiveType == short.class) {
+                        return number.shortValue();
+                    } else {
+                        return number.byteValue();
+                    }
+                } else if (primitiveType == boolean.class) {
+                    return Boolean.parseBoolean(operand.toString());
+                }
+            } catch (IllegalArgumentException e) {
+                throw incomparable(operand);
+            }
+            throw incomparable(operand);
+        }
+
+        private Number toNumber(Object operand) {
+            if (operand instanceof Number) {
+                return (Number) operand;
+            } else if (operand instanceof Character) {
+                return (int) (Character) operand;
+            } else if (operand instanceof String) {
+                try {
+                    String text = ((String) operand).trim();
+                    if (type == char.class && text.length() == 1) {
+                        return (int) text.charAt(0);
+                    }
+                    return new BigDecimal(text);
+                } catch (NumberFormatException e) {
+                    throw incomparable(operand);
+                }
+            }
+            throw incomparable(operand);
+        }
+
+        private FieldOperateException incomparable(Object operand) {
+            return new FieldOperateException(accessor.getField().getName() + " property of type " + type.getName()
+                    + " can not be compared with " + (operand instanceof String ? "\"" + operand + "\"" : operand));
+        }
+
+        private static boolean isIntegral(Class<?> type) {
+            return type == int.class || type == long.class || type == short.class || type == byte.class || type == char.class;
+        }
+
+        /**
+         * 整数操作数超出 long 范围时返回其符号, 否则返回 0. 只有 BigDecimal 和 BigInteger 可能超出
+         */
+        private static int signBeyondLong(Number number) {
+            if (number instanceof BigDecimal) {
+                BigDecimal decimal = (BigDecimal) number;
+                return decimal.compareTo(LONG_MAX) > 0 ? 1 : decimal.compareTo(LONG_MIN) < 0 ? -1 : 0;
+            }
+            if (number instanceof BigInteger) {
+                BigInteger integer = (BigInteger) number;
+                return integer.bitLength() > 63 ? integer.signum() : 0;
+            }
+            return 0;
+        }
+
+        /**
+         * 操作数超出 long 范围时, 整数字段的值恒小于(sign 为正)或恒大于(sign 为负)操作数,
+         * 将比较转换为与 long 边界值的等价比较, 属性值为 null 时的处理保持不变
+         */
+        private static int opBeyondLong(int op, int sign) {
+            if (sign > 0) {
+                return op == Predicates.GT || op == Predicates.GE || op == Predicates.EQ ? Predicates.GT : Predicates.LE;
+            }
+            return op == Predicates.LT || op == Predicates.LE || op == Predicates.EQ ? Predicates.LT : Predicates.GE;
+        }
+
+        private static boolean isFractional(Number number) {
+            if (number instanceof Double || number instanceof Float) {
+                return true;
+            }
+            if (number instanceof BigDecimal) {
+                BigDecimal decimal = (BigDecimal) number;
+                return decimal.signum() != 0 && decimal.stripTrailingZeros().scale() > 0;
+            }
+            return false;
+        }
+
+    }
+
+    /**
+     * 并行标记满足条件的元素
+     */
+    private static class FilterTask extends RecursiveAction {
+
+        private final BeanPredicate<Object> predicate;
+
+        private final Object[] beans;
+
+        private final boolean[] matches;
+
+        private final int from;
+
+        private final int to;
+
+        FilterTask(BeanPredicate<Object> predicate, Object[] beans, boolean[] matches, int from, int to) {
+            this.predicate = predicate;
+            this.beans = beans;
+            this.matches = matches;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    matches[i] = predicate.test(beans[i]);
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new FilterTask(predicate, beans, matches, from, middle),
+                        new FilterTask(predicate, beans, matches, middle, to));
+            }
+        }
+
+    }
+
+}
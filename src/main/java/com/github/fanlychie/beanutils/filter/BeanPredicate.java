@@ -0,0 +1,18 @@
+package com.github.fanlychie.beanutils.filter;
+
+/**
+ * Bean 断言
+ *
+ * @param <T> Bean 类型
+ */
+public interface BeanPredicate<T> {
+
+    /**
+     * 判断 Bean 是否满足条件
+     *
+     * @param bean 具体对象
+     * @return 满足时返回 true, 否则返回 false
+     */
+    boolean test(T bean);
+
+}
@@ -0,0 +1,487 @@
+package com.github.fanlychie.beanutils.filter;
+
+import com.github.fanlychie.beanutils.accessor.FieldAccessor;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 断言树的节点实现. 基本数据类型的属性经访问器对应类型的读取方法取值, 与基本数据类型的操作数直接比较, 不装箱
+ */
+final class Predicates {
+
+    static final int EQ = 0;
+
+    static final int NE = 1;
+
+    static final int GT = 2;
+
+    static final int GE = 3;
+
+    static final int LT = 4;
+
+    static final int LE = 5;
+
+    private Predicates() {}
+
+    static boolean apply(int op, long value, long operand) {
+        switch (op) {
+            case EQ:
+                return value == operand;
+            case NE:
+                return value != operand;
+            case GT:
+                return value > operand;
+            case GE:
+                return value >= operand;
+            case LT:
+                return value < operand;
+            default:
+                return value <= operand;
+        }
+    }
+
+    static boolean apply(int op, double value, double operand) {
+        switch (op) {
+            case EQ:
+                return value == operand;
+            case NE:
+                return value != operand;
+            case GT:
+                return value > operand;
+            case GE:
+                return value >= operand;
+            case LT:
+                return value < operand;
+            default:
+                return value <= operand;
+        }
+    }
+
+    static boolean apply(int op, int compare) {
+        switch (op) {
+            case EQ:
+                return compare == 0;
+            case NE:
+                return compare != 0;
+            case GT:
+                return compare > 0;
+            case GE:
+                return compare >= 0;
+            case LT:
+                return compare < 0;
+            default:
+                return compare <= 0;
+        }
+    }
+
+    /**
+     * 按基本数据类型读取整数属性的值
+     */
+    static long readIntegral(FieldAccessor accessor, Class<?> type, Object bean) {
+        if (type == int.class) {
+            return accessor.getInt(bean);
+        } else if (type == long.class) {
+            return accessor.getLong(bean);
+        } else if (type == short.class) {
+            return accessor.getShort(bean);
+        } else if (type == byte.class) {
+            return accessor.getByte(bean);
+        } else {
+            return accessor.getChar(bean);
+        }
+    }
+
+    /**
+     * int 属性与整数比较
+     */
+    static final class IntCompare implements BeanPredicate<Object> {
+
+        private final FieldAccessor accessor;
+
+        private final int op;
+
+        private final long operand;
+
+        IntCompare(FieldAccessor accessor, int op, long operand) {
+            this.accessor = accessor;
+            this.op = op;
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean test(Object bean) {
+            return apply(op, accessor.getInt(bean), operand);
+        }
+
+    }
+
+    /**
+     * long 属性与整数比较
+     */
+    static final class LongCompare implements BeanPredicate<Object> {
+
+        private final FieldAccessor accessor;
+
+        private final int op;
+
+        private final long operand;
+
+        LongCompare(FieldAccessor accessor, int op, long operand) {
+            this.accessor = accessor;
+            this.op = op;
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean test(Object bean) {
+            return apply(op, accessor.getLong(bean), operand);
+        }
+
+    }
+
+    /**
+     * short, byte, char 属性与整数比较
+     */
+    static final class SmallIntegralCompare implements BeanPredicate<Object> {
+
+        private final FieldAccessor accessor;
+
+        private final Class<?> type;
+
+        private final int op;
+
+        private final long operand;
+
+        SmallIntegralCompare(FieldAccessor accessor, Class<?> type, int op, long operand) {
+            this.accessor = accessor;
+            this.type = type;
+            this.op = op;
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean test(Object bean) {
+            return apply(op, readIntegral(accessor, type, bean), operand);
+        }
+
+    }
+
+    /**
+     * 基本数据类型的数值属性与小数比较
+     */
+    static final class DoubleCompare implements BeanPredicate<Object> {
+
+        private final FieldAccessor accessor;
+
+        private final Class<?> type;
+
+        private final int op;
+
+        private final double operand;
+
+        DoubleCompare(FieldAccessor accessor, Class<?> type, int op, double operand) {
+            this.accessor = accessor;
+            this.type = type;
+            this.op = op;
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean test(Object bean) {
+            double value;
+            if (type == double.class) {
+                value = accessor.getDouble(bean);
+            } else if (type == float.class) {
+                value = accessor.getFloat(bean);
+            } else if (type == int.class) {
+                value = accessor.getInt(bean);
+            } else if (type == long.class) {
+                value = accessor.getLong(bean);
+            } else if (type == short.class) {
+                value = accessor.getShort(bean);
+            } else if (type == byte.class) {
+                value = accessor.getByte(bean);
+            } else {
+                value = accessor.getChar(bean);
+            }
+            return apply(op, value, operand);
+        }
+
+    }
+
+    /**
+     * boolean 属性判等
+     */
+    static final class BooleanEquals implements BeanPredicate<Object> {
+
+        private final FieldAccessor accessor;
+
+        private final boolean operand;
+
+        BooleanEquals(FieldAccessor accessor, boolean operand) {
+            this.accessor = accessor;
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean test(Object bean) {
+            return accessor.getBoolean(bean) == operand;
+        }
+
+    }
+
+    /**
+     * 引用类型属性判等, 属性值为 null 时只与 null 相等
+     */
+    static final class ObjectEquals implements BeanPredicate<Object> {
+
+        private final FieldAccessor accessor;
+
+        private final Object operand;
+
+        private final boolean negate;
+
+        ObjectEquals(FieldAccessor accessor, Object operand, boolean negate) {
+            this.accessor = accessor;
+            this.operand = operand;
+            this.negate = negate;
+        }
+
+        @Override
+        public boolean test(Object bean) {
+            Object value = accessor.get(bean);
+            boolean equals = value == operand || (value != null && value.equals(operand));
+            return equals != negate;
+        }
+
+    }
+
+    /**
+     * 引用类型属性按 Comparable 比较, 属性值为 null 时不满足
+     */
+    static final class ComparableCompare implements BeanPredicate<Object> {
+
+        private final FieldAccessor accessor;
+
+        private final int op;
+
+        private final Comparable<Object> operand;
+
+        ComparableCompare(FieldAccessor accessor, int op, Comparable<Object> operand) {
+            this.accessor = accessor;
+            this.op = op;
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean test(Object bean) {
+            Object value = accessor.get(bean);
+            return value != null && apply(op, -operand.compareTo(value));
+        }
+
+    }
+
+    /**
+     * 包装类型的数值属性比较, 拆箱已存在的包装对象, 属性值为 null 时不满足
+     */
+    static final class NumberCompare implements BeanPredicate<Object> {
+
+        private final FieldAccessor accessor;
+
+        private final int op;
+
+        private final double operand;
+
+        NumberCompare(FieldAccessor accessor, int op, double operand) {
+            this.accessor = accessor;
+            this.op = op;
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean test(Object bean) {
+            Object value = accessor.get(bean);
+            return value != null && apply(op, ((Number) value).doubleValue(), operand);
+        }
+
+    }
+
+    /**
+     * 整数包装类型的属性比较, 拆箱已存在的包装对象, 属性值为 null 时不满足
+     */
+    static final class LongNumberCompare implements BeanPredicate<Object> {
+
+        private final FieldAccessor accessor;
+
+        private final int op;
+
+        private final long operand;
+
+        LongNumberCompare(FieldAccessor accessor, int op, long operand) {
+            this.accessor = accessor;
+            this.op = op;
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean test(Object bean) {
+            Object value = accessor.get(bean);
+            return value != null && apply(op, ((Number) value).longValue(), operand);
+        }
+
+    }
+
+    /**
+     * 基本数据类型的整数属性属于给定的整数集合, 集合已排序, 按二分查找
+     */
+    static final class IntegralIn implements BeanPredicate<Object> {
+
+        private final FieldAccessor accessor;
+
+        private final Class<?> type;
+
+        private final long[] operands;
+
+        IntegralIn(FieldAccessor accessor, Class<?> type, long[] operands) {
+            this.accessor = accessor;
+            this.type = type;
+            this.operands = operands;
+        }
+
+        @Override
+        public boolean test(Object bean) {
+            return Arrays.binarySearch(operands, readIntegral(accessor, type, bean)) >= 0;
+        }
+
+    }
+
+    /**
+     * 属性值属于给定的集合
+     */
+    static final class In implements BeanPredicate<Object> {
+
+        private final FieldAccessor accessor;
+
+        private final Set<Object> operands;
+
+        In(FieldAccessor accessor, Set<Object> operands) {
+            this.accessor = accessor;
+            this.operands = operands;
+        }
+
+        @Override
+        public boolean test(Object bean) {
+            return operands.contains(accessor.get(bean));
+        }
+
+    }
+
+    /**
+     * 属性值为 null 或不为 null
+     */
+    static final class IsNull implements BeanPredicate<Object> {
+
+        private final FieldAccessor accessor;
+
+        private final boolean negate;
+
+        IsNull(FieldAccessor accessor, boolean negate) {
+            this.accessor = accessor;
+            this.negate = negate;
+        }
+
+        @Override
+        public boolean test(Object bean) {
+            return (accessor.get(bean) == null) != negate;
+        }
+
+    }
+
+    /**
+     * 恒定结果, 用于基本数据类型的属性与 null 比较等编译期即可确定结果的条件
+     */
+    static final class Constant implements BeanPredicate<Object> {
+
+        static final Constant TRUE = new Constant(true);
+
+        static final Constant FALSE = new Constant(false);
+
+        private final boolean result;
+
+        private Constant(boolean result) {
+            this.result = result;
+        }
+
+        @Override
+        public boolean test(Object bean) {
+            return result;
+        }
+
+    }
+
+    /**
+     * 全部子断言都满足
+     */
+    static final class And implements BeanPredicate<Object> {
+
+        private final BeanPredicate<Object>[] predicates;
+
+        And(BeanPredicate<Object>[] predicates) {
+            this.predicates = predicates;
+        }
+
+        @Override
+        public boolean test(Object bean) {
+            for (BeanPredicate<Object> predicate : predicates) {
+                if (!predicate.test(bean)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+    /**
+     * 任一子断言满足
+     */
+    static final class Or implements BeanPredicate<Object> {
+
+        private final BeanPredicate<Object>[] predicates;
+
+        Or(BeanPredicate<Object>[] predicates) {
+            this.predicates = predicates;
+        }
+
+        @Override
+        public boolean test(Object bean) {
+            for (BeanPredicate<Object> predicate : predicates) {
+                if (predicate.test(bean)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    /**
+     * 取反
+     */
+    static final class Not implements BeanPredicate<Object> {
+
+        private final BeanPredicate<Object> predicate;
+
+        Not(BeanPredicate<Object> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Object bean) {
+            return !predicate.test(bean);
+        }
+
+    }
+
+}
@@ -0,0 +1,442 @@
+package com.github.fanlychie.beanutils.json;
+
+import com.github.fanlychie.beanutils.BeanUtils;
+import com.github.fanlychie.beanutils.accessor.FieldAccessor;
+import com.github.fanlychie.beanutils.operator.DeclaredFields;
+import com.github.fanlychie.beanutils.operator.FieldOperator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bean 的 JSON 写出计划, 按 FieldOperator 查找到的实例属性(不含静态及 transient 属性)创建, 属性名称预先编码为带引号、已转义的字节前缀.
+ * 基本数据类型的属性经访问器对应类型的读取方法取值并逐位写出, 不装箱; 嵌套的 Bean 及集合元素复用其类型的缓存计划.
+ * 写出经线程内复用的缓冲区进行. 字符串、枚举、字符以 JSON 字符串写出, Date 写出毫秒数, Map 的键以 String.valueOf 写出.
+ * 其余 JDK 的类型(如 UUID、Locale、URI、java.time)不按 Bean 展开, 以 toString 写出为字符串.
+ * 实例不可变, 可被多线程共享
+ *
+ * @param <T> Bean 类型
+ */
+public class BeanJsonWriter<T> {
+
+    // 属性的写出方式
+    private static final int INT = 0;
+
+    private static final int LONG = 1;
+
+    private static final int SHORT = 2;
+
+    private static final int BYTE = 3;
+
+    private static final int CHAR = 4;
+
+    private static final int BOOLEAN = 5;
+
+    private static final int FLOAT = 6;
+
+    private static final int DOUBLE = 7;
+
+    private static final int OBJECT = 8;
+
+    /**
+     * 线程内复用的缓冲区
+     */
+    private static final ThreadLocal<JsonOutput> OUTPUT = new ThreadLocal<JsonOutput>() {
+        @Override
+        protected JsonOutput initialValue() {
+            return new JsonOutput();
+        }
+    };
+
+    /**
+     * Bean 类型
+     */
+    private Class<T> pojoClass;
+
+    /**
+     * 写出的属性
+     */
+    private Property[] properties;
+
+    /**
+     * 构建实例
+     *
+     * @param pojoClass     Bean 类型
+     * @param fieldOperator 用于查找属性的字段操作
+     */
+    public BeanJsonWriter(Class<T> pojoClass, FieldOperator fieldOperator) {
+        this.pojoClass = pojoClass;
+        List<Property> list = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (Field field : fieldOperator.getFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic() || !names.add(field.getName())) {
+                continue;
+            }
+            list.add(new Property(field, DeclaredFields.of(field.getDeclaringClass()).getAccessor(field)));
+        }
+        this.properties = list.toArray(new Property[list.size()]);
+    }
+
+    /**
+     * 写出到输出流, 输出流不会被关闭
+     *
+     * @param bean 具体对象
+     * @param out  输出流
+     * @throws IOException 写出失败时抛出
+     */
+    public void write(T bean, OutputStream out) throws IOException {
+        JsonOutput output = OUTPUT.get().reset(out);
+        writeBean(bean, output);
+        output.finish();
+    }
+
+    /**
+     * 写出到字节缓冲区
+     *
+     * @param bean   具体对象
+     * @param target 字节缓冲区
+     * @throws java.nio.BufferOverflowException 剩余空间不足时抛出, 此时 target 的内容不变
+     */
+    public void write(T bean, ByteBuffer target) {
+        JsonOutput output = OUTPUT.get().reset(null);
+        try {
+            writeBean(bean, output);
+            output.copyTo(target);
+            output.finish();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 以 JSON 数组写出多个对象到输出流, 输出流不会被关闭
+     *
+     * @param beans 对象集合
+     * @param out   输出流
+     * @throws IOException 写出失败时抛出
+     */
+    public void writeAll(Collection<? extends T> beans, OutputStream out) throws IOException {
+        JsonOutput output = OUTPUT.get().reset(out);
+        output.writeByte('[');
+        boolean first = true;
+        for (T bean : beans) {
+            if (!first) {
+                output.writeByte(',');
+            }
+            first = false;
+            writeBean(bean, output);
+        }
+        output.writeByte(']');
+        output.finish();
+    }
+
+    /**
+     * 写出为字节数组
+     *
+     * @param bean 具体对象
+     * @return 返回 UTF-8 编码的 JSON
+     */
+    public byte[] toBytes(T bean) {
+        JsonOutput output = OUTPUT.get().reset(null);
+        try {
+            writeBean(bean, output);
+            byte[] bytes = output.toByteArray();
+            output.finish();
+            return bytes;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 写出为字符串
+     *
+     * @param bean 具体对象
+     * @return 返回 JSON 字符串
+     */
+    public String toString(T bean) {
+        try {
+            return new String(toBytes(bean), "UTF-8");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 获取 Bean 类型
+     *
+     * @return 返回 Bean 类型
+     */
+    public Class<T> getPojoClass() {
+        return pojoClass;
+    }
+
+    /**
+     * 写出一个对象
+     */
+    void writeBean(Object bean, JsonOutput output) throws IOException {
+        if (bean == null) {
+            output.writeNull();
+            return;
+        }
+        if (++output.depth > JsonOutput.MAX_DEPTH) {
+            throw new IllegalStateException("nesting of " + pojoClass.getName() + " exceeds "
+                    + JsonOutput.MAX_DEPTH + " levels, the object graph may contain a cycle");
+        }
+        output.writeByte('{');
+        Property[] properties = this.properties;
+        for (int i = 0; i < properties.length; i++) {
+            Property property = properties[i];
+            FieldAccessor accessor = property.accessor;
+            // 首个属性跳过前缀中的逗号
+            output.writeBytes(property.prefix, i == 0 ? 1 : 0);
+            switch (property.kind) {
+                case INT:
+                    output.writeLong(accessor.getInt(bean));
+                    break;
+                case LONG:
+                    output.writeLong(accessor.getLong(bean));
+                    break;
+                case SHORT:
+                    output.writeLong(accessor.getShort(bean));
+                    break;
+                case BYTE:
+                    output.writeLong(accessor.getByte(bean));
+                    break;
+                case CHAR:
+                    output.writeString(String.valueOf(accessor.getChar(bean)));
+                    break;
+                case BOOLEAN:
+                    output.writeBoolean(accessor.getBoolean(bean));
+                    break;
+                case FLOAT:
+                    output.writeFloat(accessor.getFloat(bean));
+                    break;
+                case DOUBLE:
+                    output.writeDouble(accessor.getDouble(bean));
+                    break;
+                default:
+                    property.writeObject(accessor.get(bean), output);
+            }
+        }
+        output.writeByte('}');
+        output.depth--;
+    }
+
+    /**
+     * 按运行时类型写出任意值
+     */
+    static void writeValue(Object value, JsonOutput output) throws IOException {
+        if (value == null) {
+            output.writeNull();
+            return;
+        }
+        Class<?> type = value.getClass();
+        if (type == String.class) {
+            output.writeString((String) value);
+        } else if (type == Integer.class || type == Long.class || type == Short.class || type == Byte.class) {
+            output.writeLong(((Number) value).longValue());
+        } else if (type == Double.class) {
+            output.writeDouble((Double) value);
+        } else if (type == Float.class) {
+            output.writeFloat((Float) value);
+        } else if (type == Boolean.class) {
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Number) {
+            output.writeAscii(value.toString());
+        } else if (value instanceof CharSequence || value instanceof Character) {
+            output.writeString(value.toString());
+        } else if (value instanceof Enum) {
+            output.writeString(((Enum<?>) value).name());
+        } else if (value instanceof Date) {
+            output.writeLong(((Date) value).getTime());
+        } else if (value instanceof Collection) {
+            writeCollection((Collection<?>) value, output);
+        } else if (value instanceof Map) {
+            writeMap((Map<?, ?>) value, output);
+        } else if (type.isArray()) {
+            writeArray(value, output);
+        } else if (isJdkType(type)) {
+            output.writeString(value.toString());
+        } else {
+            BeanUtils.jsonWriter(type).writeBean(value, output);
+        }
+    }
+
+    private static void writeCollection(Collection<?> collection, JsonOutput output) throws IOException {
+        output.writeByte('[');
+        // 同类型的相邻元素复用同一个计划, 免去逐个查找缓存
+        Class<?> lastType = null;
+        BeanJsonWriter<?> lastWriter = null;
+        boolean first = true;
+        for (Object element : collection) {
+            if (!first) {
+                output.writeByte(',');
+            }
+            first = false;
+            if (element != null && element.getClass() == lastType) {
+                lastWriter.writeBean(element, output);
+            } else {
+                writeValue(element, output);
+                if (element != null && isBean(element.getClass())) {
+                    lastType = element.getClass();
+                    lastWriter = BeanUtils.jsonWriter(lastType);
+                }
+            }
+        }
+        output.writeByte(']');
+    }
+
+    private static void writeMap(Map<?, ?> map, JsonOutput output) throws IOException {
+        output.writeByte('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                output.writeByte(',');
+            }
+            first = false;
+            output.writeString(String.valueOf(entry.getKey()));
+            output.writeByte(':');
+            writeValue(entry.getValue(), output);
+        }
+        output.writeByte('}');
+    }
+
+    private static void writeArray(Object array, JsonOutput output) throws IOException {
+        output.writeByte('[');
+        int length = Array.getLength(array);
+        if (array instanceof int[]) {
+            int[] values = (int[]) array;
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    output.writeByte(',');
+                }
+                output.writeLong(values[i]);
+            }
+        } else if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    output.writeByte(',');
+                }
+                output.writeLong(values[i]);
+            }
+        } else if (array instanceof double[]) {
+            double[] values = (double[]) array;
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    output.writeByte(',');
+                }
+                output.writeDouble(values[i]);
+            }
+        } else if (array instanceof Object[]) {
+            Object[] values = (Object[]) array;
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    output.writeByte(',');
+                }
+                writeValue(values[i], output);
+            }
+        } else {
+            // 其余基本数据类型的数组较少见, 逐个装箱写出
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    output.writeByte(',');
+                }
+                writeValue(Array.get(array, i), output);
+            }
+        }
+        output.writeByte(']');
+    }
+
+    /**
+     * 判断是否按 Bean 写出
+     */
+    private static boolean isBean(Class<?> type) {
+        return !type.isPrimitive() && !type.isArray() && !type.isEnum() && !type.isInterface()
+                && type != String.class && type != Boolean.class && type != Character.class
+                && !CharSequence.class.isAssignableFrom(type) && !Date.class.isAssignableFrom(type)
+                && !Collection.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type)
+                && !Number.class.isAssignableFrom(type) && !isJdkType(type);
+    }
+
+    /**
+     * 判断是否为 JDK 的类型, 与 BeanMerger 判断叶子类型的规则一致. 这些类型的私有属性在 JDK 9+ 不可反射访问
+     */
+    private static boolean isJdkType(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.")
+                || name.startsWith("sun.") || name.startsWith("com.sun.");
+    }
+
+    /**
+     * 写出的属性
+     */
+    private static final class Property {
+
+        private final byte[] prefix;
+
+        private final FieldAccessor accessor;
+
+        private final int kind;
+
+        /**
+         * 声明类型可直接按 Bean 写出时, 运行时类型与之相同的值使用的计划, 首次写出时才解析, 以支持自引用的类型
+         */
+        private final Class<?> beanType;
+
+        private volatile BeanJsonWriter<?> beanWriter;
+
+        Property(Field field, FieldAccessor accessor) {
+            this.prefix = JsonOutput.namePrefix(field.getName());
+            this.accessor = accessor;
+            Class<?> type = field.getType();
+            if (type == int.class) {
+                kind = INT;
+            } else if (type == long.class) {
+                kind = LONG;
+            } else if (type == short.class) {
+                kind = SHORT;
+            } else if (type == byte.class) {
+                kind = BYTE;
+            } else if (type == char.class) {
+                kind = CHAR;
+            } else if (type == boolean.class) {
+                kind = BOOLEAN;
+            } else if (type == float.class) {
+                kind = FLOAT;
+            } else if (type == double.class) {
+                kind = DOUBLE;
+            } else {
+                kind = OBJECT;
+            }
+            this.beanType = kind == OBJECT && isBean(type) ? type : null;
+        }
+
+        void writeObject(Object value, JsonOutput output) throws IOException {
+            if (value != null && value.getClass() == beanType) {
+                BeanJsonWriter<?> writer = beanWriter;
+                if (writer == null) {
+                    writer = beanWriter = BeanUtils.jsonWriter(beanType);
+                }
+                writer.writeBean(value, output);
+            } else {
+                writeValue(value, output);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,283 @@
+package com.github.fanlychie.beanutils.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 可复用的 JSON 字节缓冲区, 直接以 UTF-8 写入字节, 整数不经 String 转换.
+ * 指定输出流时缓冲区写满即刷出, 否则按需扩容. 非线程安全
+ */
+final class JsonOutput {
+
+    /**
+     * 初始容量
+     */
+    static final int INITIAL_CAPACITY = 8192;
+
+    /**
+     * 归还时超过该容量的缓冲区将被缩回初始容量, 避免线程长期持有大数组
+     */
+    static final int RETAINED_CAPACITY = 1 << 20;
+
+    /**
+     * 最大嵌套深度, 超过时视为对象图存在环
+     */
+    static final int MAX_DEPTH = 128;
+
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+
+    private static final byte[] MIN_LONG = {'-', '9', '2', '2', '3', '3', '7', '2', '0', '3', '6', '8', '5', '4', '7', '7', '5', '8', '0', '8'};
+
+    private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+
+    /**
+     * 2^53, 绝对值小于它的整数值浮点数可精确地按整数写出
+     */
+    private static final double EXACT_INTEGER_LIMIT = 9007199254740992d;
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+
+    private int position;
+
+    private OutputStream out;
+
+    int depth;
+
+    /**
+     * 开始一次写出
+     *
+     * @param out 输出流, 为 null 时写入缓冲区
+     */
+    JsonOutput reset(OutputStream out) {
+        this.out = out;
+        this.position = 0;
+        this.depth = 0;
+        return this;
+    }
+
+    /**
+     * 结束一次写出, 刷出剩余的字节
+     */
+    void finish() throws IOException {
+        if (out != null && position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+        out = null;
+        if (buffer.length > RETAINED_CAPACITY) {
+            buffer = new byte[INITIAL_CAPACITY];
+        }
+    }
+
+    int size() {
+        return position;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    void copyTo(ByteBuffer target) {
+        target.put(buffer, 0, position);
+    }
+
+    void writeByte(int b) throws IOException {
+        if (position == buffer.length) {
+            ensure(1);
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    void writeBytes(byte[] bytes, int offset) throws IOException {
+        int length = bytes.length - offset;
+        if (position + length > buffer.length) {
+            ensure(length);
+        }
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+
+    void writeNull() throws IOException {
+        writeBytes(NULL, 0);
+    }
+
+    void writeBoolean(boolean value) throws IOException {
+        writeBytes(value ? TRUE : FALSE, 0);
+    }
+
+    /**
+     * 逐位写出整数, 不创建 String
+     */
+    void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeBytes(MIN_LONG, 0);
+            return;
+        }
+        if (position + 20 > buffer.length) {
+            ensure(20);
+        }
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long bound = 10; digits < 19 && value >= bound; bound *= 10) {
+            digits++;
+        }
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position = end;
+    }
+
+    /**
+     * 写出浮点数. 整数值且绝对值小于 2^53 时逐位写出整数部分并追加 ".0", 不创建 String;
+     * 其余值退回 Double.toString. NaN 与无穷大不是合法的 JSON 数值, 写出 null
+     */
+    void writeDouble(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            writeNull();
+        } else if (value == Math.rint(value) && Math.abs(value) < EXACT_INTEGER_LIMIT) {
+            if (value == 0 && 1 / value < 0) {
+                writeByte('-');
+            }
+            writeLong((long) value);
+            writeByte('.');
+            writeByte('0');
+        } else {
+            writeAscii(Double.toString(value));
+        }
+    }
+
+    /**
+     * 写出单精度浮点数, 非整数值按 Float.toString 的最短表示写出
+     */
+    void writeFloat(float value) throws IOException {
+        if (Float.isNaN(value) || Float.isInfinite(value) || value == Math.rint(value)) {
+            writeDouble(value);
+        } else {
+            writeAscii(Float.toString(value));
+        }
+    }
+
+    /**
+     * 写出只含 ASCII 字符且无需转义的文本
+     */
+    void writeAscii(String text) throws IOException {
+        int length = text.length();
+        if (position + length > buffer.length) {
+            ensure(length);
+        }
+        for (int i = 0; i < length; i++) {
+            buffer[position++] = (byte) text.charAt(i);
+        }
+    }
+
+    /**
+     * 写出带引号的 JSON 字符串, 按需转义并以 UTF-8 编码
+     */
+    void writeString(CharSequence text) throws IOException {
+        int length = text.length();
+        // 每个字符最多占用 6 个字节(\\u00XX 或 3 字节 UTF-8), 加两端引号
+        if (position + length * 6 + 2 > buffer.length) {
+            ensure(length * 6 + 2);
+        }
+        byte[] buffer = this.buffer;
+        int position = this.position;
+        buffer[position++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x20 && c < 0x80) {
+                if (c == '"' || c == '\\') {
+                    buffer[position++] = '\\';
+                }
+                buffer[position++] = (byte) c;
+            } else if (c < 0x20) {
+                buffer[position++] = '\\';
+                switch (c) {
+                    case '\n':
+                        buffer[position++] = 'n';
+                        break;
+                    case '\r':
+                        buffer[position++] = 'r';
+                        break;
+                    case '\t':
+                        buffer[position++] = 't';
+                        break;
+                    case '\b':
+                        buffer[position++] = 'b';
+                        break;
+                    case '\f':
+                        buffer[position++] = 'f';
+                        break;
+                    default:
+                        buffer[position++] = 'u';
+                        buffer[position++] = '0';
+                        buffer[position++] = '0';
+                        buffer[position++] = HEX[c >> 4];
+                        buffer[position++] = HEX[c & 0xf];
+                }
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xc0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                buffer[position++] = (byte) (0xf0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                // 不成对的代理字符无法以 UTF-8 编码, 以替换字符代替
+                buffer[position++] = (byte) 0xef;
+                buffer[position++] = (byte) 0xbf;
+                buffer[position++] = (byte) 0xbd;
+            } else {
+                buffer[position++] = (byte) (0xe0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buffer[position++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        buffer[position++] = '"';
+        this.position = position;
+    }
+
+    /**
+     * 确保缓冲区至少还能容纳 length 个字节, 有输出流时先刷出已写入的字节
+     */
+    private void ensure(int length) throws IOException {
+        if (out != null && position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+            if (length <= buffer.length) {
+                return;
+            }
+        }
+        if (position + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + length));
+        }
+    }
+
+    /**
+     * 将属性名称编码为 JSON 名称前缀, 形如 ,"name":
+     */
+    static byte[] namePrefix(String name) {
+        JsonOutput output = new JsonOutput();
+        try {
+            output.writeByte(',');
+            output.writeString(name);
+            output.writeByte(':');
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return output.toByteArray();
+    }
+
+}
@@ -0,0 +1,472 @@
+package com.github.fanlychie.beanutils.merge;
+
+import com.github.fanlychie.beanutils.BeanUtils;
+import com.github.fanlychie.beanutils.accessor.FieldAccessor;
+import com.github.fanlychie.beanutils.exception.FieldOperateException;
+import com.github.fanlychie.beanutils.operator.DeclaredFields;
+import com.github.fanlychie.beanutils.operator.FieldOperator;
+import com.github.fanlychie.beanutils.util.ExceptionUtils;
+import com.github.fanlychie.beanutils.util.PrimitiveWrapperTypeUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 合并计划, 按名称将来源类型的属性与目标类型的实例属性(不含静态及 final 属性)配对, 配对及访问器解析只在创建时进行一次.
+ * 合并时只写入来源属性值不为 null 且不为基本数据类型默认值的属性, 适用于按 DTO 部分更新实体.
+ * 类型不兼容的同名属性默认不合并, 可为其指定 APPEND 或 DEEP 策略. 实例不可变, 修改策略或启用原子合并均返回新的实例
+ *
+ * @param <S> 来源类型
+ * @param <D> 目标类型
+ */
+public class BeanMerger<S, D> {
+
+    // 来源属性的取值方式
+    private static final int INT = 0;
+
+    private static final int LONG = 1;
+
+    private static final int SHORT = 2;
+
+    private static final int BYTE = 3;
+
+    private static final int CHAR = 4;
+
+    private static final int BOOLEAN = 5;
+
+    private static final int FLOAT = 6;
+
+    private static final int DOUBLE = 7;
+
+    private static final int OBJECT = 8;
+
+    /**
+     * DEEP 策略的最大递归深度, 超过时视为对象图存在环
+     */
+    private static final int MAX_DEPTH = 128;
+
+    /**
+     * 来源属性值不需要合并时的标记
+     */
+    private static final Object SKIP = new Object();
+
+    /**
+     * 来源类型
+     */
+    private Class<S> sourceClass;
+
+    /**
+     * 目标类型
+     */
+    private Class<D> targetClass;
+
+    /**
+     * 配对的属性
+     */
+    private Entry[] entries;
+
+    /**
+     * 是否在目标对象上同步地应用全部属性
+     */
+    private boolean atomic;
+
+    /**
+     * 构建实例
+     *
+     * @param sourceClass    来源类型
+     * @param targetClass    目标类型
+     * @param sourceOperator 来源类型的字段操作
+     * @param targetOperator 目标类型的字段操作
+     */
+    public BeanMerger(Class<S> sourceClass, Class<D> targetClass, FieldOperator sourceOperator, FieldOperator targetOperator) {
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+        List<Entry> list = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (Field field : targetOperator.getFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || field.isSynthetic() || !names.add(field.getName())) {
+                continue;
+            }
+            FieldAccessor source = sourceOperator.findAccessor(field.getName());
+            if (source == null || Modifier.isStatic(source.getField().getModifiers())) {
+                continue;
+            }
+            FieldAccessor target = DeclaredFields.of(field.getDeclaringClass()).getAccessor(field);
+            Entry entry = new Entry(source, target);
+            entry.strategy = entry.assignable ? MergeStrategy.OVERWRITE : null;
+            list.add(entry);
+        }
+        this.entries = list.toArray(new Entry[list.size()]);
+    }
+
+    private BeanMerger(BeanMerger<S, D> merger) {
+        this.sourceClass = merger.sourceClass;
+        this.targetClass = merger.targetClass;
+        this.atomic = merger.atomic;
+        this.entries = new Entry[merger.entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = merger.entries[i].copy();
+        }
+    }
+
+    /**
+     * 返回为指定属性使用给定策略的新合并计划, 当前计划不变
+     *
+     * @param name     属性名称
+     * @param strategy 合并策略
+     * @return 返回新的合并计划
+     */
+    public BeanMerger<S, D> withStrategy(String name, MergeStrategy strategy) {
+        BeanMerger<S, D> merger = new BeanMerger<>(this);
+        for (Entry entry : merger.entries) {
+            if (entry.name.equals(name)) {
+                entry.validate(strategy);
+                entry.strategy = strategy;
+                return merger;
+            }
+        }
+        throw ExceptionUtils.fieldNotFound(name, targetClass);
+    }
+
+    /**
+     * 返回原子合并的新合并计划, 当前计划不变. 原子合并先读取全部来源属性值, 再在目标对象上同步地一次写入,
+     * 同一目标上的并发原子合并不会交错
+     *
+     * @return 返回新的合并计划
+     */
+    public BeanMerger<S, D> atomic() {
+        BeanMerger<S, D> merger = new BeanMerger<>(this);
+        merger.atomic = true;
+        return merger;
+    }
+
+    /**
+     * 将来源对象中不为 null 且不为默认值的属性合并到目标对象
+     *
+     * @param source 来源对象
+     * @param target 目标对象
+     * @return 返回目标对象
+     */
+    public D merge(S source, D target) {
+        return merge(source, target, 0);
+    }
+
+    private D merge(S source, D target, int depth) {
+        if (source == null) {
+            return target;
+        }
+        Entry[] entries = this.entries;
+        if (!atomic) {
+            for (Entry entry : entries) {
+                if (entry.strategy != null) {
+                    Object value = entry.read(source);
+                    if (value != SKIP) {
+                        entry.apply(target, value, depth);
+                    }
+                }
+            }
+            return target;
+        }
+        Object[] values = new Object[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            values[i] = entries[i].strategy != null ? entries[i].read(source) : SKIP;
+        }
+        synchronized (target) {
+            for (int i = 0; i < entries.length; i++) {
+                if (values[i] != SKIP) {
+                    entries[i].apply(target, values[i], depth);
+                }
+            }
+        }
+        return target;
+    }
+
+    /**
+     * 获取属性的合并策略
+     *
+     * @param name 属性名称
+     * @return 返回合并策略, 类型不兼容而不合并的属性返回 null
+     */
+    public MergeStrategy getStrategy(String name) {
+        for (Entry entry : entries) {
+            if (entry.name.equals(name)) {
+                return entry.strategy;
+            }
+        }
+        throw ExceptionUtils.fieldNotFound(name, targetClass);
+    }
+
+    /**
+     * 获取合并的属性名称
+     *
+     * @return 返回参与合并的属性名称
+     */
+    public List<String> getFieldNames() {
+        List<String> names = new ArrayList<>(entries.length);
+        for (Entry entry : entries) {
+            if (entry.strategy != null) {
+                names.add(entry.name);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 判断是否为原子合并
+     *
+     * @return 原子合并时返回 true, 否则返回 false
+     */
+    public boolean isAtomic() {
+        return atomic;
+    }
+
+    /**
+     * 获取来源类型
+     *
+     * @return 返回来源类型
+     */
+    public Class<S> getSourceClass() {
+        return sourceClass;
+    }
+
+    /**
+     * 获取目标类型
+     *
+     * @return 返回目标类型
+     */
+    public Class<D> getTargetClass() {
+        return targetClass;
+    }
+
+    /**
+     * 配对的属性
+     */
+    private static final class Entry {
+
+        private final String name;
+
+        private final FieldAccessor source;
+
+        private final FieldAccessor target;
+
+        private final int kind;
+
+        /**
+         * 来源属性值可直接写入目标属性, 基本数据类型与其包装类型视为相同
+         */
+        private final boolean assignable;
+
+        private MergeStrategy strategy;
+
+        Entry(FieldAccessor source, FieldAccessor target) {
+            this.name = target.getField().getName();
+            this.source = source;
+            this.target = target;
+            Class<?> type = source.getField().getType();
+            if (type == int.class) {
+                kind = INT;
+            } else if (type == long.class) {
+                kind = LONG;
+            } else if (type == short.class) {
+                kind = SHORT;
+            } else if (type == byte.class) {
+                kind = BYTE;
+            } else if (type == char.class) {
+                kind = CHAR;
+            } else if (type == boolean.class) {
+                kind = BOOLEAN;
+            } else if (type == float.class) {
+                kind = FLOAT;
+            } else if (type == double.class) {
+                kind = DOUBLE;
+            } else {
+                kind = OBJECT;
+            }
+            this.assignable = wrap(target.getField().getType()).isAssignableFrom(wrap(type));
+        }
+
+        private Entry(Entry entry) {
+            this.name = entry.name;
+            this.source = entry.source;
+            this.target = entry.target;
+            this.kind = entry.kind;
+            this.assignable = entry.assignable;
+            this.strategy = entry.strategy;
+        }
+
+        Entry copy() {
+            return new Entry(this);
+        }
+
+        /**
+         * 校验策略是否适用于属性的类型
+         */
+        void validate(MergeStrategy strategy) {
+            Class<?> sourceType = source.getField().getType();
+            Class<?> targetType = target.getField().getType();
+            boolean valid;
+            switch (strategy) {
+                case APPEND:
+                    valid = (Collection.class.isAssignableFrom(sourceType) && Collection.class.isAssignableFrom(targetType))
+                            || (Map.class.isAssignableFrom(sourceType) && Map.class.isAssignableFrom(targetType));
+                    break;
+                case DEEP:
+                    valid = !isLeaf(sourceType) && !isLeaf(targetType);
+                    break;
+                default:
+                    valid = assignable;
+            }
+            if (!valid) {
+                throw new FieldOperateException(strategy + " can not be applied to " + name + " property from "
+                        + sourceType.getName() + " to " + targetType.getName());
+            }
+        }
+
+        /**
+         * 读取来源属性值, 为 null 或基本数据类型的默认值时返回 SKIP, 基本数据类型只在需要写入时装箱
+         */
+        Object read(Object bean) {
+            switch (kind) {
+                case INT: {
+                    int value = source.getInt(bean);
+                    return value == 0 ? SKIP : value;
+                }
+                case LONG: {
+                    long value = source.getLong(bean);
+                    return value == 0 ? SKIP : value;
+                }
+                case SHORT: {
+                    short value = source.getShort(bean);
+                    return value == 0 ? SKIP : value;
+                }
+                case BYTE: {
+                    byte value = source.getByte(bean);
+                    return value == 0 ? SKIP : value;
+                }
+                case CHAR: {
+                    char value = source.getChar(bean);
+                    return value == 0 ? SKIP : value;
+                }
+                case BOOLEAN: {
+                    return source.getBoolean(bean) ? Boolean.TRUE : SKIP;
+                }
+                case FLOAT: {
+                    float value = source.getFloat(bean);
+                    return value == 0 ? SKIP : value;
+                }
+                case DOUBLE: {
+                    double value = source.getDouble(bean);
+                    return value == 0 ? SKIP : value;
+                }
+                default: {
+                    Object value = source.get(bean);
+                    return value == null ? SKIP : value;
+                }
+            }
+        }
+
+        /**
+         * 按策略将来源属性值写入目标对象, depth 为 DEEP 策略当前的递归深度
+         */
+        void apply(Object bean, Object value, int depth) {
+            switch (strategy) {
+                case OVERWRITE:
+                    target.set(bean, value);
+                    break;
+                case KEEP:
+                    if (isUnset(target.get(bean), target.getField().getType().isPrimitive())) {
+                        target.set(bean, value);
+                    }
+                    break;
+                case APPEND:
+                    append(bean, value);
+                    break;
+                default:
+                    Object current = target.get(bean);
+                    // 运行时的值为叶子类型时没有可递归的属性, 按 OVERWRITE 处理
+                    if (current == null || isLeaf(value.getClass()) || isLeaf(current.getClass())) {
+                        target.set(bean, value);
+                    } else {
+                        if (depth >= MAX_DEPTH) {
+                            throw new IllegalStateException("nesting of " + name + " property exceeds "
+                                    + MAX_DEPTH + " levels, the object graph may contain a cycle");
+                        }
+                        BeanMerger<Object, Object> merger = BeanUtils.merger((Class<Object>) value.getClass(), (Class<Object>) current.getClass());
+                        merger.merge(value, current, depth + 1);
+                    }
+            }
+        }
+
+        private void append(Object bean, Object value) {
+            Object current = target.get(bean);
+            if (current == null) {
+                target.set(bean, copyOf(value));
+            } else if (current instanceof Collection) {
+                ((Collection<Object>) current).addAll((Collection<?>) value);
+            } else {
+                ((Map<Object, Object>) current).putAll((Map<?, ?>) value);
+            }
+        }
+
+        /**
+         * 创建来源集合的副本, 副本类型不能赋给目标属性时直接使用来源集合
+         */
+        private Object copyOf(Object value) {
+            Class<?> targetType = target.getField().getType();
+            Object copy;
+            if (value instanceof Map) {
+                copy = new LinkedHashMap<>((Map<?, ?>) value);
+            } else if (value instanceof Set) {
+                copy = new LinkedHashSet<>((Set<?>) value);
+            } else {
+                copy = new ArrayList<>((Collection<?>) value);
+            }
+            return targetType.isInstance(copy) ? copy : value;
+        }
+
+        /**
+         * 判断目标属性是否未设置, 引用类型为 null, 基本数据类型为其默认值
+         */
+        private static boolean isUnset(Object value, boolean primitive) {
+            if (value == null) {
+                return true;
+            } else if (!primitive) {
+                return false;
+            } else if (value instanceof Number) {
+                return ((Number) value).doubleValue() == 0;
+            } else if (value instanceof Boolean) {
+                return !(Boolean) value;
+            } else if (value instanceof Character) {
+                return (Character) value == 0;
+            }
+            return false;
+        }
+
+        /**
+         * 判断是否为不能递归合并的叶子类型: 基本数据类型、数组、枚举、集合、Map 及 JDK 自带的类型
+         */
+        private static boolean isLeaf(Class<?> type) {
+            if (type.isPrimitive() || type.isArray() || Enum.class.isAssignableFrom(type)
+                    || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+                return true;
+            }
+            String name = type.getName();
+            return name.startsWith("java.") || name.startsWith("javax.");
+        }
+
+        private static Class<?> wrap(Class<?> type) {
+            return type.isPrimitive() ? PrimitiveWrapperTypeUtils.getWrapperType(type) : type;
+        }
+
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.github.fanlychie.beanutils.merge;
+
+/**
+ * 属性合并策略, 来源属性值为 null 或基本数据类型的默认值时, 任何策略都不修改目标属性
+ */
+public enum MergeStrategy {
+
+    /**
+     * 以来源属性值覆盖目标属性值
+     */
+    OVERWRITE,
+
+    /**
+     * 只在目标属性值为 null 或基本数据类型的默认值时写入来源属性值
+     */
+    KEEP,
+
+    /**
+     * 将来源集合的元素追加到目标集合(Map 则合并键值), 目标集合为 null 时写入来源集合的副本
+     */
+    APPEND,
+
+    /**
+     * 按来源属性值与目标属性值的运行时类型递归合并, 目标属性值为 null 时直接写入来源属性值.
+     * 不适用于声明为 JDK 类型、集合、Map、数组或枚举的属性, 运行时的值为这些类型时按 OVERWRITE 处理
+     */
+    DEEP
+
+}
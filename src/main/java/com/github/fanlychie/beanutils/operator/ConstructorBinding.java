@@ -0,0 +1,270 @@
+package com.github.fanlychie.beanutils.operator;
+
+import com.github.fanlychie.beanutils.BeanUtils;
+import com.github.fanlychie.beanutils.exception.MethodOperateException;
+import com.github.fanlychie.beanutils.exception.ReflectCastException;
+import com.github.fanlychie.beanutils.util.ParameterNameUtils;
+import com.github.fanlychie.beanutils.util.PrimitiveWrapperTypeUtils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 构造器绑定计划, 按名称将目标类构造器的参数与来源属性(或值数组的列)配对, 配对只在创建时进行一次.
+ * 构造器参数名称取自 ParameterName 注解、ConstructorProperties 注解或 -parameters 编译的参数元数据,
+ * 在可完整绑定的构造器中选取参数最多的一个. 有可绑定的来源属性时不选取无参构造器, 以免静默地创建出未赋值的实例
+ */
+public class ConstructorBinding<T> {
+
+    /**
+     * 目标类型
+     */
+    private Class<T> targetClass;
+
+    /**
+     * 来源类型, 按值数组绑定时为 null
+     */
+    private Class<?> sourceClass;
+
+    /**
+     * 来源属性操作实例, 按值数组绑定时为 null
+     */
+    private PropertyOperator sourceOperator;
+
+    /**
+     * 值数组各列的名称, 按来源对象绑定时为 null
+     */
+    private String[] valueNames;
+
+    /**
+     * 选中的构造器
+     */
+    private Constructor<T> constructor;
+
+    /**
+     * 构造器参数名称
+     */
+    private String[] parameterNames;
+
+    /**
+     * 构造器各参数对应的来源属性槽位或值数组下标
+     */
+    private int[] sources;
+
+    /**
+     * 构造器各参数在来源值为 null 时使用的值, 基本数据类型为其默认值, 其余为 null
+     */
+    private Object[] defaultValues;
+
+    /**
+     * 构建按来源对象绑定的实例
+     *
+     * @param sourceClass 来源类型
+     * @param targetClass 目标类型
+     */
+    public ConstructorBinding(Class<?> sourceClass, Class<T> targetClass) {
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+    }
+
+    /**
+     * 构建按值数组绑定的实例
+     *
+     * @param targetClass 目标类型
+     * @param valueNames  值数组各列的名称
+     */
+    public ConstructorBinding(Class<T> targetClass, String... valueNames) {
+        this.targetClass = targetClass;
+        this.valueNames = valueNames.clone();
+    }
+
+    /**
+     * 根据来源对象的属性创建目标实例
+     *
+     * @param source 来源对象
+     * @return 返回创建的目标实例
+     */
+    public T newInstance(Object source) {
+        return newInstance(source, new Object[sources.length]);
+    }
+
+    /**
+     * 根据值数组创建目标实例
+     *
+     * @param values 值数组, 各列与绑定时给定的名称对应
+     * @return 返回创建的目标实例
+     */
+    public T newInstanceFromValues(Object... values) {
+        return newInstanceFromValues(values, new Object[sources.length]);
+    }
+
+    /**
+     * 根据多个来源对象批量创建目标实例, 所有实例共用同一个参数缓冲区
+     *
+     * @param sources 来源对象集合
+     * @return 返回创建的目标实例, 顺序与来源一致
+     */
+    public List<T> newInstances(Collection<?> sources) {
+        List<T> list = new ArrayList<>(sources.size());
+        Object[] args = new Object[this.sources.length];
+        for (Object source : sources) {
+            list.add(newInstance(source, args));
+        }
+        return list;
+    }
+
+    /**
+     * 根据多个值数组批量创建目标实例, 所有实例共用同一个参数缓冲区
+     *
+     * @param rows 值数组集合
+     * @return 返回创建的目标实例, 顺序与来源一致
+     */
+    public List<T> newInstancesFromValues(Collection<Object[]> rows) {
+        List<T> list = new ArrayList<>(rows.size());
+        Object[] args = new Object[sources.length];
+        for (Object[] values : rows) {
+            list.add(newInstanceFromValues(values, args));
+        }
+        return list;
+    }
+
+    /**
+     * 获取选中的构造器
+     *
+     * @return 返回选中的构造器
+     */
+    public Constructor<T> getConstructor() {
+        return constructor;
+    }
+
+    /**
+     * 获取构造器参数名称
+     *
+     * @return 返回只读的构造器参数名称集合
+     */
+    public List<String> getParameterNames() {
+        return Collections.unmodifiableList(Arrays.asList(parameterNames));
+    }
+
+    /**
+     * 初始化, 选取构造器并配对参数
+     *
+     * @return 返回当前对象
+     */
+    public ConstructorBinding<T> init() {
+        if (sourceClass != null) {
+            sourceOperator = BeanUtils.propertyOperate(sourceClass);
+        }
+        boolean hasSource = sourceOperator != null ? !sourceOperator.getProperties().isEmpty() : valueNames.length > 0;
+        // 缺少参数名称元数据的构造器, 用于找不到构造器时提示
+        List<String> unnamed = new ArrayList<>();
+        for (Constructor<?> candidate : targetClass.getDeclaredConstructors()) {
+            int parameterCount = candidate.getParameterTypes().length;
+            if (constructor != null && parameterCount <= parameterNames.length) {
+                continue;
+            }
+            if (hasSource && parameterCount == 0) {
+                continue;
+            }
+            String[] names = ParameterNameUtils.getParameterNames(candidate);
+            if (names == null) {
+                unnamed.add(candidate.toString());
+                continue;
+            }
+            int[] slots = bind(names, candidate.getParameterTypes());
+            if (slots != null) {
+                constructor = (Constructor<T>) candidate;
+                parameterNames = names;
+                sources = slots;
+            }
+        }
+        if (constructor == null) {
+            String source = sourceClass != null ? sourceClass.getName() : Arrays.toString(valueNames);
+            if (unnamed.isEmpty()) {
+                throw new MethodOperateException("no constructor of " + targetClass.getName()
+                        + " with parameters can be bound to " + source);
+            }
+            throw new MethodOperateException("no constructor of " + targetClass.getName() + " can be bound to " + source
+                    + ", parameter names of " + unnamed + " are missing, compile with -parameters or annotate parameters with @ParameterName");
+        }
+        constructor.setAccessible(true);
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        defaultValues = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i].isPrimitive()) {
+                defaultValues[i] = Array.get(Array.newInstance(parameterTypes[i], 1), 0);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 按名称配对构造器参数
+     *
+     * @param names          参数名称
+     * @param parameterTypes 参数类型
+     * @return 返回各参数对应的来源属性槽位或值数组下标, 任一参数无法配对时返回 null
+     */
+    private int[] bind(String[] names, Class<?>[] parameterTypes) {
+        int[] slots = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            if (sourceOperator != null) {
+                int slot = sourceOperator.slotOf(names[i]);
+                if (slot < 0) {
+                    return null;
+                }
+                PropertyOperator.Property property = sourceOperator.getProperty(slot);
+                if (!property.isReadable() || !assignable(parameterTypes[i], property.getType())) {
+                    return null;
+                }
+                slots[i] = slot;
+            } else {
+                slots[i] = Arrays.asList(valueNames).indexOf(names[i]);
+                if (slots[i] < 0) {
+                    return null;
+                }
+            }
+        }
+        return slots;
+    }
+
+    private T newInstance(Object source, Object[] args) {
+        for (int i = 0; i < args.length; i++) {
+            Object value = sourceOperator.getValue(source, sources[i]);
+            args[i] = value != null ? value : defaultValues[i];
+        }
+        return construct(args);
+    }
+
+    private T newInstanceFromValues(Object[] values, Object[] args) {
+        for (int i = 0; i < args.length; i++) {
+            Object value = values[sources[i]];
+            args[i] = value != null ? value : defaultValues[i];
+        }
+        return construct(args);
+    }
+
+    private T construct(Object[] args) {
+        try {
+            return constructor.newInstance(args);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new ReflectCastException(e);
+        }
+    }
+
+    /**
+     * 判断来源类型的值能否传给参数类型, 基本数据类型与其包装类型视为相同
+     */
+    private static boolean assignable(Class<?> parameterType, Class<?> sourceType) {
+        Class<?> wrappedParameterType = parameterType.isPrimitive() ? PrimitiveWrapperTypeUtils.getWrapperType(parameterType) : parameterType;
+        Class<?> wrappedSourceType = sourceType.isPrimitive() ? PrimitiveWrapperTypeUtils.getWrapperType(sourceType) : sourceType;
+        return wrappedParameterType.isAssignableFrom(wrappedSourceType);
+    }
+
+}
@@ -2,6 +2,7 @@ package com.github.fanlychie.beanutils.operator;
 
 import com.github.fanlychie.beanutils.exception.ReflectCastException;
 import com.github.fanlychie.beanutils.util.MethodSignatureUtils;
+import com.github.fanlychie.beanutils.util.ObjectSizeUtils;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -14,6 +15,21 @@ import java.util.Map;
  */
 public class ConstructorOperator {
 
+    /**
+     * 估算的 HashMap 对象的字节数
+     */
+    private static final long HASH_MAP_FOOTPRINT = 48;
+
+    /**
+     * 估算的 HashMap 每个条目的字节数
+     */
+    private static final long HASH_MAP_ENTRY_FOOTPRINT = 32;
+
+    /**
+     * 估算的单个 Constructor 对象的字节数
+     */
+    private static final long CONSTRUCTOR_FOOTPRINT = 80;
+
     /**
      * 任意的Class类型
      */
@@ -52,6 +68,23 @@ public class ConstructorOperator {
         }
     }
 
+    /**
+     * 估算操作实例的堆内存占用, 包括构造器签名对照表及其中的 Constructor 对象
+     *
+     * @return 返回占用的字节数
+     */
+    public long footprint() {
+        int length = constructorSignature.size();
+        long size = ObjectSizeUtils.align(ObjectSizeUtils.OBJECT_HEADER + 2 * ObjectSizeUtils.REFERENCE)
+                + HASH_MAP_FOOTPRINT
+                + ObjectSizeUtils.sizeOfArray(Object.class, Integer.highestOneBit(Math.max(1, length)) << 1)
+                + length * (HASH_MAP_ENTRY_FOOTPRINT + CONSTRUCTOR_FOOTPRINT);
+        for (String signature : constructorSignature.keySet()) {
+            size += ObjectSizeUtils.sizeOf(signature);
+        }
+        return size;
+    }
+
     /**
      * 初始化
      *
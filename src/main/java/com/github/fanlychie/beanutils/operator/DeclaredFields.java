@@ -0,0 +1,276 @@
+package com.github.fanlychie.beanutils.operator;
+
+import com.github.fanlychie.beanutils.accessor.FieldAccessor;
+import com.github.fanlychie.beanutils.accessor.FieldAccessors;
+import com.github.fanlychie.beanutils.util.NameTable;
+import com.github.fanlychie.beanutils.util.ObjectSizeUtils;
+
+import java.lang.reflect.Field;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 单个类声明的字段属性元数据, 每个类只扫描一次, 由该类及其所有子类的 FieldOperator 共享.
+ * 字段属性按声明顺序分配槽位, 名称经完美散列表映射到槽位, 字段属性在首次被查找时才设置为可访问
+ */
+public final class DeclaredFields {
+
+    /**
+     * 估算的单个 Field 对象的字节数
+     */
+    static final long FIELD_FOOTPRINT = 72;
+
+    /**
+     * <类, 声明的字段属性元数据> 缓存, 值保存在类自身之中, 不阻止类及其类装载器被卸载
+     */
+    private static final ClassValue<DeclaredFields> CACHE = new ClassValue<DeclaredFields>() {
+        @Override
+        protected DeclaredFields computeValue(Class<?> type) {
+            return new DeclaredFields(type);
+        }
+    };
+
+    /**
+     * 已扫描的元数据, 弱引用, 仅用于估算内存占用
+     */
+    private static final Map<DeclaredFields, Boolean> SCANNED = Collections.synchronizedMap(new WeakHashMap<DeclaredFields, Boolean>());
+
+    /**
+     * 声明字段属性的类
+     */
+    private final Class<?> declaringClass;
+
+    /**
+     * 扫描得到的字段属性, 下标即槽位
+     */
+    private volatile Field[] declaredFields;
+
+    /**
+     * <属性名称, 槽位> 完美散列表
+     */
+    private volatile NameTable nameTable;
+
+    /**
+     * 已设置为可访问的字段属性, 下标即槽位
+     */
+    private volatile AtomicReferenceArray<Field> accessibleFields;
+
+    /**
+     * 字段访问器, 下标即槽位, 访问器在首次访问属性时创建
+     */
+    private volatile AtomicReferenceArray<FieldAccessor> accessors;
+
+    /**
+     * 全部字段属性的只读视图
+     */
+    private volatile List<Field> fields;
+
+    private DeclaredFields(Class<?> declaringClass) {
+        this.declaringClass = declaringClass;
+    }
+
+    /**
+     * 获取参数给定的类声明的字段属性元数据
+     *
+     * @param declaringClass 任意的Class类型
+     * @return 返回类声明的字段属性元数据
+     */
+    public static DeclaredFields of(Class<?> declaringClass) {
+        return CACHE.get(declaringClass);
+    }
+
+    /**
+     * 获取已扫描且仍可达的全部字段属性元数据
+     *
+     * @return 返回只读的字段属性元数据集合
+     */
+    public static Collection<DeclaredFields> cached() {
+        synchronized (SCANNED) {
+            return Collections.unmodifiableList(new ArrayList<>(SCANNED.keySet()));
+        }
+    }
+
+    /**
+     * 获取声明字段属性的类
+     *
+     * @return 返回声明字段属性的类
+     */
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
+    /**
+     * 根据名称获取槽位
+     *
+     * @param name 属性名称
+     * @return 返回属性的槽位, 找不到时返回 -1
+     */
+    public int slotOf(String name) {
+        NameTable nameTable = this.nameTable;
+        if (nameTable == null) {
+            scan();
+            nameTable = this.nameTable;
+        }
+        return nameTable.indexOf(name);
+    }
+
+    /**
+     * 根据名称获取字段属性
+     *
+     * @param name 属性名称
+     * @return 返回已设置为可访问的字段属性, 找不到时返回 null
+     */
+    public Field getField(String name) {
+        int slot = slotOf(name);
+        return slot < 0 ? null : getField(slot);
+    }
+
+    /**
+     * 根据槽位获取字段属性
+     *
+     * @param slot 槽位
+     * @return 返回已设置为可访问的字段属性
+     */
+    public Field getField(int slot) {
+        scan();
+        Field field = accessibleFields.get(slot);
+        if (field == null) {
+            field = declaredFields[slot];
+            field.setAccessible(true);
+            accessibleFields.compareAndSet(slot, null, field);
+        }
+        return field;
+    }
+
+    /**
+     * 获取字段属性数量
+     *
+     * @return 返回字段属性数量
+     */
+    public int size() {
+        scan();
+        return declaredFields.length;
+    }
+
+    /**
+     * 获取全部字段属性
+     *
+     * @return 返回按声明顺序排列的只读字段属性集合, 均已设置为可访问
+     */
+    public List<Field> getFields() {
+        List<Field> fields = this.fields;
+        if (fields == null) {
+            final int size = size();
+            for (int slot = 0; slot < size; slot++) {
+                getField(slot);
+            }
+            this.fields = fields = Collections.unmodifiableList(new AbstractList<Field>() {
+                @Override
+                public Field get(int index) {
+                    return accessibleFields.get(index);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            });
+        }
+        return fields;
+    }
+
+    /**
+     * 获取字段访问器, 同一字段属性的访问器由所有 FieldOperator 共享
+     *
+     * @param slot 槽位
+     * @return 返回字段访问器
+     */
+    public FieldAccessor getAccessor(int slot) {
+        AtomicReferenceArray<FieldAccessor> accessors = this.accessors;
+        if (accessors == null) {
+            scan();
+            accessors = this.accessors;
+        }
+        FieldAccessor accessor = accessors.get(slot);
+        if (accessor == null) {
+            accessor = FieldAccessors.newAccessor(getField(slot));
+            if (!accessors.compareAndSet(slot, null, accessor)) {
+                accessor = accessors.get(slot);
+            }
+        }
+        return accessor;
+    }
+
+    /**
+     * 获取字段访问器, 同一字段属性的访问器由所有 FieldOperator 共享
+     *
+     * @param field 本类声明的字段属性
+     * @return 返回字段访问器
+     */
+    public FieldAccessor getAccessor(Field field) {
+        return getAccessor(slotOf(field.getName()));
+    }
+
+    /**
+     * 估算元数据的堆内存占用, 包括扫描得到的 Field 对象
+     *
+     * @return 返回占用的字节数
+     */
+    public long footprint() {
+        long size = ObjectSizeUtils.align(ObjectSizeUtils.OBJECT_HEADER + 6 * ObjectSizeUtils.REFERENCE);
+        Field[] fields = declaredFields;
+        if (fields != null) {
+            int length = fields.length;
+            size += ObjectSizeUtils.sizeOfArray(Field.class, length) + length * FIELD_FOOTPRINT + nameTable.footprint()
+                    + 2 * (ObjectSizeUtils.align(ObjectSizeUtils.OBJECT_HEADER + ObjectSizeUtils.REFERENCE)
+                    + ObjectSizeUtils.sizeOfArray(Object.class, length));
+            for (int slot = 0; slot < length; slot++) {
+                if (accessors.get(slot) != null) {
+                    size += ObjectSizeUtils.align(ObjectSizeUtils.OBJECT_HEADER + 2 * ObjectSizeUtils.REFERENCE);
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 扫描类声明的字段属性, 只在首次调用时扫描
+     */
+    private void scan() {
+        if (nameTable != null) {
+            return;
+        }
+        synchronized (this) {
+            if (nameTable != null) {
+                return;
+            }
+            // 字节码层面允许同名不同类型的字段, 只保留先声明的一个
+            List<Field> list = new ArrayList<>();
+            Set<String> nameSet = new HashSet<>();
+            for (Field field : declaringClass.getDeclaredFields()) {
+                if (nameSet.add(field.getName())) {
+                    list.add(field);
+                }
+            }
+            Field[] fields = list.toArray(new Field[list.size()]);
+            String[] names = new String[fields.length];
+            for (int slot = 0; slot < fields.length; slot++) {
+                names[slot] = fields[slot].getName();
+            }
+            declaredFields = fields;
+            accessibleFields = new AtomicReferenceArray<>(fields.length);
+            accessors = new AtomicReferenceArray<>(fields.length);
+            SCANNED.put(this, Boolean.TRUE);
+            nameTable = NameTable.of(names);
+        }
+    }
+
+}
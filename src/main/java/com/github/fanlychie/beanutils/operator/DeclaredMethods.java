@@ -0,0 +1,331 @@
+package com.github.fanlychie.beanutils.operator;
+
+import com.github.fanlychie.beanutils.util.NameTable;
+import com.github.fanlychie.beanutils.util.ObjectSizeUtils;
+import com.github.fanlychie.beanutils.util.PrimitiveWrapperTypeUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 单个类声明的方法元数据, 每个类只扫描一次, 由该类及其所有子类的 MethodOperator 共享.
+ * 方法按名称分组, 名称经完美散列表映射到分组, 同名方法在首次被查找时才设置为可访问
+ */
+public final class DeclaredMethods {
+
+    /**
+     * 估算的单个 Method 对象的字节数
+     */
+    static final long METHOD_FOOTPRINT = 88;
+
+    /**
+     * <类, 声明的方法元数据> 缓存, 值保存在类自身之中, 不阻止类及其类装载器被卸载
+     */
+    private static final ClassValue<DeclaredMethods> CACHE = new ClassValue<DeclaredMethods>() {
+        @Override
+        protected DeclaredMethods computeValue(Class<?> type) {
+            return new DeclaredMethods(type);
+        }
+    };
+
+    /**
+     * 已扫描的元数据, 弱引用, 仅用于估算内存占用
+     */
+    private static final Map<DeclaredMethods, Boolean> SCANNED = Collections.synchronizedMap(new WeakHashMap<DeclaredMethods, Boolean>());
+
+    /**
+     * 声明方法的类
+     */
+    private final Class<?> declaringClass;
+
+    /**
+     * 扫描得到的方法
+     */
+    private volatile Method[] declaredMethods;
+
+    /**
+     * <方法名称, 分组下标> 完美散列表
+     */
+    private volatile NameTable nameTable;
+
+    /**
+     * 分组下标对应的方法名称
+     */
+    private volatile String[] groupNames;
+
+    /**
+     * 同名方法分组, 下标即分组下标, 在首次查找该名称时创建
+     */
+    private volatile AtomicReferenceArray<MethodGroup> groups;
+
+    private DeclaredMethods(Class<?> declaringClass) {
+        this.declaringClass = declaringClass;
+    }
+
+    /**
+     * 获取参数给定的类声明的方法元数据
+     *
+     * @param declaringClass 任意的Class类型
+     * @return 返回类声明的方法元数据
+     */
+    public static DeclaredMethods of(Class<?> declaringClass) {
+        return CACHE.get(declaringClass);
+    }
+
+    /**
+     * 获取已扫描且仍可达的全部方法元数据
+     *
+     * @return 返回只读的方法元数据集合
+     */
+    public static Collection<DeclaredMethods> cached() {
+        synchronized (SCANNED) {
+            return Collections.unmodifiableList(new ArrayList<>(SCANNED.keySet()));
+        }
+    }
+
+    /**
+     * 获取声明方法的类
+     *
+     * @return 返回声明方法的类
+     */
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
+    /**
+     * 根据名称获取同名方法分组
+     *
+     * @param name 方法名称
+     * @return 返回同名方法分组, 找不到时返回 null
+     */
+    public MethodGroup getMethodGroup(String name) {
+        scan();
+        int index = nameTable.indexOf(name);
+        if (index < 0) {
+            return null;
+        }
+        MethodGroup group = groups.get(index);
+        if (group == null) {
+            group = createMethodGroup(name);
+            if (!groups.compareAndSet(index, null, group)) {
+                group = groups.get(index);
+            }
+        }
+        return group;
+    }
+
+    /**
+     * 根据名称和参数值查找方法
+     *
+     * @param name      方法名称
+     * @param argValues 方法参数的值列表
+     * @return 返回已设置为可访问的方法, 找不到时返回 null
+     */
+    public Method getMethod(String name, Object[] argValues) {
+        MethodGroup group = getMethodGroup(name);
+        return group == null ? null : group.find(argValues);
+    }
+
+    /**
+     * 根据名称和参数类型查找方法
+     *
+     * @param name     方法名称
+     * @param argTypes 方法参数的类型列表
+     * @return 返回已设置为可访问的方法, 找不到时返回 null
+     */
+    public Method getMethod(String name, Class<?>[] argTypes) {
+        MethodGroup group = getMethodGroup(name);
+        return group == null ? null : group.find(argTypes);
+    }
+
+    /**
+     * 解析全部方法
+     */
+    public void resolveAll() {
+        scan();
+        for (String name : groupNames) {
+            getMethodGroup(name);
+        }
+    }
+
+    /**
+     * 估算元数据的堆内存占用, 包括扫描得到的 Method 对象
+     *
+     * @return 返回占用的字节数
+     */
+    public long footprint() {
+        long size = ObjectSizeUtils.align(ObjectSizeUtils.OBJECT_HEADER + 5 * ObjectSizeUtils.REFERENCE);
+        Method[] methods = declaredMethods;
+        if (methods != null) {
+            size += ObjectSizeUtils.sizeOfArray(Method.class, methods.length) + methods.length * METHOD_FOOTPRINT
+                    + nameTable.footprint() + ObjectSizeUtils.sizeOfArray(String.class, groupNames.length)
+                    + ObjectSizeUtils.align(ObjectSizeUtils.OBJECT_HEADER + ObjectSizeUtils.REFERENCE)
+                    + ObjectSizeUtils.sizeOfArray(Object.class, groupNames.length);
+            for (int i = 0; i < groupNames.length; i++) {
+                MethodGroup group = groups.get(i);
+                if (group != null) {
+                    size += group.footprint();
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 创建同名方法分组, 参数类型相同的方法(如桥接方法)只保留先声明的一个
+     *
+     * @param name 方法名称
+     * @return 返回同名方法分组
+     */
+    private MethodGroup createMethodGroup(String name) {
+        List<Method> methods = new ArrayList<>();
+        List<Class<?>[]> parameterTypes = new ArrayList<>();
+        for (Method method : declaredMethods) {
+            if (!method.getName().equals(name)) {
+                continue;
+            }
+            Class<?>[] types = method.getParameterTypes();
+            for (int i = 0; i < types.length; i++) {
+                Class<?> wrapperType = PrimitiveWrapperTypeUtils.getWrapperType(types[i]);
+                if (wrapperType != null) {
+                    types[i] = wrapperType;
+                }
+            }
+            boolean duplicate = false;
+            for (Class<?>[] existing : parameterTypes) {
+                duplicate |= Arrays.equals(existing, types);
+            }
+            if (!duplicate) {
+                method.setAccessible(true);
+                methods.add(method);
+                parameterTypes.add(types);
+            }
+        }
+        return new MethodGroup(methods.toArray(new Method[methods.size()]),
+                parameterTypes.toArray(new Class<?>[parameterTypes.size()][]));
+    }
+
+    /**
+     * 扫描类声明的方法, 只在首次调用时扫描
+     */
+    private void scan() {
+        if (nameTable != null) {
+            return;
+        }
+        synchronized (this) {
+            if (nameTable != null) {
+                return;
+            }
+            Method[] methods = declaringClass.getDeclaredMethods();
+            Map<String, Boolean> names = new LinkedHashMap<>();
+            for (Method method : methods) {
+                names.put(method.getName(), Boolean.TRUE);
+            }
+            String[] groupNames = names.keySet().toArray(new String[names.size()]);
+            declaredMethods = methods;
+            this.groupNames = groupNames;
+            groups = new AtomicReferenceArray<>(groupNames.length);
+            SCANNED.put(this, Boolean.TRUE);
+            nameTable = NameTable.of(groupNames);
+        }
+    }
+
+    /**
+     * 同名方法分组, 按参数类型(基本数据类型换算为包装类型)精确匹配
+     */
+    public static final class MethodGroup {
+
+        /**
+         * 同名的重载方法
+         */
+        private final Method[] methods;
+
+        /**
+         * 重载方法的参数类型, 基本数据类型已换算为包装类型
+         */
+        private final Class<?>[][] parameterTypes;
+
+        MethodGroup(Method[] methods, Class<?>[][] parameterTypes) {
+            this.methods = methods;
+            this.parameterTypes = parameterTypes;
+        }
+
+        /**
+         * 根据参数值查找方法, 不创建任何中间对象
+         *
+         * @param argValues 方法参数的值列表
+         * @return 返回查找到的方法, 找不到时返回 null
+         */
+        public Method find(Object[] argValues) {
+            int length = argValues == null ? 0 : argValues.length;
+            for (int i = 0; i < methods.length; i++) {
+                Class<?>[] types = parameterTypes[i];
+                if (types.length != length) {
+                    continue;
+                }
+                boolean match = true;
+                for (int j = 0; j < length && match; j++) {
+                    match = argValues[j] != null && types[j] == argValues[j].getClass();
+                }
+                if (match) {
+                    return methods[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 根据参数类型查找方法
+         *
+         * @param argTypes 方法参数的类型列表
+         * @return 返回查找到的方法, 找不到时返回 null
+         */
+        public Method find(Class<?>[] argTypes) {
+            int length = argTypes == null ? 0 : argTypes.length;
+            for (int i = 0; i < methods.length; i++) {
+                Class<?>[] types = parameterTypes[i];
+                if (types.length != length) {
+                    continue;
+                }
+                boolean match = true;
+                for (int j = 0; j < length && match; j++) {
+                    Class<?> wrapperType = PrimitiveWrapperTypeUtils.getWrapperType(argTypes[j]);
+                    match = types[j] == (wrapperType != null ? wrapperType : argTypes[j]);
+                }
+                if (match) {
+                    return methods[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 获取同名的重载方法
+         *
+         * @return 返回只读的方法集合
+         */
+        public List<Method> getMethods() {
+            return Collections.unmodifiableList(Arrays.asList(methods));
+        }
+
+        long footprint() {
+            long size = ObjectSizeUtils.align(ObjectSizeUtils.OBJECT_HEADER + 2 * ObjectSizeUtils.REFERENCE)
+                    + ObjectSizeUtils.sizeOfArray(Method.class, methods.length)
+                    + ObjectSizeUtils.sizeOfArray(Object.class, parameterTypes.length);
+            for (Class<?>[] types : parameterTypes) {
+                size += ObjectSizeUtils.sizeOfArray(Class.class, types.length);
+            }
+            return size;
+        }
+
+    }
+
+}
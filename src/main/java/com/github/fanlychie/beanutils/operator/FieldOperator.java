@@ -1,14 +1,20 @@
 package com.github.fanlychie.beanutils.operator;
 
+import com.github.fanlychie.beanutils.accessor.FieldAccessor;
 import com.github.fanlychie.beanutils.exception.FieldOperateException;
 import com.github.fanlychie.beanutils.exception.ReflectCastException;
+import com.github.fanlychie.beanutils.util.ExceptionUtils;
+import com.github.fanlychie.beanutils.util.ObjectSizeUtils;
 import com.github.fanlychie.beanutils.util.PrimitiveWrapperTypeUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -18,6 +24,21 @@ import java.util.Map;
  */
 public class FieldOperator {
 
+    /**
+     * 估算的 LinkedHashMap 及其只读包装对象的字节数
+     */
+    private static final long LINKED_HASH_MAP_FOOTPRINT = 80;
+
+    /**
+     * 估算的 LinkedHashMap 每个条目的字节数
+     */
+    private static final long LINKED_HASH_MAP_ENTRY_FOOTPRINT = 40;
+
+    /**
+     * 估算的数组包装列表及其只读包装对象的字节数
+     */
+    private static final long UNMODIFIABLE_LIST_FOOTPRINT = 40;
+
     /**
      * 任意的Class类型
      */
@@ -39,9 +60,29 @@ public class FieldOperator {
     private Class<?> stopClass;
 
     /**
-     * 用于存储查找到的<属性名称, 属性字段>散列表
+     * 是否延迟解析, 延迟解析时属性在首次按名称访问时才被查找和设置为可访问
+     */
+    private boolean lazy;
+
+    /**
+     * 从当前类到终止类的各个类声明的字段属性元数据, 子类在前, 与父类的 FieldOperator 共享
      */
-    private Map<String, Field> nameFieldMap;
+    private DeclaredFields[] hierarchy;
+
+    /**
+     * 用于存储查找到的<属性名称, 属性字段>只读散列表, 在首次调用批量接口时合并生成
+     */
+    private volatile Map<String, Field> nameFieldMap;
+
+    /**
+     * 查找到的字段属性只读集合, 与 nameFieldMap 一同生成
+     */
+    private List<Field> fields;
+
+    /**
+     * 查找到的属性名称只读集合, 与 nameFieldMap 一同生成
+     */
+    private List<String> fieldNames;
 
     /**
      * 构建实例
@@ -52,10 +93,24 @@ public class FieldOperator {
      * @param stopClass            在递归查找时, 遇到此类则终止搜索
      */
     public FieldOperator(Class<?> pojoClass, boolean accessibleStatic, boolean accessibleSuperclass, Class<?> stopClass) {
+        this(pojoClass, accessibleStatic, accessibleSuperclass, stopClass, false);
+    }
+
+    /**
+     * 构建实例
+     *
+     * @param pojoClass            任意的Class类型
+     * @param accessibleStatic     是否允许访问Class的静态属性
+     * @param accessibleSuperclass 是否递归查找Class的父类属性
+     * @param stopClass            在递归查找时, 遇到此类则终止搜索
+     * @param lazy                 是否延迟解析, 适用于属性众多而只访问少数属性的类
+     */
+    public FieldOperator(Class<?> pojoClass, boolean accessibleStatic, boolean accessibleSuperclass, Class<?> stopClass, boolean lazy) {
         this.pojoClass = pojoClass;
         this.stopClass = stopClass;
         this.accessibleStatic = accessibleStatic;
         this.accessibleSuperclass = accessibleSuperclass;
+        this.lazy = lazy;
     }
 
     /**
@@ -67,11 +122,21 @@ public class FieldOperator {
      * @return 返回对象属性的值
      */
     public <T> T getValueByFieldName(Object obj, String name) {
-        try {
-            return (T) getFieldByFieldName(name).get(obj);
-        } catch (IllegalAccessException e) {
-            throw new ReflectCastException(e);
-        }
+        return (T) getAccessorByFieldName(name).get(obj);
+    }
+
+    /**
+     * 获取实例对象的属性值, 找不到属性时返回给定的默认值而不抛出异常
+     *
+     * @param obj          具体对象
+     * @param name         属性名称
+     * @param defaultValue 找不到属性时返回的值
+     * @param <T>          期望的类型
+     * @return 返回对象属性的值, 找不到属性时返回 defaultValue
+     */
+    public <T> T tryGetValue(Object obj, String name, T defaultValue) {
+        FieldAccessor accessor = findAccessor(name);
+        return accessor == null ? defaultValue : (T) accessor.get(obj);
     }
 
     /**
@@ -120,11 +185,7 @@ public class FieldOperator {
      * @param value 值
      */
     public void setValueByFieldName(Object obj, String name, Object value) {
-        try {
-            getFieldByFieldName(name).set(obj, value);
-        } catch (IllegalAccessException e) {
-            throw new ReflectCastException(e);
-        }
+        getAccessorByFieldName(name).set(obj, value);
     }
 
     /**
@@ -206,13 +267,62 @@ public class FieldOperator {
         if (name == null) {
             throw new NullPointerException();
         }
-        Field field = getNameFieldMap().get(name);
+        Field field = lookupField(name);
         if (field == null) {
-            throw new FieldOperateException(name + " property can not be found in " + pojoClass);
+            throw ExceptionUtils.fieldNotFound(name, pojoClass);
         }
         return field;
     }
 
+    /**
+     * 根据名称获取字段访问器, 访问器由运行时选择的后端创建
+     *
+     * @param name 属性名称
+     * @return 返回得到的字段访问器
+     */
+    public FieldAccessor getAccessorByFieldName(String name) {
+        FieldAccessor accessor = findAccessor(name);
+        if (accessor == null) {
+            throw ExceptionUtils.fieldNotFound(name, pojoClass);
+        }
+        return accessor;
+    }
+
+    /**
+     * 根据名称查找字段访问器, 找不到时不抛出异常
+     *
+     * @param name 属性名称
+     * @return 返回得到的字段访问器, 找不到时返回 null
+     */
+    public FieldAccessor findAccessor(String name) {
+        if (name == null) {
+            throw new NullPointerException();
+        }
+        for (DeclaredFields declaredFields : hierarchy) {
+            int slot = declaredFields.slotOf(name);
+            if (slot >= 0) {
+                FieldAccessor accessor = declaredFields.getAccessor(slot);
+                if (accessibleStatic || !isStatic(accessor.getField())) {
+                    return accessor;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 判断是否存在参数给定名称的属性, 找不到时不抛出异常
+     *
+     * @param name 属性名称
+     * @return 存在时返回 true, 否则返回 false
+     */
+    public boolean hasField(String name) {
+        if (name == null) {
+            throw new NullPointerException();
+        }
+        return lookupField(name) != null;
+    }
+
     /**
      * 根据类型获取属性
      *
@@ -245,28 +355,34 @@ public class FieldOperator {
     /**
      * 获取查找到的<属性名称, 属性字段>散列表
      *
-     * @return 返回查找到的 <属性名称, 字段属性> Map
+     * @return 返回查找到的只读 <属性名称, 字段属性> Map
      */
     public Map<String, Field> getNameFieldMap() {
-        return nameFieldMap;
+        Map<String, Field> map = nameFieldMap;
+        if (map == null) {
+            map = lookupClassNameFieldMap();
+        }
+        return map;
     }
 
     /**
      * 获取查找到的字段属性集合
      *
-     * @return 返回查找到的字段属性集合
+     * @return 返回查找到的只读字段属性集合
      */
     public List<Field> getFields() {
-        return new ArrayList<>(getNameFieldMap().values());
+        getNameFieldMap();
+        return fields;
     }
 
     /**
      * 获取查找到的属性名称集合
      *
-     * @return 返回查找到的属性名称集合
+     * @return 返回查找到的只读属性名称集合
      */
     public List<String> getFieldNames() {
-        return new ArrayList<>(getNameFieldMap().keySet());
+        getNameFieldMap();
+        return fieldNames;
     }
 
     /**
@@ -286,7 +402,25 @@ public class FieldOperator {
      * @return 若为静态属性则返回 true, 否则返回 false
      */
     public boolean isStatic(String field) {
-        return isStatic(nameFieldMap.get(field));
+        return isStatic(getFieldByFieldName(field));
+    }
+
+    /**
+     * 估算操作实例自身的堆内存占用, 不包括与其它操作实例共享的类元数据
+     *
+     * @return 返回占用的字节数
+     */
+    public long footprint() {
+        long size = ObjectSizeUtils.align(ObjectSizeUtils.OBJECT_HEADER + 6 * ObjectSizeUtils.REFERENCE + 3)
+                + ObjectSizeUtils.sizeOfArray(DeclaredFields.class, hierarchy.length);
+        Map<String, Field> map = nameFieldMap;
+        if (map != null) {
+            int length = map.size();
+            size += LINKED_HASH_MAP_FOOTPRINT + length * LINKED_HASH_MAP_ENTRY_FOOTPRINT
+                    + ObjectSizeUtils.sizeOfArray(Object.class, Integer.highestOneBit(Math.max(1, length)) << 1)
+                    + 2 * (ObjectSizeUtils.sizeOfArray(Object.class, length) + UNMODIFIABLE_LIST_FOOTPRINT);
+        }
+        return size;
     }
 
     /**
@@ -295,48 +429,59 @@ public class FieldOperator {
      * @return 返回当前对象
      */
     public FieldOperator init() {
-        this.nameFieldMap = lookupClassNameFieldMap(pojoClass);
+        List<DeclaredFields> list = new ArrayList<>();
+        Class<?> currentClass = pojoClass;
+        do {
+            DeclaredFields declaredFields = DeclaredFields.of(currentClass);
+            if (!lazy) {
+                declaredFields.getFields();
+            }
+            list.add(declaredFields);
+        } while (accessibleSuperclass && (currentClass = currentClass.getSuperclass()) != stopClass && currentClass != null);
+        this.hierarchy = list.toArray(new DeclaredFields[list.size()]);
         return this;
     }
 
     /**
-     * 获取参数给定的类声明的属性属性集合
+     * 沿类层次查找参数给定名称的属性, 子类声明的属性遮蔽父类的同名属性
      *
-     * @param pojoClass POJO 类
-     * @return 返回参数给定的类声明的属性属性集合
-     */
-    private List<Field> getClassDeclaredFields(Class<?> pojoClass) {
-        List<Field> list = new ArrayList<>();
-        Field[] fields = pojoClass.getDeclaredFields();
-        if (fields.length > 0) {
-            for (Field field : fields) {
-                if (!accessibleStatic && isStatic(field)) {
-                    continue;
-                }
-                field.setAccessible(true);
-                list.add(field);
+     * @param name 属性名称
+     * @return 返回查找到的字段属性, 找不到时返回 null
+     */
+    private Field lookupField(String name) {
+        for (DeclaredFields declaredFields : hierarchy) {
+            Field field = declaredFields.getField(name);
+            if (field != null && (accessibleStatic || !isStatic(field))) {
+                return field;
             }
         }
-        return list;
+        return null;
     }
 
     /**
-     * 查找参数给定的类的 <属性名称, 字段属性> Map
+     * 合并类层次中各个类声明的属性, 生成 <属性名称, 字段属性> Map 及只读集合, 只在首次调用时合并
      *
-     * @param pojoClass POJO 类
-     * @return 返回参数给定的类的 <属性名称, 字段属性> Map
+     * @return 返回只读的 <属性名称, 字段属性> Map
      */
-    private Map<String, Field> lookupClassNameFieldMap(Class<?> pojoClass) {
-        Map<String, Field> nameFieldMap = new HashMap<>();
-        do {
-            List<Field> fields = getClassDeclaredFields(pojoClass);
-            for (Field field : fields) {
+    private synchronized Map<String, Field> lookupClassNameFieldMap() {
+        if (nameFieldMap != null) {
+            return nameFieldMap;
+        }
+        Map<String, Field> map = new LinkedHashMap<>();
+        for (DeclaredFields declaredFields : hierarchy) {
+            for (Field field : declaredFields.getFields()) {
+                if (!accessibleStatic && isStatic(field)) {
+                    continue;
+                }
                 String name = field.getName();
-                if (!nameFieldMap.containsKey(name)) {
-                    nameFieldMap.put(name, field);
+                if (!map.containsKey(name)) {
+                    map.put(name, field);
                 }
             }
-        } while (accessibleSuperclass && (pojoClass = pojoClass.getSuperclass()) != stopClass);
+        }
+        this.fields = Collections.unmodifiableList(Arrays.asList(map.values().toArray(new Field[map.size()])));
+        this.fieldNames = Collections.unmodifiableList(Arrays.asList(map.keySet().toArray(new String[map.size()])));
+        this.nameFieldMap = Collections.unmodifiableMap(map);
         return nameFieldMap;
     }
 
@@ -0,0 +1,125 @@
+package com.github.fanlychie.beanutils.operator;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 批量调用方法的结果, 逐个记录每个元素的返回值或其抛出的异常
+ */
+public class InvocationResults {
+
+    /**
+     * 调用的方法
+     */
+    private Method method;
+
+    /**
+     * 各元素的返回值, 与目标集合的顺序一致, 方法返回 void 时为 null
+     */
+    private Object[] results;
+
+    /**
+     * 调用失败的元素, 按下标升序排列
+     */
+    private List<Failure> failures;
+
+    InvocationResults(Method method, Object[] results, List<Failure> failures) {
+        this.method = method;
+        this.results = results;
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * 获取调用的方法
+     *
+     * @return 返回调用的方法
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * 获取各元素的返回值
+     *
+     * @return 返回与目标集合顺序一致的返回值数组, 调用失败的元素对应 null; 方法返回 void 时返回 null
+     */
+    public Object[] getResults() {
+        return results;
+    }
+
+    /**
+     * 获取调用失败的元素
+     *
+     * @return 返回按下标升序排列的只读失败集合
+     */
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    /**
+     * 判断是否存在调用失败的元素
+     *
+     * @return 存在时返回 true, 否则返回 false
+     */
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "InvocationResults{method=" + method.getName() + ", failures=" + failures.size() + "}";
+    }
+
+    /**
+     * 单个元素的调用失败
+     */
+    public static final class Failure {
+
+        private final int index;
+
+        private final Object target;
+
+        private final Throwable cause;
+
+        Failure(int index, Object target, Throwable cause) {
+            this.index = index;
+            this.target = target;
+            this.cause = cause;
+        }
+
+        /**
+         * 获取元素在目标集合中的下标
+         *
+         * @return 返回下标
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * 获取调用失败的元素
+         *
+         * @return 返回目标对象
+         */
+        public Object getTarget() {
+            return target;
+        }
+
+        /**
+         * 获取失败原因
+         *
+         * @return 返回方法本身抛出的异常, 或参数与目标不匹配等反射调用异常
+         */
+        public Throwable getCause() {
+            return cause;
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{index=" + index + ", cause=" + cause + "}";
+        }
+
+    }
+
+}
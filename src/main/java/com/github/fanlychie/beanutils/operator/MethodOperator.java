@@ -1,15 +1,17 @@
 package com.github.fanlychie.beanutils.operator;
 
 import com.github.fanlychie.beanutils.exception.ReflectCastException;
-import com.github.fanlychie.beanutils.util.MethodSignatureUtils;
+import com.github.fanlychie.beanutils.util.ExceptionUtils;
+import com.github.fanlychie.beanutils.util.ObjectSizeUtils;
+import com.github.fanlychie.beanutils.util.ParallelUtils;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * 用于操纵方法操作, 提供操作类或对象的函数的方法
@@ -17,6 +19,21 @@ import java.util.Map;
  */
 public class MethodOperator {
 
+    /**
+     * tryInvoke 找不到方法时返回的哨兵对象, 用 '==' 判断
+     */
+    public static final Object NOT_FOUND = new Object() {
+        @Override
+        public String toString() {
+            return "NOT_FOUND";
+        }
+    };
+
+    /**
+     * 并行批量调用时每个任务处理的最少元素数
+     */
+    private static final int PARALLEL_THRESHOLD = 256;
+
     /**
      * 任意的Class类型
      */
@@ -38,9 +55,14 @@ public class MethodOperator {
     private Class<?> stopClass;
 
     /**
-     * 方法签名对照表
+     * 是否延迟解析, 延迟解析时方法在首次按名称调用时才被查找和设置为可访问
+     */
+    private boolean lazy;
+
+    /**
+     * 从当前类到终止类的各个类声明的方法元数据, 子类在前, 与父类的 MethodOperator 共享
      */
-    private Map<String, Method> methodSignature;
+    private DeclaredMethods[] hierarchy;
 
     /**
      * 构建实例
@@ -51,10 +73,24 @@ public class MethodOperator {
      * @param stopClass            在递归查找时, 遇到此类则终止搜索
      */
     public MethodOperator(Class<?> pojoClass, boolean accessibleStatic, boolean accessibleSuperclass, Class<?> stopClass) {
+        this(pojoClass, accessibleStatic, accessibleSuperclass, stopClass, false);
+    }
+
+    /**
+     * 构建实例
+     *
+     * @param pojoClass            任意的Class类型
+     * @param accessibleStatic     是否允许访问Class的静态属性
+     * @param accessibleSuperclass 是否递归查找Class的父类属性
+     * @param stopClass            在递归查找时, 遇到此类则终止搜索
+     * @param lazy                 是否延迟解析, 适用于方法众多而只调用少数方法的类
+     */
+    public MethodOperator(Class<?> pojoClass, boolean accessibleStatic, boolean accessibleSuperclass, Class<?> stopClass, boolean lazy) {
         this.pojoClass = pojoClass;
         this.stopClass = stopClass;
         this.accessibleStatic = accessibleStatic;
         this.accessibleSuperclass = accessibleSuperclass;
+        this.lazy = lazy;
     }
 
     /**
@@ -67,10 +103,9 @@ public class MethodOperator {
      * @return 返回方法调用的结果
      */
     public <T> T invokeMethod(Object obj, String methodName, Object... argValues) {
-        String signature = MethodSignatureUtils.hashCodeString(fullPathMethodName(methodName), argValues);
-        Method method = methodSignature.get(signature);
+        Method method = lookupMethod(methodName, argValues);
         if (method == null) {
-            throw MethodSignatureUtils.methodOperateException(fullPathMethodName(methodName), argValues);
+            throw ExceptionUtils.methodNotFound(pojoClass, methodName, argValues);
         }
         try {
             return (T) method.invoke(obj, argValues);
@@ -79,6 +114,105 @@ public class MethodOperator {
         }
     }
 
+    /**
+     * 调用方法, 找不到方法时返回 NOT_FOUND 而不抛出异常, 方法本身抛出的异常仍包装为 ReflectCastException 抛出
+     *
+     * @param obj        目标对象
+     * @param methodName 方法名称
+     * @param argValues  方法参数的值列表
+     * @return 返回方法调用的结果, 找不到方法时返回 NOT_FOUND
+     */
+    public Object tryInvoke(Object obj, String methodName, Object... argValues) {
+        Method method = lookupMethod(methodName, argValues);
+        if (method == null) {
+            return NOT_FOUND;
+        }
+        try {
+            return method.invoke(obj, argValues);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new ReflectCastException(e);
+        }
+    }
+
+    /**
+     * 对集合中的每个元素调用同一个方法, 方法只查找一次, 所有调用共用同一个参数数组. 任一调用失败即中止, 异常与 invokeMethod 一致:
+     * 方法本身抛出的异常包装为 ReflectCastException 抛出, 元素为 null 时抛出 NullPointerException,
+     * 元素或参数的类型与方法不匹配时抛出 IllegalArgumentException
+     *
+     * @param targets    目标对象集合
+     * @param methodName 方法名称
+     * @param argValues  方法参数的值列表
+     * @return 返回与目标集合顺序一致的返回值数组, 方法返回 void 时不收集结果并返回 null
+     */
+    public Object[] invokeAll(Collection<?> targets, String methodName, Object... argValues) {
+        Method method = lookupMethod(methodName, argValues);
+        if (method == null) {
+            throw ExceptionUtils.methodNotFound(pojoClass, methodName, argValues);
+        }
+        Object[] results = method.getReturnType() == void.class ? null : new Object[targets.size()];
+        int index = 0;
+        try {
+            for (Object target : targets) {
+                Object result = method.invoke(target, argValues);
+                if (results != null) {
+                    results[index++] = result;
+                }
+            }
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new ReflectCastException(e);
+        }
+        return results;
+    }
+
+    /**
+     * 对集合中的每个元素调用同一个方法, 方法只查找一次, 所有调用共用同一个参数数组.
+     * 单个元素调用失败不会中止其余元素的调用, 失败原因逐个记录在结果中
+     *
+     * @param targets    目标对象集合
+     * @param methodName 方法名称
+     * @param parallel   是否在共享的 ForkJoinPool 中并行调用, 元素较少时仍顺序调用
+     * @param argValues  方法参数的值列表, 并行调用时被多个线程共享, 方法不应修改它
+     * @return 返回调用结果, 找不到方法时返回 null
+     */
+    public InvocationResults tryInvokeAll(Collection<?> targets, String methodName, boolean parallel, Object... argValues) {
+        Method method = lookupMethod(methodName, argValues);
+        if (method == null) {
+            return null;
+        }
+        Object[] array = targets.toArray();
+        Object[] results = method.getReturnType() == void.class ? null : new Object[array.length];
+        Throwable[] errors = new Throwable[array.length];
+        if (parallel && array.length > PARALLEL_THRESHOLD) {
+            ParallelUtils.getPool().invoke(new InvokeTask(method, array, argValues, results, errors, 0, array.length));
+        } else {
+            invokeRange(method, array, argValues, results, errors, 0, array.length);
+        }
+        List<InvocationResults.Failure> failures = new ArrayList<>();
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] != null) {
+                failures.add(new InvocationResults.Failure(i, array[i], errors[i]));
+            }
+        }
+        return new InvocationResults(method, results, failures);
+    }
+
+    /**
+     * 根据名称和参数类型查找方法, 找不到时不抛出异常
+     *
+     * @param methodName 方法名称
+     * @param argTypes   方法参数的类型列表, 基本数据类型与其包装类型视为相同
+     * @return 返回已设置为可访问的方法, 找不到时返回 null
+     */
+    public Method findMethod(String methodName, Class<?>... argTypes) {
+        for (DeclaredMethods declaredMethods : hierarchy) {
+            Method method = declaredMethods.getMethod(methodName, argTypes);
+            if (method != null && (accessibleStatic || !isStatic(method))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
     /**
      * 调用静态方法
      *
@@ -101,66 +235,110 @@ public class MethodOperator {
         return Modifier.isStatic(method.getModifiers());
     }
 
+    /**
+     * 估算操作实例自身的堆内存占用, 不包括与其它操作实例共享的类元数据
+     *
+     * @return 返回占用的字节数
+     */
+    public long footprint() {
+        return ObjectSizeUtils.align(ObjectSizeUtils.OBJECT_HEADER + 3 * ObjectSizeUtils.REFERENCE + 3)
+                + ObjectSizeUtils.sizeOfArray(DeclaredMethods.class, hierarchy.length);
+    }
+
     /**
      * 初始化
      *
      * @return 返回当前对象
      */
     public MethodOperator init() {
-        methodSignature = lookupClassMethodSignature(pojoClass);
+        List<DeclaredMethods> list = new ArrayList<>();
+        Class<?> currentClass = pojoClass;
+        do {
+            DeclaredMethods declaredMethods = DeclaredMethods.of(currentClass);
+            if (!lazy) {
+                declaredMethods.resolveAll();
+            }
+            list.add(declaredMethods);
+        } while (accessibleSuperclass && (currentClass = currentClass.getSuperclass()) != stopClass && currentClass != null);
+        hierarchy = list.toArray(new DeclaredMethods[list.size()]);
         return this;
     }
 
     /**
-     * 获取方法全路径名称
+     * 沿类层次查找方法, 子类声明的方法优先
      *
-     * @param method 方法名称
-     * @return 返回方法的全路径名称
+     * @param methodName 方法名称
+     * @param argValues  方法参数的值列表
+     * @return 返回查找到的方法, 找不到时返回 null
      */
-    private String fullPathMethodName(String method) {
-        return pojoClass.getName() + "." + method;
+    private Method lookupMethod(String methodName, Object[] argValues) {
+        for (DeclaredMethods declaredMethods : hierarchy) {
+            Method method = declaredMethods.getMethod(methodName, argValues);
+            if (method != null && (accessibleStatic || !isStatic(method))) {
+                return method;
+            }
+        }
+        return null;
     }
 
     /**
-     * 获取类声明的方法列表
-     *
-     * @param pojoClass 任意的Class类型
-     * @return 返回类声明的方法列表
-     */
-    private List<Method> getDeclaredMethods(Class<?> pojoClass) {
-        List<Method> list = new ArrayList<>();
-        Method[] methods = pojoClass.getDeclaredMethods();
-        if (methods.length > 0) {
-            for (Method method : methods) {
-                if (!accessibleStatic && isStatic(method)) {
-                    continue;
+     * 逐个调用区间内的元素, 记录返回值或失败原因
+     */
+    private static void invokeRange(Method method, Object[] targets, Object[] argValues, Object[] results, Throwable[] errors, int from, int to) {
+        for (int i = from; i < to; i++) {
+            try {
+                Object result = method.invoke(targets[i], argValues);
+                if (results != null) {
+                    results[i] = result;
                 }
-                method.setAccessible(true);
-                list.add(method);
+            } catch (InvocationTargetException e) {
+                errors[i] = e.getCause();
+            } catch (IllegalAccessException | RuntimeException e) {
+                errors[i] = e;
             }
         }
-        return list;
     }
 
     /**
-     * 查找类声明的方法签名表
-     *
-     * @param pojoClass 任意的Class类型
-     * @return 返回类声明的方法签名表
+     * 并行调用区间内的元素
      */
-    private Map<String, Method> lookupClassMethodSignature(Class<?> pojoClass) {
-        Map<String, Method> methodSignature = new HashMap<>();
-        do {
-            List<Method> methods = getDeclaredMethods(pojoClass);
-            for (Method method : methods) {
-                String signature = MethodSignatureUtils.hashCodeString(fullPathMethodName(method.getName()), method.getParameterTypes());
-                if (!methodSignature.containsKey(signature)) {
-                    method.setAccessible(true);
-                    methodSignature.put(signature, method);
-                }
+    private static class InvokeTask extends RecursiveAction {
+
+        private final Method method;
+
+        private final Object[] targets;
+
+        private final Object[] argValues;
+
+        private final Object[] results;
+
+        private final Throwable[] errors;
+
+        private final int from;
+
+        private final int to;
+
+        InvokeTask(Method method, Object[] targets, Object[] argValues, Object[] results, Throwable[] errors, int from, int to) {
+            this.method = method;
+            this.targets = targets;
+            this.argValues = argValues;
+            this.results = results;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                invokeRange(method, targets, argValues, results, errors, from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new InvokeTask(method, targets, argValues, results, errors, from, middle),
+                        new InvokeTask(method, targets, argValues, results, errors, middle, to));
             }
-        } while (accessibleSuperclass && (pojoClass = pojoClass.getSuperclass()) != stopClass);
-        return methodSignature;
+        }
+
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,545 @@
+package com.github.fanlychie.beanutils.operator;
+
+import com.github.fanlychie.beanutils.accessor.FieldAccessor;
+import com.github.fanlychie.beanutils.exception.FieldOperateException;
+import com.github.fanlychie.beanutils.exception.ReflectCastException;
+import com.github.fanlychie.beanutils.util.ExceptionUtils;
+import com.github.fanlychie.beanutils.util.NameTable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 用于操作 JavaBean 属性, 优先通过 getter/setter 方法读写, 没有对应方法时才直接读写字段.
+ * 属性的读写方式在初始化时确定, 读写时按名称或槽位直接分派, 不再逐次查找方法
+ */
+public class PropertyOperator {
+
+    /**
+     * 任意的Class类型
+     */
+    private Class<?> pojoClass;
+
+    /**
+     * 是否识别返回值不为 void 的 setX 方法(链式 setter)
+     */
+    private boolean fluentSetter;
+
+    /**
+     * 是否识别与属性同名、返回当前类型的单参数方法(构建器风格 setter)
+     */
+    private boolean builderSetter;
+
+    /**
+     * 查找到的属性, 下标即属性槽位
+     */
+    private Property[] properties;
+
+    /**
+     * <属性名称, 属性槽位> 完美散列表
+     */
+    private NameTable nameTable;
+
+    /**
+     * 查找到的属性名称只读集合
+     */
+    private List<String> propertyNames;
+
+    /**
+     * 构建实例
+     *
+     * @param pojoClass 任意的Class类型
+     */
+    public PropertyOperator(Class<?> pojoClass) {
+        this(pojoClass, false, false);
+    }
+
+    /**
+     * 构建实例
+     *
+     * @param pojoClass     任意的Class类型
+     * @param fluentSetter  是否识别返回值不为 void 的 setX 方法(链式 setter)
+     * @param builderSetter 是否识别与属性同名、返回当前类型的单参数方法(构建器风格 setter)
+     */
+    public PropertyOperator(Class<?> pojoClass, boolean fluentSetter, boolean builderSetter) {
+        this.pojoClass = pojoClass;
+        this.fluentSetter = fluentSetter;
+        this.builderSetter = builderSetter;
+    }
+
+    /**
+     * 获取对象的属性值
+     *
+     * @param obj  具体对象
+     * @param name 属性名称
+     * @param <T>  期望的类型
+     * @return 返回对象属性的值
+     */
+    public <T> T getValue(Object obj, String name) {
+        return (T) getProperty(name).get(obj);
+    }
+
+    /**
+     * 获取对象的属性值
+     *
+     * @param obj  具体对象
+     * @param slot 属性槽位, 由 slotOf 获得
+     * @param <T>  期望的类型
+     * @return 返回对象属性的值
+     */
+    public <T> T getValue(Object obj, int slot) {
+        return (T) properties[slot].get(obj);
+    }
+
+    /**
+     * 设置对象的属性值
+     *
+     * @param obj   具体对象
+     * @param name  属性名称
+     * @param value 值
+     */
+    public void setValue(Object obj, String name, Object value) {
+        getProperty(name).set(obj, value);
+    }
+
+    /**
+     * 设置对象的属性值
+     *
+     * @param obj   具体对象
+     * @param slot  属性槽位, 由 slotOf 获得
+     * @param value 值
+     */
+    public void setValue(Object obj, int slot, Object value) {
+        properties[slot].set(obj, value);
+    }
+
+    /**
+     * 获取属性的槽位, 槽位在操作实例的生命周期内不变
+     *
+     * @param name 属性名称
+     * @return 返回属性的槽位, 找不到时返回 -1
+     */
+    public int slotOf(String name) {
+        if (name == null) {
+            throw new NullPointerException();
+        }
+        return nameTable.indexOf(name);
+    }
+
+    /**
+     * 判断是否存在参数给定名称的属性, 找不到时不抛出异常
+     *
+     * @param name 属性名称
+     * @return 存在时返回 true, 否则返回 false
+     */
+    public boolean hasProperty(String name) {
+        return slotOf(name) >= 0;
+    }
+
+    /**
+     * 根据名称获取属性
+     *
+     * @param name 属性名称
+     * @return 返回得到的属性
+     */
+    public Property getProperty(String name) {
+        int slot = slotOf(name);
+        if (slot < 0) {
+            throw ExceptionUtils.fieldNotFound(name, pojoClass);
+        }
+        return properties[slot];
+    }
+
+    /**
+     * 根据槽位获取属性
+     *
+     * @param slot 属性槽位
+     * @return 返回得到的属性
+     */
+    public Property getProperty(int slot) {
+        return properties[slot];
+    }
+
+    /**
+     * 获取查找到的属性集合
+     *
+     * @return 返回查找到的只读属性集合, 顺序与槽位一致
+     */
+    public List<Property> getProperties() {
+        return Collections.unmodifiableList(Arrays.asList(properties));
+    }
+
+    /**
+     * 获取查找到的属性名称集合
+     *
+     * @return 返回查找到的只读属性名称集合, 顺序与槽位一致
+     */
+    public List<String> getPropertyNames() {
+        return propertyNames;
+    }
+
+    /**
+     * 初始化, 收集字段和 getter/setter 方法并配对成属性
+     *
+     * @return 返回当前对象
+     */
+    public PropertyOperator init() {
+        Map<String, Field> fieldMap = new LinkedHashMap<>();
+        for (Class<?> c = pojoClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : DeclaredFields.of(c).getFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic() && !fieldMap.containsKey(field.getName())) {
+                    fieldMap.put(field.getName(), field);
+                }
+            }
+        }
+        Map<String, Method> getterMap = new LinkedHashMap<>();
+        Map<String, List<Method>> setterMap = new LinkedHashMap<>();
+        for (Method method : pojoClass.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.getDeclaringClass() == Object.class) {
+                continue;
+            }
+            String name = method.getName();
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            Class<?> returnType = method.getReturnType();
+            if (parameterTypes.length == 0) {
+                if (name.startsWith("get") && name.length() > 3 && returnType != void.class) {
+                    putGetter(getterMap, decapitalize(name.substring(3)), method);
+                } else if (name.startsWith("is") && name.length() > 2 && returnType == boolean.class) {
+                    putGetter(getterMap, decapitalize(name.substring(2)), method);
+                }
+            } else if (parameterTypes.length == 1) {
+                if (name.startsWith("set") && name.length() > 3 && (returnType == void.class || fluentSetter)) {
+                    putSetter(setterMap, decapitalize(name.substring(3)), method, true);
+                } else if (builderSetter && fieldMap.containsKey(name) && pojoClass.isAssignableFrom(returnType)) {
+                    putSetter(setterMap, name, method, false);
+                }
+            }
+        }
+        Map<String, Property> propertyMap = new LinkedHashMap<>();
+        for (Field field : fieldMap.values()) {
+            String name = field.getName();
+            propertyMap.put(name, createProperty(name, field, getterMap.get(name), setterMap.get(name)));
+        }
+        for (String name : getterMap.keySet()) {
+            if (!propertyMap.containsKey(name)) {
+                propertyMap.put(name, createProperty(name, null, getterMap.get(name), setterMap.get(name)));
+            }
+        }
+        for (String name : setterMap.keySet()) {
+            if (!propertyMap.containsKey(name)) {
+                propertyMap.put(name, createProperty(name, null, null, setterMap.get(name)));
+            }
+        }
+        String[] names = propertyMap.keySet().toArray(new String[propertyMap.size()]);
+        Property[] properties = propertyMap.values().toArray(new Property[propertyMap.size()]);
+        for (int i = 0; i < properties.length; i++) {
+            properties[i].slot = i;
+        }
+        this.properties = properties;
+        this.nameTable = NameTable.of(names);
+        this.propertyNames = Collections.unmodifiableList(Arrays.asList(names));
+        return this;
+    }
+
+    /**
+     * 配对属性的读写方式, getter/setter 方法优先, 没有对应方法时使用字段
+     *
+     * @param name    属性名称
+     * @param field   同名字段, 可能为 null
+     * @param getter  getter 方法, 可能为 null
+     * @param setters 候选的 setter 方法, 可能为 null
+     * @return 返回属性
+     */
+    private Property createProperty(String name, Field field, Method getter, List<Method> setters) {
+        Class<?> type = getter != null ? getter.getReturnType() : field != null ? field.getType() : null;
+        Method setter = null;
+        if (setters != null) {
+            for (Method method : setters) {
+                Class<?> parameterType = method.getParameterTypes()[0];
+                if (type == null || parameterType == type) {
+                    setter = method;
+                    break;
+                }
+                if (setter == null && (type.isAssignableFrom(parameterType) || parameterType.isAssignableFrom(type))) {
+                    setter = method;
+                }
+            }
+            if (setter != null && type == null) {
+                type = setter.getParameterTypes()[0];
+            }
+        }
+        Reader reader = null;
+        if (getter != null) {
+            getter.setAccessible(true);
+            reader = new MethodReader(getter);
+        } else if (field != null) {
+            reader = new FieldReader(DeclaredFields.of(field.getDeclaringClass()).getAccessor(field));
+        }
+        Writer writer = null;
+        if (setter != null) {
+            setter.setAccessible(true);
+            writer = new MethodWriter(setter);
+        } else if (field != null && !Modifier.isFinal(field.getModifiers())) {
+            writer = new FieldWriter(DeclaredFields.of(field.getDeclaringClass()).getAccessor(field));
+        }
+        return new Property(pojoClass, name, type, field, getter, setter, reader, writer);
+    }
+
+    /**
+     * 记录 getter 方法, 同一属性同时存在 getX 和 isX 时保留 isX
+     */
+    private static void putGetter(Map<String, Method> getterMap, String name, Method method) {
+        Method previous = getterMap.get(name);
+        if (previous == null || method.getName().startsWith("is")) {
+            getterMap.put(name, method);
+        }
+    }
+
+    /**
+     * 记录 setter 方法, 同一属性可能存在多个重载的 setter, 在配对时按属性类型选取, setX 方法排在构建器风格方法之前
+     */
+    private static void putSetter(Map<String, List<Method>> setterMap, String name, Method method, boolean preferred) {
+        List<Method> setters = setterMap.get(name);
+        if (setters == null) {
+            setters = new ArrayList<>(1);
+            setterMap.put(name, setters);
+        }
+        if (preferred) {
+            setters.add(0, method);
+        } else {
+            setters.add(method);
+        }
+    }
+
+    /**
+     * 按 JavaBeans 规范将方法名称中去掉前缀的部分转换为属性名称, 如 Name 转换为 name, URL 保持不变
+     *
+     * @param name 去掉前缀的名称
+     * @return 返回属性名称
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        char[] chars = name.toCharArray();
+        chars[0] = Character.toLowerCase(chars[0]);
+        return new String(chars);
+    }
+
+    /**
+     * JavaBean 属性, 持有初始化时绑定的读写方式
+     */
+    public static final class Property {
+
+        private final Class<?> pojoClass;
+
+        private final String name;
+
+        private final Class<?> type;
+
+        private final Field field;
+
+        private final Method readMethod;
+
+        private final Method writeMethod;
+
+        private final Reader reader;
+
+        private final Writer writer;
+
+        private int slot;
+
+        private Property(Class<?> pojoClass, String name, Class<?> type, Field field, Method readMethod,
+                         Method writeMethod, Reader reader, Writer writer) {
+            this.pojoClass = pojoClass;
+            this.name = name;
+            this.type = type;
+            this.field = field;
+            this.readMethod = readMethod;
+            this.writeMethod = writeMethod;
+            this.reader = reader;
+            this.writer = writer;
+        }
+
+        /**
+         * 获取属性值
+         *
+         * @param obj 具体对象
+         * @return 返回属性值
+         */
+        public Object get(Object obj) {
+            if (reader == null) {
+                throw new FieldOperateException(name + " property is not readable in " + pojoClass);
+            }
+            return reader.read(obj);
+        }
+
+        /**
+         * 设置属性值
+         *
+         * @param obj   具体对象
+         * @param value 值
+         */
+        public void set(Object obj, Object value) {
+            if (writer == null) {
+                throw new FieldOperateException(name + " property is not writable in " + pojoClass);
+            }
+            writer.write(obj, value);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        public int getSlot() {
+            return slot;
+        }
+
+        /**
+         * @return 返回同名字段, 没有时返回 null
+         */
+        public Field getField() {
+            return field;
+        }
+
+        /**
+         * @return 返回 getter 方法, 没有时返回 null
+         */
+        public Method getReadMethod() {
+            return readMethod;
+        }
+
+        /**
+         * @return 返回 setter 方法, 没有时返回 null
+         */
+        public Method getWriteMethod() {
+            return writeMethod;
+        }
+
+        public boolean isReadable() {
+            return reader != null;
+        }
+
+        public boolean isWritable() {
+            return writer != null;
+        }
+
+        @Override
+        public String toString() {
+            return name + "[" + (readMethod != null ? readMethod.getName() : field != null ? "field" : "-")
+                    + ", " + (writeMethod != null ? writeMethod.getName() : writer != null ? "field" : "-") + "]";
+        }
+
+    }
+
+    /**
+     * 属性的读取方式
+     */
+    private interface Reader {
+
+        Object read(Object obj);
+
+    }
+
+    /**
+     * 属性的写入方式
+     */
+    private interface Writer {
+
+        void write(Object obj, Object value);
+
+    }
+
+    /**
+     * 通过 getter 方法读取
+     */
+    private static final class MethodReader implements Reader {
+
+        private final Method method;
+
+        MethodReader(Method method) {
+            this.method = method;
+        }
+
+        @Override
+        public Object read(Object obj) {
+            try {
+                return method.invoke(obj);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new ReflectCastException(e);
+            }
+        }
+
+    }
+
+    /**
+     * 通过 setter 方法写入
+     */
+    private static final class MethodWriter implements Writer {
+
+        private final Method method;
+
+        MethodWriter(Method method) {
+            this.method = method;
+        }
+
+        @Override
+        public void write(Object obj, Object value) {
+            try {
+                method.invoke(obj, value);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new ReflectCastException(e);
+            }
+        }
+
+    }
+
+    /**
+     * 通过共享的字段访问器读取
+     */
+    private static final class FieldReader implements Reader {
+
+        private final FieldAccessor accessor;
+
+        FieldReader(FieldAccessor accessor) {
+            this.accessor = accessor;
+        }
+
+        @Override
+        public Object read(Object obj) {
+            return accessor.get(obj);
+        }
+
+    }
+
+    /**
+     * 通过共享的字段访问器写入
+     */
+    private static final class FieldWriter implements Writer {
+
+        private final FieldAccessor accessor;
+
+        FieldWriter(FieldAccessor accessor) {
+            this.accessor = accessor;
+        }
+
+        @Override
+        public void write(Object obj, Object value) {
+            accessor.set(obj, value);
+        }
+
+    }
+
+}
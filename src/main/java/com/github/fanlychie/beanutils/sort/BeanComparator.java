@@ -0,0 +1,419 @@
+package com.github.fanlychie.beanutils.sort;
+
+import com.github.fanlychie.beanutils.accessor.FieldAccessor;
+import com.github.fanlychie.beanutils.exception.FieldOperateException;
+import com.github.fanlychie.beanutils.operator.FieldOperator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.TreeMap;
+
+/**
+ * 多字段比较器, 排序字段在创建时解析到字段访问器, 基本数据类型的字段经访问器对应类型的读取方法取值比较, 不装箱.
+ * 字段名称以 "-" 开头表示降序, 以 "+" 开头或无前缀表示升序. 引用类型的字段须实现 Comparable, 其值为 null 时按创建时指定的顺序
+ * 排在最前或最后, 与升降序无关. 另提供 sort 方法, 排序前将全部排序键一次提取到基本数据类型的数组中, 再对下标排序, 排序过程中不再访问字段.
+ * 实例不可变, 可被多线程共享
+ *
+ * @param <T> Bean 类型
+ */
+public class BeanComparator<T> implements Comparator<T> {
+
+    /**
+     * 小于该长度的区间使用插入排序
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * 引用类型排序键替换为名次时允许的最少不同值数
+     */
+    private static final int RANK_MIN_DISTINCT = 64;
+
+    // 排序键的取值方式
+    private static final int INT = 0;
+
+    private static final int LONG = 1;
+
+    private static final int SHORT = 2;
+
+    private static final int BYTE = 3;
+
+    private static final int CHAR = 4;
+
+    private static final int BOOLEAN = 5;
+
+    private static final int FLOAT = 6;
+
+    private static final int DOUBLE = 7;
+
+    private static final int OBJECT = 8;
+
+    /**
+     * Bean 类型
+     */
+    private Class<T> pojoClass;
+
+    /**
+     * 排序字段, 包含升降序前缀
+     */
+    private String[] fields;
+
+    /**
+     * null 值是否排在最前
+     */
+    private boolean nullsFirst;
+
+    /**
+     * 排序键
+     */
+    private Key[] keys;
+
+    /**
+     * 构建实例
+     *
+     * @param pojoClass     Bean 类型
+     * @param fieldOperator 用于解析字段访问器的字段操作
+     * @param nullsFirst    null 值是否排在最前
+     * @param fields        排序字段, 以 "-" 开头表示降序
+     */
+    public BeanComparator(Class<T> pojoClass, FieldOperator fieldOperator, boolean nullsFirst, String... fields) {
+        if (fields.length == 0) {
+            throw new IllegalArgumentException("at least one field is required to compare " + pojoClass.getName());
+        }
+        this.pojoClass = pojoClass;
+        this.fields = fields.clone();
+        this.nullsFirst = nullsFirst;
+        this.keys = new Key[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            String field = fields[i];
+            boolean descending = field.startsWith("-");
+            String name = descending || field.startsWith("+") ? field.substring(1) : field;
+            keys[i] = new Key(fieldOperator.getAccessorByFieldName(name), descending);
+        }
+    }
+
+    @Override
+    public int compare(T o1, T o2) {
+        for (Key key : keys) {
+            int result = key.compare(o1, o2, nullsFirst);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 按排序键提取模式对列表稳定排序, 每个元素的每个排序字段只读取一次
+     *
+     * @param list 待排序的列表
+     */
+    public void sort(List<T> list) {
+        Object[] beans = list.toArray();
+        int[] order = sortedIndexes(beans);
+        ListIterator<T> iterator = list.listIterator();
+        for (int index : order) {
+            iterator.next();
+            iterator.set((T) beans[index]);
+        }
+    }
+
+    /**
+     * 按排序键提取模式对数组稳定排序, 每个元素的每个排序字段只读取一次
+     *
+     * @param array 待排序的数组
+     */
+    public void sort(T[] array) {
+        Object[] beans = array.clone();
+        int[] order = sortedIndexes(beans);
+        for (int i = 0; i < order.length; i++) {
+            array[i] = (T) beans[order[i]];
+        }
+    }
+
+    /**
+     * 获取 Bean 类型
+     *
+     * @return 返回 Bean 类型
+     */
+    public Class<T> getPojoClass() {
+        return pojoClass;
+    }
+
+    /**
+     * 获取排序字段
+     *
+     * @return 返回只读的排序字段集合, 包含升降序前缀
+     */
+    public List<String> getFields() {
+        return Collections.unmodifiableList(Arrays.asList(fields));
+    }
+
+    /**
+     * 判断 null 值是否排在最前
+     *
+     * @return null 值排在最前时返回 true, 排在最后时返回 false
+     */
+    public boolean isNullsFirst() {
+        return nullsFirst;
+    }
+
+    /**
+     * 提取排序键并对下标排序
+     *
+     * @param beans 待排序的元素
+     * @return 返回排序后的下标
+     */
+    private int[] sortedIndexes(Object[] beans) {
+        Object[] columns = new Object[keys.length];
+        for (int k = 0; k < keys.length; k++) {
+            columns[k] = keys[k].extract(beans, nullsFirst);
+        }
+        int[] order = new int[beans.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        mergeSort(order, order.clone(), 0, order.length, columns);
+        return order;
+    }
+
+    /**
+     * 稳定的归并排序, 结果写入 dest, src 为辅助数组且初始内容与 dest 相同
+     */
+    private void mergeSort(int[] dest, int[] src, int low, int high, Object[] columns) {
+        if (high - low < INSERTION_SORT_THRESHOLD) {
+            for (int i = low + 1; i < high; i++) {
+                int index = dest[i];
+                int j = i;
+                while (j > low && compareIndex(dest[j - 1], index, columns) > 0) {
+                    dest[j] = dest[j - 1];
+                    j--;
+                }
+                dest[j] = index;
+            }
+            return;
+        }
+        int middle = (low + high) >>> 1;
+        mergeSort(src, dest, low, middle, columns);
+        mergeSort(src, dest, middle, high, columns);
+        if (compareIndex(src[middle - 1], src[middle], columns) <= 0) {
+            System.arraycopy(src, low, dest, low, high - low);
+            return;
+        }
+        for (int i = low, p = low, q = middle; i < high; i++) {
+            if (q >= high || (p < middle && compareIndex(src[p], src[q], columns) <= 0)) {
+                dest[i] = src[p++];
+            } else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+
+    /**
+     * 按已提取的排序键比较两个下标
+     */
+    private int compareIndex(int i, int j, Object[] columns) {
+        for (int k = 0; k < keys.length; k++) {
+            Key key = keys[k];
+            Object column = columns[k];
+            int result;
+            if (column instanceof long[]) {
+                long[] values = (long[]) column;
+                result = key.descending ? Long.compare(values[j], values[i]) : Long.compare(values[i], values[j]);
+            } else if (column instanceof double[]) {
+                double[] values = (double[]) column;
+                result = key.descending ? Double.compare(values[j], values[i]) : Double.compare(values[i], values[j]);
+            } else {
+                Object[] values = (Object[]) column;
+                result = key.compareObjects(values[i], values[j], nullsFirst);
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 排序键
+     */
+    private static final class Key {
+
+        private final FieldAccessor accessor;
+
+        private final int kind;
+
+        private final boolean descending;
+
+        Key(FieldAccessor accessor, boolean descending) {
+            this.accessor = accessor;
+            this.descending = descending;
+            Class<?> type = accessor.getField().getType();
+            if (type == int.class) {
+                kind = INT;
+            } else if (type == long.class) {
+                kind = LONG;
+            } else if (type == short.class) {
+                kind = SHORT;
+            } else if (type == byte.class) {
+                kind = BYTE;
+            } else if (type == char.class) {
+                kind = CHAR;
+            } else if (type == boolean.class) {
+                kind = BOOLEAN;
+            } else if (type == float.class) {
+                kind = FLOAT;
+            } else if (type == double.class) {
+                kind = DOUBLE;
+            } else if (Comparable.class.isAssignableFrom(type)) {
+                kind = OBJECT;
+            } else {
+                throw new FieldOperateException(accessor.getField().getName() + " property of type "
+                        + type.getName() + " is not comparable");
+            }
+        }
+
+        int compare(Object o1, Object o2, boolean nullsFirst) {
+            int result;
+            switch (kind) {
+                case INT:
+                    result = Integer.compare(accessor.getInt(o1), accessor.getInt(o2));
+                    break;
+                case LONG:
+                    result = Long.compare(accessor.getLong(o1), accessor.getLong(o2));
+                    break;
+                case SHORT:
+                    result = Short.compare(accessor.getShort(o1), accessor.getShort(o2));
+                    break;
+                case BYTE:
+                    result = Byte.compare(accessor.getByte(o1), accessor.getByte(o2));
+                    break;
+                case CHAR:
+                    result = Character.compare(accessor.getChar(o1), accessor.getChar(o2));
+                    break;
+                case BOOLEAN:
+                    result = Boolean.compare(accessor.getBoolean(o1), accessor.getBoolean(o2));
+                    break;
+                case FLOAT:
+                    result = Float.compare(accessor.getFloat(o1), accessor.getFloat(o2));
+                    break;
+                case DOUBLE:
+                    result = Double.compare(accessor.getDouble(o1), accessor.getDouble(o2));
+                    break;
+                default:
+                    return compareObjects(accessor.get(o1), accessor.get(o2), nullsFirst);
+            }
+            return descending ? -result : result;
+        }
+
+        /**
+         * 比较引用类型的值, null 值的位置与升降序无关
+         */
+        int compareObjects(Object v1, Object v2, boolean nullsFirst) {
+            if (v1 == null || v2 == null) {
+                if (v1 == v2) {
+                    return 0;
+                }
+                return (v1 == null) == nullsFirst ? -1 : 1;
+            }
+            int result = ((Comparable<Object>) v1).compareTo(v2);
+            return descending ? -Integer.signum(result) : result;
+        }
+
+        /**
+         * 提取全部元素的排序键, 整数及布尔值提取到 long 数组, 浮点数提取到 double 数组.
+         * 引用类型的不同值较少时将其替换为按 compareTo 排列的名次, 提取到 long 数组, 否则提取到 Object 数组
+         */
+        Object extract(Object[] beans, boolean nullsFirst) {
+            int length = beans.length;
+            switch (kind) {
+                case OBJECT: {
+                    Object[] values = new Object[length];
+                    for (int i = 0; i < length; i++) {
+                        values[i] = accessor.get(beans[i]);
+                    }
+                    long[] ranks = rank(values, nullsFirst);
+                    return ranks != null ? ranks : values;
+                }
+                case FLOAT: {
+                    double[] values = new double[length];
+                    for (int i = 0; i < length; i++) {
+                        values[i] = accessor.getFloat(beans[i]);
+                    }
+                    return values;
+                }
+                case DOUBLE: {
+                    double[] values = new double[length];
+                    for (int i = 0; i < length; i++) {
+                        values[i] = accessor.getDouble(beans[i]);
+                    }
+                    return values;
+                }
+                default: {
+                    long[] values = new long[length];
+                    for (int i = 0; i < length; i++) {
+                        values[i] = readIntegral(beans[i]);
+                    }
+                    return values;
+                }
+            }
+        }
+
+        /**
+         * 将引用类型的值替换为其在全部不同值中按 compareTo 排列的名次, 不同值超过元素数的 1/4 时放弃并返回 null.
+         * null 值的名次取最小或最大值, 使其位置与升降序无关
+         */
+        private long[] rank(Object[] values, boolean nullsFirst) {
+            int limit = Math.max(RANK_MIN_DISTINCT, values.length / 4);
+            TreeMap<Object, long[]> distinct = new TreeMap<>();
+            long[][] holders = new long[values.length][];
+            long[] nullRank = {nullsFirst != descending ? Long.MIN_VALUE : Long.MAX_VALUE};
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    holders[i] = nullRank;
+                    continue;
+                }
+                long[] holder = distinct.get(value);
+                if (holder == null) {
+                    if (distinct.size() >= limit) {
+                        return null;
+                    }
+                    holder = new long[1];
+                    distinct.put(value, holder);
+                }
+                holders[i] = holder;
+            }
+            long rank = 0;
+            for (long[] holder : distinct.values()) {
+                holder[0] = rank++;
+            }
+            long[] ranks = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                ranks[i] = holders[i][0];
+            }
+            return ranks;
+        }
+
+        private long readIntegral(Object bean) {
+            switch (kind) {
+                case INT:
+                    return accessor.getInt(bean);
+                case LONG:
+                    return accessor.getLong(bean);
+                case SHORT:
+                    return accessor.getShort(bean);
+                case BYTE:
+                    return accessor.getByte(bean);
+                case CHAR:
+                    return accessor.getChar(bean);
+                default:
+                    return accessor.getBoolean(bean) ? 1 : 0;
+            }
+        }
+
+    }
+
+}
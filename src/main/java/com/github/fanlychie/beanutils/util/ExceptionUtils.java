@@ -0,0 +1,76 @@
+package com.github.fanlychie.beanutils.util;
+
+import com.github.fanlychie.beanutils.exception.FieldOperateException;
+import com.github.fanlychie.beanutils.exception.MethodOperateException;
+
+/**
+ * 查找失败异常工具类. 异常消息均延迟生成; 设置系统属性 -Dbeanutils.exception.stackless=true 时,
+ * 异常不再填充堆栈信息, 适用于以捕获异常判断成员是否存在的场景
+ */
+public final class ExceptionUtils {
+
+    /**
+     * 控制查找失败异常是否省略堆栈信息的系统属性
+     */
+    public static final String STACKLESS_PROPERTY = "beanutils.exception.stackless";
+
+    /**
+     * 查找失败异常是否省略堆栈信息
+     */
+    private static final boolean STACKLESS = Boolean.getBoolean(STACKLESS_PROPERTY);
+
+    /**
+     * 判断查找失败异常是否省略堆栈信息
+     *
+     * @return 省略时返回 true, 否则返回 false
+     */
+    public static boolean isStackless() {
+        return STACKLESS;
+    }
+
+    /**
+     * 找不到属性的异常
+     *
+     * @param fieldName 属性名称
+     * @param pojoClass 查找属性的类
+     * @return 返回字段操作异常对象
+     */
+    public static FieldOperateException fieldNotFound(String fieldName, Class<?> pojoClass) {
+        return new FieldOperateException(fieldName, pojoClass, !STACKLESS);
+    }
+
+    /**
+     * 找不到方法的异常
+     *
+     * @param methodName 方法的全路径名称
+     * @param argTypes   方法参数的类型列表
+     * @return 返回方法操作异常对象
+     */
+    public static MethodOperateException methodNotFound(String methodName, Class<?>[] argTypes) {
+        return new MethodOperateException(methodName, argTypes, !STACKLESS);
+    }
+
+    /**
+     * 找不到方法的异常
+     *
+     * @param methodName 方法的全路径名称
+     * @param argValues  方法参数的值列表
+     * @return 返回方法操作异常对象
+     */
+    public static MethodOperateException methodNotFound(String methodName, Object[] argValues) {
+        return methodNotFound(null, methodName, argValues);
+    }
+
+    /**
+     * 找不到方法的异常, 只记录类、方法名称和参数值, 不拼接名称也不换算参数类型
+     *
+     * @param pojoClass  查找方法的类
+     * @param methodName 方法名称
+     * @param argValues  方法参数的值列表
+     * @return 返回方法操作异常对象
+     */
+    public static MethodOperateException methodNotFound(Class<?> pojoClass, String methodName, Object[] argValues) {
+        return new MethodOperateException(pojoClass, methodName, argValues, !STACKLESS);
+    }
+
+}
@@ -47,37 +47,25 @@ public final class MethodSignatureUtils {
     }
 
     /**
-     * 方法操作异常
+     * 方法操作异常, 异常消息延迟生成
      *
      * @param methodName 方法名称
      * @param argValues  方法参数的值列表
      * @return 返回方法操作异常对象
      */
     public static MethodOperateException methodOperateException(String methodName, Object[] argValues) {
-        return methodOperateException(methodName, getValueTypes(argValues));
+        return ExceptionUtils.methodNotFound(methodName, argValues);
     }
 
     /**
-     * 方法操作异常
+     * 方法操作异常, 异常消息延迟生成
      *
      * @param methodName 方法名称
      * @param argTypes   方法参数的类型列表
      * @return 返回方法操作异常对象
      */
     public static MethodOperateException methodOperateException(String methodName, Class<?>[] argTypes) {
-        String methodSignatureInfo = null;
-        StringBuilder methodSignatureInfoBuilder = new StringBuilder("can not found method ");
-        methodSignatureInfoBuilder.append(methodName).append("(");
-        if (argTypes != null && argTypes.length > 0) {
-            for (Class<?> argType : argTypes) {
-                methodSignatureInfoBuilder.append(argType.getSimpleName()).append(", ");
-            }
-            int length = methodSignatureInfoBuilder.length();
-            methodSignatureInfo = methodSignatureInfoBuilder.replace(length - 2, length, ")").toString();
-        } else {
-            methodSignatureInfo = methodSignatureInfoBuilder.append(")").toString();
-        }
-        return new MethodOperateException(methodSignatureInfo);
+        return ExceptionUtils.methodNotFound(methodName, argTypes);
     }
 
     /**
@@ -0,0 +1,235 @@
+package com.github.fanlychie.beanutils.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 不可变的名称表, 基于最小完美散列(散列-位移法)将名称映射到其在构建数组中的下标.
+ * 查找只需一次名称哈希码(String 已缓存)、两次数组访问和一次字符串比较, 不创建任何条目对象
+ */
+public final class NameTable {
+
+    /**
+     * 空名称表
+     */
+    public static final NameTable EMPTY = new NameTable(new String[0], new int[0], new int[0], false);
+
+    /**
+     * 查找位移量的上限, 超过时改用基于字符内容的哈希
+     */
+    private static final int MAX_DISPLACEMENT = 1 << 16;
+
+    /**
+     * 按散列位置排列的名称
+     */
+    private final String[] names;
+
+    /**
+     * 散列位置到构建数组下标的映射
+     */
+    private final int[] indexes;
+
+    /**
+     * 每个桶的位移量, 负数表示桶内唯一的名称直接放在 -(d + 1) 位置
+     */
+    private final int[] displacements;
+
+    /**
+     * 是否基于字符内容计算哈希(名称中存在哈希码相同的字符串时)
+     */
+    private final boolean contentHash;
+
+    private NameTable(String[] names, int[] indexes, int[] displacements, boolean contentHash) {
+        this.names = names;
+        this.indexes = indexes;
+        this.displacements = displacements;
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * 构建名称表
+     *
+     * @param names 互不相同的名称
+     * @return 返回名称表
+     */
+    public static NameTable of(String[] names) {
+        if (names.length == 0) {
+            return EMPTY;
+        }
+        Set<Integer> hashCodes = new HashSet<>();
+        for (String name : names) {
+            hashCodes.add(name.hashCode());
+        }
+        boolean contentHash = hashCodes.size() < names.length;
+        NameTable table = build(names, contentHash);
+        if (table == null && !contentHash) {
+            table = build(names, true);
+        }
+        if (table == null) {
+            throw new IllegalArgumentException("duplicate names: " + Arrays.toString(names));
+        }
+        return table;
+    }
+
+    /**
+     * 查找名称在构建数组中的下标
+     *
+     * @param name 名称
+     * @return 返回名称的下标, 找不到时返回 -1
+     */
+    public int indexOf(String name) {
+        int n = names.length;
+        if (n == 0) {
+            return -1;
+        }
+        int d = displacements[reduce(hash(name, 0, contentHash), n)];
+        int position = d < 0 ? -d - 1 : reduce(hash(name, d, contentHash), n);
+        String candidate = names[position];
+        return candidate == name || candidate.equals(name) ? indexes[position] : -1;
+    }
+
+    /**
+     * 获取名称数量
+     *
+     * @return 返回名称数量
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * 估算名称表的堆内存占用(不包括名称字符串本身, 名称由反射对象共享)
+     *
+     * @return 返回占用的字节数
+     */
+    public long footprint() {
+        return ObjectSizeUtils.align(ObjectSizeUtils.OBJECT_HEADER + 3 * ObjectSizeUtils.REFERENCE + 1)
+                + ObjectSizeUtils.sizeOfArray(String.class, names.length)
+                + ObjectSizeUtils.sizeOfArray(int.class, indexes.length)
+                + ObjectSizeUtils.sizeOfArray(int.class, displacements.length);
+    }
+
+    /**
+     * 构建名称表
+     *
+     * @param keys        名称
+     * @param contentHash 是否基于字符内容计算哈希
+     * @return 返回名称表, 找不到合适的位移量时返回 null
+     */
+    private static NameTable build(String[] keys, boolean contentHash) {
+        final int n = keys.length;
+        List<List<Integer>> buckets = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            buckets.add(new ArrayList<Integer>());
+        }
+        for (int i = 0; i < n; i++) {
+            buckets.get(reduce(hash(keys[i], 0, contentHash), n)).add(i);
+        }
+        Integer[] bucketOrder = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            bucketOrder[i] = i;
+        }
+        final List<List<Integer>> finalBuckets = buckets;
+        Arrays.sort(bucketOrder, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer b1, Integer b2) {
+                return finalBuckets.get(b2).size() - finalBuckets.get(b1).size();
+            }
+        });
+        String[] names = new String[n];
+        int[] indexes = new int[n];
+        int[] displacements = new int[n];
+        int[] positions = new int[n];
+        int free = 0;
+        for (Integer bucket : bucketOrder) {
+            List<Integer> members = buckets.get(bucket);
+            if (members.isEmpty()) {
+                break;
+            }
+            if (members.size() == 1) {
+                // 唯一的名称直接放到空闲位置
+                while (names[free] != null) {
+                    free++;
+                }
+                int key = members.get(0);
+                names[free] = keys[key];
+                indexes[free] = key;
+                displacements[bucket] = -free - 1;
+                continue;
+            }
+            int d = 1;
+            while (true) {
+                if (d > MAX_DISPLACEMENT) {
+                    return null;
+                }
+                boolean placed = true;
+                for (int i = 0; i < members.size() && placed; i++) {
+                    int position = reduce(hash(keys[members.get(i)], d, contentHash), n);
+                    positions[i] = position;
+                    if (names[position] != null) {
+                        placed = false;
+                    }
+                    for (int j = 0; j < i && placed; j++) {
+                        if (positions[j] == position) {
+                            placed = false;
+                        }
+                    }
+                }
+                if (placed) {
+                    break;
+                }
+                d++;
+            }
+            for (int i = 0; i < members.size(); i++) {
+                int key = members.get(i);
+                names[positions[i]] = keys[key];
+                indexes[positions[i]] = key;
+            }
+            displacements[bucket] = d;
+        }
+        return new NameTable(names, indexes, displacements, contentHash);
+    }
+
+    /**
+     * 将哈希值映射到 [0, n) 区间, 以乘法和移位代替取模
+     *
+     * @param hash 哈希值
+     * @param n    区间上限
+     * @return 返回区间内的值
+     */
+    private static int reduce(int hash, int n) {
+        return (int) (((hash & 0xffffffffL) * n) >>> 32);
+    }
+
+    /**
+     * 计算名称的哈希
+     *
+     * @param name        名称
+     * @param seed        种子
+     * @param contentHash 是否基于字符内容计算哈希
+     * @return 返回哈希值
+     */
+    private static int hash(String name, int seed, boolean contentHash) {
+        int h;
+        if (contentHash) {
+            h = 0x811c9dc5 ^ seed;
+            for (int i = 0; i < name.length(); i++) {
+                h = (h ^ name.charAt(i)) * 0x01000193;
+            }
+        } else {
+            h = name.hashCode() ^ (seed * 0x9e3779b9);
+        }
+        // murmur3 fmix32
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+}
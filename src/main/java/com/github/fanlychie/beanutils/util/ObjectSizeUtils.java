@@ -0,0 +1,105 @@
+package com.github.fanlychie.beanutils.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * 对象内存占用估算工具类, 按 64 位 JVM 开启压缩指针(对象头 12 字节, 引用 4 字节, 8 字节对齐)估算
+ */
+public final class ObjectSizeUtils {
+
+    /**
+     * 对象头大小
+     */
+    public static final int OBJECT_HEADER = 12;
+
+    /**
+     * 数组对象头大小
+     */
+    public static final int ARRAY_HEADER = 16;
+
+    /**
+     * 引用大小
+     */
+    public static final int REFERENCE = 4;
+
+    /**
+     * 对象对齐大小
+     */
+    public static final int ALIGNMENT = 8;
+
+    /**
+     * 估算参数给定的类的实例的浅层大小(不包括引用的对象)
+     *
+     * @param type 任意的Class类型
+     * @return 返回实例的浅层字节数
+     */
+    public static long shallowSizeOf(Class<?> type) {
+        long size = OBJECT_HEADER;
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    size += sizeOfType(field.getType());
+                }
+            }
+        }
+        return align(size);
+    }
+
+    /**
+     * 估算字符串的大小(包括内部的字符数组)
+     *
+     * @param value 字符串
+     * @return 返回字符串占用的字节数, 参数为 null 时返回 0
+     */
+    public static long sizeOf(String value) {
+        if (value == null) {
+            return 0;
+        }
+        return align(OBJECT_HEADER + REFERENCE + 4 + 4) + sizeOfArray(char.class, value.length());
+    }
+
+    /**
+     * 估算数组的大小
+     *
+     * @param componentType 数组元素类型
+     * @param length        数组长度
+     * @return 返回数组占用的字节数
+     */
+    public static long sizeOfArray(Class<?> componentType, int length) {
+        return align(ARRAY_HEADER + (long) sizeOfType(componentType) * length);
+    }
+
+    /**
+     * 获取参数给定的类型在对象内所占的字节数
+     *
+     * @param type 类型
+     * @return 基本数据类型返回其宽度, 引用类型返回引用大小
+     */
+    public static int sizeOfType(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE;
+    }
+
+    /**
+     * 按对齐大小向上取整
+     *
+     * @param size 字节数
+     * @return 返回对齐后的字节数
+     */
+    public static long align(long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.github.fanlychie.beanutils.util;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 并行执行工具类
+ */
+public class ParallelUtils {
+
+    // 当第一次被调用时才装载进内存, 延迟加载
+    private static class PoolHolder {
+        // 共享的线程池, 工作线程为守护线程, 并行度为处理器数量
+        private static final ForkJoinPool pool = new ForkJoinPool();
+    }
+
+    /**
+     * 获取共享的线程池
+     *
+     * @return 返回共享的 ForkJoinPool
+     */
+    public static ForkJoinPool getPool() {
+        return PoolHolder.pool;
+    }
+
+}
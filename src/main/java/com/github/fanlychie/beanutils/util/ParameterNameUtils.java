@@ -0,0 +1,142 @@
+package com.github.fanlychie.beanutils.util;
+
+import com.github.fanlychie.beanutils.annotation.ParameterName;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * 构造器参数名称工具类. 参数名称依次取自 ParameterName 注解、ConstructorProperties 注解
+ * 和 -parameters 编译的参数元数据(Java 8+, 通过反射调用 getParameters 读取).
+ * ConstructorProperties 属于 java.desktop 模块, 运行时不存在该模块时视为没有此注解
+ */
+public final class ParameterNameUtils {
+
+    /**
+     * java.beans.ConstructorProperties 注解类型, 不可用时为 null
+     */
+    private static final Class<? extends Annotation> CONSTRUCTOR_PROPERTIES;
+
+    /**
+     * ConstructorProperties.value 方法
+     */
+    private static final Method CONSTRUCTOR_PROPERTIES_VALUE;
+
+    /**
+     * Executable.getParameters 方法, 运行在 Java 7 时为 null
+     */
+    private static final Method GET_PARAMETERS;
+
+    /**
+     * Parameter.isNamePresent 方法
+     */
+    private static final Method IS_NAME_PRESENT;
+
+    /**
+     * Parameter.getName 方法
+     */
+    private static final Method GET_NAME;
+
+    static {
+        Method getParameters = null;
+        Method isNamePresent = null;
+        Method getName = null;
+        try {
+            getParameters = Constructor.class.getMethod("getParameters");
+            Class<?> parameterClass = getParameters.getReturnType().getComponentType();
+            isNamePresent = parameterClass.getMethod("isNamePresent");
+            getName = parameterClass.getMethod("getName");
+        } catch (NoSuchMethodException e) {
+            getParameters = null;
+        }
+        GET_PARAMETERS = getParameters;
+        IS_NAME_PRESENT = isNamePresent;
+        GET_NAME = getName;
+        Class<? extends Annotation> constructorProperties = null;
+        Method value = null;
+        try {
+            constructorProperties = Class.forName("java.beans.ConstructorProperties").asSubclass(Annotation.class);
+            value = constructorProperties.getMethod("value");
+        } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+            constructorProperties = null;
+        }
+        CONSTRUCTOR_PROPERTIES = constructorProperties;
+        CONSTRUCTOR_PROPERTIES_VALUE = value;
+    }
+
+    /**
+     * 获取构造器的参数名称
+     *
+     * @param constructor 构造器
+     * @return 返回参数名称, 任一参数的名称不可知时返回 null
+     */
+    public static String[] getParameterNames(Constructor<?> constructor) {
+        int count = constructor.getParameterTypes().length;
+        String[] names = new String[count];
+        Annotation[][] parameterAnnotations = constructor.getParameterAnnotations();
+        // 内部类等构造器的参数注解可能少于参数个数, 按末尾对齐
+        int offset = count - parameterAnnotations.length;
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof ParameterName) {
+                    names[i + offset] = ((ParameterName) annotation).value();
+                }
+            }
+        }
+        String[] properties = getConstructorProperties(constructor);
+        if (properties != null && properties.length == count) {
+            for (int i = 0; i < count; i++) {
+                if (names[i] == null) {
+                    names[i] = properties[i];
+                }
+            }
+        }
+        if (GET_PARAMETERS != null && containsNull(names)) {
+            try {
+                Object parameters = GET_PARAMETERS.invoke(constructor);
+                for (int i = 0; i < count; i++) {
+                    Object parameter = Array.get(parameters, i);
+                    if (names[i] == null && (Boolean) IS_NAME_PRESENT.invoke(parameter)) {
+                        names[i] = (String) GET_NAME.invoke(parameter);
+                    }
+                }
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }
+        return containsNull(names) ? null : names;
+    }
+
+    /**
+     * 读取构造器的 ConstructorProperties 注解
+     *
+     * @param constructor 构造器
+     * @return 返回注解给出的参数名称, 没有该注解或注解类型不可用时返回 null
+     */
+    private static String[] getConstructorProperties(Constructor<?> constructor) {
+        if (CONSTRUCTOR_PROPERTIES == null) {
+            return null;
+        }
+        Annotation annotation = constructor.getAnnotation(CONSTRUCTOR_PROPERTIES);
+        if (annotation == null) {
+            return null;
+        }
+        try {
+            return (String[]) CONSTRUCTOR_PROPERTIES_VALUE.invoke(annotation);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static boolean containsNull(String[] names) {
+        for (String name : names) {
+            if (name == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -57,7 +57,13 @@ public final class PrimitiveWrapperTypeUtils {
         return null;
     }
 
-    static Class<?> getWrapperType(Class<?> type) {
+    /**
+     * 获取参数给定的基本数据类型的包装类型
+     *
+     * @param type 类型
+     * @return 若 type 为非基本数据类型, 则返回 null
+     */
+    public static Class<?> getWrapperType(Class<?> type) {
         return type.isPrimitive() ? PRIMITIVE_WRAPPER_MAP.get(type) : null;
     }
 
@@ -0,0 +1,353 @@
+package com.github.fanlychie.beanutils.accessor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 生成字段访问器类的字节码. 生成的类继承 FieldAccessor, 只含无分支的方法, 因此无需栈映射帧.
+ * 基本数据类型字段按拓宽基本类型转换生成各读取方法, 其余读取方法沿用父类经由 get 拆箱的实现
+ */
+final class FieldAccessorClassWriter {
+
+    private static final int CLASS_VERSION = 59;
+
+    private static final String SUPER_CLASS = "com/github/fanlychie/beanutils/accessor/FieldAccessor";
+
+    private static final String OBJECT = "java/lang/Object";
+
+    /**
+     * 常量池
+     */
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+
+    private final DataOutputStream pool = new DataOutputStream(poolBytes);
+
+    private final Map<String, Integer> poolIndex = new HashMap<>();
+
+    private int poolCount = 1;
+
+    /**
+     * 方法表
+     */
+    private final ByteArrayOutputStream methodBytes = new ByteArrayOutputStream();
+
+    private final DataOutputStream methods = new DataOutputStream(methodBytes);
+
+    private int methodCount;
+
+    /**
+     * Code 属性名称在常量池中的下标
+     */
+    private int codeAttributeName;
+
+    private FieldAccessorClassWriter() {}
+
+    /**
+     * 生成字段访问器类的字节码
+     *
+     * @param field 字段属性
+     * @return 返回类的字节码
+     */
+    static byte[] generate(Field field) throws IOException {
+        return new FieldAccessorClassWriter().write(field);
+    }
+
+    private byte[] write(Field field) throws IOException {
+        Class<?> declaringClass = field.getDeclaringClass();
+        Class<?> type = field.getType();
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        codeAttributeName = utf8("Code");
+        String owner = internalName(declaringClass);
+        int thisClass = classRef(owner + "$$FieldAccessor");
+        int superClass = classRef(SUPER_CLASS);
+        int fieldRef = memberRef(9, owner, field.getName(), descriptor(type));
+        int ownerClass = classRef(owner);
+        // 构造器
+        ByteArrayOutputStream code = new ByteArrayOutputStream();
+        code.write(0x2a); // aload_0
+        code.write(0x2b); // aload_1
+        code.write(0xb7); // invokespecial
+        writeShort(code, memberRef(10, SUPER_CLASS, "<init>", "(Ljava/lang/reflect/Field;)V"));
+        code.write(0xb1); // return
+        method(0x0001, "<init>", "(Ljava/lang/reflect/Field;)V", code.toByteArray(), 2, 2);
+        // Object get(Object)
+        code = new ByteArrayOutputStream();
+        loadValue(code, isStatic, ownerClass, fieldRef);
+        if (type.isPrimitive()) {
+            Wrapper wrapper = Wrapper.of(type);
+            code.write(0xb8); // invokestatic
+            writeShort(code, memberRef(10, wrapper.className, "valueOf",
+                    "(" + descriptor(type) + ")L" + wrapper.className + ";"));
+        }
+        code.write(0xb0); // areturn
+        method(0x0001, "get", "(Ljava/lang/Object;)Ljava/lang/Object;", code.toByteArray(), 3, 2);
+        // void set(Object, Object)
+        code = new ByteArrayOutputStream();
+        if (!isStatic) {
+            code.write(0x2b); // aload_1
+            code.write(0xc0); // checkcast
+            writeShort(code, ownerClass);
+        }
+        // 经由父类按 Field.set 的规则转换及校验值, 拓宽转换及异常与反射一致
+        code.write(0x2a); // aload_0
+        code.write(0x2c); // aload_2
+        code.write(0xb6); // invokevirtual
+        if (type.isPrimitive()) {
+            writeShort(code, memberRef(10, SUPER_CLASS, Wrapper.of(type).convertMethod,
+                    "(Ljava/lang/Object;)" + descriptor(type)));
+        } else {
+            writeShort(code, memberRef(10, SUPER_CLASS, "checkType", "(Ljava/lang/Object;)Ljava/lang/Object;"));
+            if (type != Object.class) {
+                code.write(0xc0); // checkcast
+                writeShort(code, classRef(internalName(type)));
+            }
+        }
+        code.write(isStatic ? 0xb3 : 0xb5); // putstatic : putfield
+        writeShort(code, fieldRef);
+        code.write(0xb1); // return
+        method(0x0001, "set", "(Ljava/lang/Object;Ljava/lang/Object;)V", code.toByteArray(), 4, 3);
+        // 基本数据类型的读取方法, 避免装箱; 与反射一致, 同时生成拓宽转换后的读取方法
+        if (type.isPrimitive()) {
+            Wrapper wrapper = Wrapper.of(type);
+            for (Wrapper target : Wrapper.values()) {
+                if (!wrapper.widensTo(target)) {
+                    continue;
+                }
+                code = new ByteArrayOutputStream();
+                loadValue(code, isStatic, ownerClass, fieldRef);
+                int conversion = wrapper.conversionTo(target);
+                if (conversion != 0) {
+                    code.write(conversion);
+                }
+                code.write(target.returnOpcode);
+                method(0x0001, target.getterName, "(Ljava/lang/Object;)" + target.descriptor,
+                        code.toByteArray(), 2, 2);
+            }
+        }
+        ByteArrayOutputStream classBytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(classBytes);
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);
+        out.writeShort(CLASS_VERSION);
+        out.writeShort(poolCount);
+        pool.flush();
+        poolBytes.writeTo(out);
+        out.writeShort(0x0031); // public final super
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        out.writeShort(0); // interfaces
+        out.writeShort(0); // fields
+        out.writeShort(methodCount);
+        methods.flush();
+        methodBytes.writeTo(out);
+        out.writeShort(0); // attributes
+        out.flush();
+        return classBytes.toByteArray();
+    }
+
+    /**
+     * 写入读取字段值的指令
+     */
+    private void loadValue(ByteArrayOutputStream code, boolean isStatic, int ownerClass, int fieldRef) {
+        if (isStatic) {
+            code.write(0xb2); // getstatic
+        } else {
+            code.write(0x2b); // aload_1
+            code.write(0xc0); // checkcast
+            writeShort(code, ownerClass);
+            code.write(0xb4); // getfield
+        }
+        writeShort(code, fieldRef);
+    }
+
+    /**
+     * 写入方法
+     */
+    private void method(int access, String name, String descriptor, byte[] code, int maxStack, int maxLocals)
+            throws IOException {
+        methods.writeShort(access);
+        methods.writeShort(utf8(name));
+        methods.writeShort(utf8(descriptor));
+        methods.writeShort(1);
+        methods.writeShort(codeAttributeName);
+        methods.writeInt(12 + code.length);
+        methods.writeShort(maxStack);
+        methods.writeShort(maxLocals);
+        methods.writeInt(code.length);
+        methods.write(code);
+        methods.writeShort(0); // exception table
+        methods.writeShort(0); // attributes
+        methodCount++;
+    }
+
+    private int utf8(String value) {
+        Integer index = poolIndex.get("U" + value);
+        if (index == null) {
+            try {
+                pool.writeByte(1);
+                pool.writeUTF(value);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            index = poolCount++;
+            poolIndex.put("U" + value, index);
+        }
+        return index;
+    }
+
+    private int classRef(String internalName) {
+        Integer index = poolIndex.get("C" + internalName);
+        if (index == null) {
+            int name = utf8(internalName);
+            try {
+                pool.writeByte(7);
+                pool.writeShort(name);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            index = poolCount++;
+            poolIndex.put("C" + internalName, index);
+        }
+        return index;
+    }
+
+    private int memberRef(int tag, String owner, String name, String descriptor) {
+        String key = tag + owner + "." + name + descriptor;
+        Integer index = poolIndex.get(key);
+        if (index == null) {
+            int ownerIndex = classRef(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            int nameAndType;
+            try {
+                pool.writeByte(12);
+                pool.writeShort(nameIndex);
+                pool.writeShort(descriptorIndex);
+                nameAndType = poolCount++;
+                pool.writeByte(tag);
+                pool.writeShort(ownerIndex);
+                pool.writeShort(nameAndType);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            index = poolCount++;
+            poolIndex.put(key, index);
+        }
+        return index;
+    }
+
+    private static void writeShort(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    private static String descriptor(Class<?> type) {
+        if (type.isPrimitive()) {
+            return String.valueOf(Wrapper.of(type).descriptor);
+        }
+        if (type.isArray()) {
+            return internalName(type);
+        }
+        return "L" + internalName(type) + ";";
+    }
+
+    /**
+     * 基本数据类型的包装信息
+     */
+    private enum Wrapper {
+
+        INT(int.class, 'I', "java/lang/Integer", "toInt", "getInt", 0xac),
+        LONG(long.class, 'J', "java/lang/Long", "toLong", "getLong", 0xad),
+        DOUBLE(double.class, 'D', "java/lang/Double", "toDouble", "getDouble", 0xaf),
+        FLOAT(float.class, 'F', "java/lang/Float", "toFloat", "getFloat", 0xae),
+        SHORT(short.class, 'S', "java/lang/Short", "toShort", "getShort", 0xac),
+        BYTE(byte.class, 'B', "java/lang/Byte", "toByte", "getByte", 0xac),
+        CHAR(char.class, 'C', "java/lang/Character", "toChar", "getChar", 0xac),
+        BOOLEAN(boolean.class, 'Z', "java/lang/Boolean", "toBoolean", "getBoolean", 0xac);
+
+        final Class<?> type;
+        final char descriptor;
+        final String className;
+        final String convertMethod;
+        final String getterName;
+        final int returnOpcode;
+
+        Wrapper(Class<?> type, char descriptor, String className, String convertMethod, String getterName, int returnOpcode) {
+            this.type = type;
+            this.descriptor = descriptor;
+            this.className = className;
+            this.convertMethod = convertMethod;
+            this.getterName = getterName;
+            this.returnOpcode = returnOpcode;
+        }
+
+        /**
+         * 判断能否按拓宽基本类型转换得到目标类型
+         */
+        boolean widensTo(Wrapper target) {
+            if (this == target) {
+                return true;
+            }
+            switch (this) {
+                case BYTE:
+                    return target == SHORT || target == INT || target == LONG || target == FLOAT || target == DOUBLE;
+                case SHORT:
+                case CHAR:
+                    return target == INT || target == LONG || target == FLOAT || target == DOUBLE;
+                case INT:
+                    return target == LONG || target == FLOAT || target == DOUBLE;
+                case LONG:
+                    return target == FLOAT || target == DOUBLE;
+                case FLOAT:
+                    return target == DOUBLE;
+                default:
+                    return false;
+            }
+        }
+
+        /**
+         * 获取转换到目标类型的指令, 操作数栈上的类型相同时返回 0
+         */
+        int conversionTo(Wrapper target) {
+            char from = stackType();
+            char to = target.stackType();
+            if (from == to) {
+                return 0;
+            }
+            if (from == 'I') {
+                return to == 'J' ? 0x85 : to == 'F' ? 0x86 : 0x87; // i2l : i2f : i2d
+            }
+            if (from == 'J') {
+                return to == 'F' ? 0x89 : 0x8a; // l2f : l2d
+            }
+            return 0x8d; // f2d
+        }
+
+        /**
+         * 操作数栈上的类型, byte/short/char/boolean 均按 int 处理
+         */
+        private char stackType() {
+            return descriptor == 'J' || descriptor == 'F' || descriptor == 'D' ? descriptor : 'I';
+        }
+
+        static Wrapper of(Class<?> type) {
+            for (Wrapper wrapper : values()) {
+                if (wrapper.type == type) {
+                    return wrapper;
+                }
+            }
+            throw new IllegalArgumentException(type.getName());
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.github.fanlychie.beanutils.accessor;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * 基于隐藏类的字段访问后端, 需要 Java 15+.
+ * 为每个字段生成一个直接使用 getfield/putfield 指令的访问器类, 以嵌套成员身份定义为目标类的隐藏类,
+ * 因此可以访问私有字段, 且不被类装载器强引用, 随目标类一同卸载
+ */
+public class HiddenClassFieldAccessorFactory extends FieldAccessorFactory {
+
+    @Override
+    public String getName() {
+        return FieldAccessors.HIDDEN_CLASS;
+    }
+
+    @Override
+    public FieldAccessor newAccessor(Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        // final 字段只能在构造器内赋值, 隐藏类或类型不可访问的字段交由下一级后端处理
+        if (Modifier.isFinal(field.getModifiers()) || declaringClass.isHidden()
+                || !isAccessible(field.getType(), declaringClass)) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            byte[] bytecode = FieldAccessorClassWriter.generate(field);
+            Class<?> accessorClass = lookup.defineHiddenClass(bytecode, true, MethodHandles.Lookup.ClassOption.NESTMATE)
+                    .lookupClass();
+            return (FieldAccessor) MethodHandles.lookup()
+                    .findConstructor(accessorClass, MethodType.methodType(void.class, Field.class))
+                    .invoke(field);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * 判断生成的访问器能否引用字段类型
+     *
+     * @param type           字段类型
+     * @param declaringClass 声明字段的类
+     * @return 可引用返回 true, 否则返回 false
+     */
+    private static boolean isAccessible(Class<?> type, Class<?> declaringClass) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive() || type.getNestHost() == declaringClass.getNestHost()) {
+            return true;
+        }
+        boolean samePackage = type.getClassLoader() == declaringClass.getClassLoader()
+                && type.getPackageName().equals(declaringClass.getPackageName());
+        for (Class<?> c = type; c != null; c = c.getDeclaringClass()) {
+            int modifiers = c.getModifiers();
+            if (Modifier.isPrivate(modifiers) || (!Modifier.isPublic(modifiers) && !samePackage)) {
+                return false;
+            }
+        }
+        return samePackage || type.getModule().isExported(type.getPackageName());
+    }
+
+}
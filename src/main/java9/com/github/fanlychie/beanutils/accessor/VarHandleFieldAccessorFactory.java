@@ -0,0 +1,175 @@
+package com.github.fanlychie.beanutils.accessor;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * 基于 VarHandle 的字段访问后端, 需要 Java 9+
+ */
+public class VarHandleFieldAccessorFactory extends FieldAccessorFactory {
+
+    @Override
+    public String getName() {
+        return FieldAccessors.VAR_HANDLE;
+    }
+
+    @Override
+    public FieldAccessor newAccessor(Field field) {
+        // final 字段的 VarHandle 只读, 交由反射后端处理以保持可写
+        if (Modifier.isFinal(field.getModifiers())) {
+            return null;
+        }
+        VarHandle handle;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            handle = lookup.unreflectVarHandle(field);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+        if (Modifier.isStatic(field.getModifiers())) {
+            return new StaticVarHandleFieldAccessor(field, handle);
+        }
+        return new VarHandleFieldAccessor(field, handle);
+    }
+
+    /**
+     * 实例字段访问器
+     */
+    static class VarHandleFieldAccessor extends FieldAccessor {
+
+        private final VarHandle handle;
+
+        VarHandleFieldAccessor(Field field, VarHandle handle) {
+            super(field);
+            this.handle = handle;
+        }
+
+        @Override
+        public Object get(Object obj) {
+            return handle.get(obj);
+        }
+
+        @Override
+        public void set(Object obj, Object value) {
+            try {
+                handle.set(obj, value);
+            } catch (ClassCastException | NullPointerException e) {
+                // 值或对象的类型不匹配时由反射给出与 Field.set 一致的结果
+                setReflectively(obj, value);
+            }
+        }
+
+        @Override
+        public int getInt(Object obj) {
+            return (int) handle.get(obj);
+        }
+
+        @Override
+        public long getLong(Object obj) {
+            return (long) handle.get(obj);
+        }
+
+        @Override
+        public double getDouble(Object obj) {
+            return (double) handle.get(obj);
+        }
+
+        @Override
+        public float getFloat(Object obj) {
+            return (float) handle.get(obj);
+        }
+
+        @Override
+        public short getShort(Object obj) {
+            return (short) handle.get(obj);
+        }
+
+        @Override
+        public byte getByte(Object obj) {
+            return (byte) handle.get(obj);
+        }
+
+        @Override
+        public char getChar(Object obj) {
+            return (char) handle.get(obj);
+        }
+
+        @Override
+        public boolean getBoolean(Object obj) {
+            return (boolean) handle.get(obj);
+        }
+
+    }
+
+    /**
+     * 静态字段访问器
+     */
+    static class StaticVarHandleFieldAccessor extends FieldAccessor {
+
+        private final VarHandle handle;
+
+        StaticVarHandleFieldAccessor(Field field, VarHandle handle) {
+            super(field);
+            this.handle = handle;
+        }
+
+        @Override
+        public Object get(Object obj) {
+            return handle.get();
+        }
+
+        @Override
+        public void set(Object obj, Object value) {
+            try {
+                handle.set(value);
+            } catch (ClassCastException | NullPointerException e) {
+                // 值或对象的类型不匹配时由反射给出与 Field.set 一致的结果
+                setReflectively(obj, value);
+            }
+        }
+
+        @Override
+        public int getInt(Object obj) {
+            return (int) handle.get();
+        }
+
+        @Override
+        public long getLong(Object obj) {
+            return (long) handle.get();
+        }
+
+        @Override
+        public double getDouble(Object obj) {
+            return (double) handle.get();
+        }
+
+        @Override
+        public float getFloat(Object obj) {
+            return (float) handle.get();
+        }
+
+        @Override
+        public short getShort(Object obj) {
+            return (short) handle.get();
+        }
+
+        @Override
+        public byte getByte(Object obj) {
+            return (byte) handle.get();
+        }
+
+        @Override
+        public char getChar(Object obj) {
+            return (char) handle.get();
+        }
+
+        @Override
+        public boolean getBoolean(Object obj) {
+            return (boolean) handle.get();
+        }
+
+    }
+
+}
@@ -1,12 +1,52 @@
 package com.github.fanlychie.beanutils.test;
 
 import com.github.fanlychie.beanutils.BeanUtils;
+import com.github.fanlychie.beanutils.CacheFootprint;
+import com.github.fanlychie.beanutils.accessor.FieldAccessor;
+import com.github.fanlychie.beanutils.accessor.FieldAccessorFactory;
+import com.github.fanlychie.beanutils.accessor.FieldAccessors;
+import com.github.fanlychie.beanutils.accessor.ReflectFieldAccessor;
+import com.github.fanlychie.beanutils.accessor.TieredFieldAccessor;
+import com.github.fanlychie.beanutils.arena.BeanArena;
+import com.github.fanlychie.beanutils.exception.FieldOperateException;
+import com.github.fanlychie.beanutils.filter.BeanFilter;
+import com.github.fanlychie.beanutils.json.BeanJsonWriter;
+import com.github.fanlychie.beanutils.merge.BeanMerger;
+import com.github.fanlychie.beanutils.merge.MergeStrategy;
+import com.github.fanlychie.beanutils.exception.MethodOperateException;
+import com.github.fanlychie.beanutils.operator.ConstructorBinding;
+import com.github.fanlychie.beanutils.operator.DeclaredFields;
 import com.github.fanlychie.beanutils.operator.FieldOperator;
+import com.github.fanlychie.beanutils.operator.InvocationResults;
 import com.github.fanlychie.beanutils.operator.MethodOperator;
+import com.github.fanlychie.beanutils.operator.PropertyOperator;
+import com.github.fanlychie.beanutils.sort.BeanComparator;
+import com.github.fanlychie.beanutils.test.model.Account;
+import com.github.fanlychie.beanutils.test.model.Member;
+import com.github.fanlychie.beanutils.test.model.Person;
+import com.github.fanlychie.beanutils.test.model.Team;
 import com.github.fanlychie.beanutils.test.model.User;
+import com.github.fanlychie.beanutils.util.NameTable;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.Locale;
+
 import static org.junit.Assert.*;
 
 public class BeanutilsTest {
@@ -39,6 +79,589 @@ public class BeanutilsTest {
         assertEquals("1.0.0-SNAPSHOT", version);
     }
 
+    @Test
+    public void testPropertyOperator() {
+        PropertyOperator propertyOperator = new PropertyOperator(Account.class).init();
+        Account account = new Account();
+        // 经由 setter 写入, setter 中的逻辑生效
+        propertyOperator.setValue(account, "name", "  fanlychie ");
+        propertyOperator.setValue(account, "active", true);
+        assertEquals("fanlychie", account.getName());
+        assertEquals("fanlychie", propertyOperator.getValue(account, "displayName"));
+        assertFalse(propertyOperator.getProperty("displayName").isWritable());
+        // 没有 getter/setter 的属性直接读写字段
+        int slot = propertyOperator.slotOf("version");
+        propertyOperator.setValue(account, slot, 3L);
+        assertEquals(3L, (long) propertyOperator.getValue(account, slot));
+        // 未开启链式 setter 时, balance 只能直接写字段
+        propertyOperator.setValue(account, "balance", -1);
+        assertEquals(-1, account.getBalance());
+        assertNull(propertyOperator.getProperty("balance").getWriteMethod());
+        assertEquals(-1, propertyOperator.slotOf("missing"));
+
+        PropertyOperator fluentOperator = new PropertyOperator(Account.class, true, true).init();
+        fluentOperator.setValue(account, "balance", -1);
+        assertEquals(0, account.getBalance());
+        // 同时存在 setX 与构建器风格方法时, 优先 setX
+        fluentOperator.setValue(account, "name", " x ");
+        assertEquals("x", account.getName());
+        // 缓存按 setter 识别方式区分
+        PropertyOperator cachedOperator = BeanUtils.propertyOperate(Account.class);
+        PropertyOperator cachedFluentOperator = BeanUtils.propertyOperate(Account.class, true, true);
+        assertNotSame(cachedOperator, cachedFluentOperator);
+        assertSame(cachedFluentOperator, BeanUtils.propertyOperate(Account.class, true, true));
+        assertNull(cachedOperator.getProperty("balance").getWriteMethod());
+        assertNotNull(cachedFluentOperator.getProperty("balance").getWriteMethod());
+    }
+
+    @Test
+    public void testConstructorBinding() {
+        ConstructorBinding<Person> binding = BeanUtils.constructorBinding(User.class, Person.class);
+        assertSame(binding, BeanUtils.constructorBinding(User.class, Person.class));
+        assertEquals(Arrays.asList("name", "age"), binding.getParameterNames());
+        User u = userOf(18);
+        u.setName("fanlychie");
+        Person person = binding.newInstance(u);
+        assertEquals("fanlychie", person.getName());
+        assertEquals(18, person.getAge());
+        List<Person> persons = binding.newInstances(Arrays.asList(userOf(1), userOf(2)));
+        assertEquals(2, persons.get(1).getAge());
+        // 按值数组绑定, 列顺序与参数顺序无关, null 传给基本数据类型参数时使用默认值
+        ConstructorBinding<Person> valueBinding = BeanUtils.constructorBinding(Person.class, "age", "name");
+        person = valueBinding.newInstanceFromValues(null, "x");
+        assertEquals("x", person.getName());
+        assertEquals(0, person.getAge());
+        // 只有无参构造器时不静默地绑定
+        try {
+            BeanUtils.constructorBinding(User.class, "name", "age");
+            fail();
+        } catch (MethodOperateException e) {
+            assertTrue(e.getMessage().contains(User.class.getName()));
+        }
+    }
+
+    @Test
+    public void testProbe() {
+        FieldOperator fieldOperator = BeanUtils.fieldOperate(User.class);
+        assertTrue(fieldOperator.hasField("age"));
+        assertFalse(fieldOperator.hasField("missing"));
+        assertEquals(20, (int) fieldOperator.tryGetValue(userOf(20), "age", -1));
+        assertEquals(-1, (int) fieldOperator.tryGetValue(userOf(20), "missing", -1));
+        MethodOperator methodOperator = BeanUtils.methodOperate(User.class);
+        assertNotNull(methodOperator.findMethod("setAge", int.class));
+        assertNotNull(methodOperator.findMethod("setAge", Integer.class));
+        assertNull(methodOperator.findMethod("setAge", String.class));
+        assertSame(MethodOperator.NOT_FOUND, methodOperator.tryInvoke(user, "missing"));
+        assertEquals("1.0.0-SNAPSHOT", methodOperator.tryInvoke(null, "getVersion"));
+        // 异常消息延迟生成, 可省略堆栈信息
+        FieldOperateException foe = new FieldOperateException("missing", User.class, false);
+        assertEquals(0, foe.getStackTrace().length);
+        assertEquals("missing property can not be found in " + User.class, foe.getMessage());
+        try {
+            methodOperator.invokeMethod(user, "setAge", "x", null);
+            fail();
+        } catch (MethodOperateException e) {
+            assertEquals("can not found method " + User.class.getName() + ".setAge(String, null)", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testLazyOperator() {
+        FieldOperator fieldOperator = new FieldOperator(User.class, true, true, Object.class, true).init();
+        User u = userOf(30);
+        assertEquals(30, (int) fieldOperator.getValueByFieldName(u, "age"));
+        assertEquals("1.0.0-SNAPSHOT", fieldOperator.getValueByStaticFieldName("version"));
+        // 批量接口补全其余属性
+        assertEquals(BeanUtils.fieldOperate(User.class).getFields().size(), fieldOperator.getFields().size());
+        assertTrue(fieldOperator.getFieldNames().contains("name"));
+        MethodOperator methodOperator = new MethodOperator(User.class, true, true, Object.class, true).init();
+        methodOperator.invokeMethod(u, "setName", "lazy");
+        assertEquals("lazy", methodOperator.invokeMethod(u, "getName"));
+        // 延迟解析与否分别缓存
+        assertNotSame(BeanUtils.fieldOperate(User.class), BeanUtils.lazyFieldOperate(User.class));
+        assertSame(BeanUtils.lazyFieldOperate(User.class), BeanUtils.lazyFieldOperate(User.class));
+        assertNotSame(BeanUtils.methodOperate(User.class), BeanUtils.lazyMethodOperate(User.class));
+        assertSame(BeanUtils.lazyMethodOperate(User.class), BeanUtils.lazyMethodOperate(User.class));
+    }
+
+    @Test
+    public void testMetadataDoesNotPinClasses() throws Exception {
+        URL location = User.class.getProtectionDomain().getCodeSource().getLocation();
+        URLClassLoader loader = new URLClassLoader(new URL[]{location}, ClassLoader.getSystemClassLoader().getParent());
+        Class<?> userClass = loader.loadClass(User.class.getName());
+        assertNotSame(User.class, userClass);
+        Object u = userClass.getDeclaredConstructor().newInstance();
+        FieldOperator fieldOperator = new FieldOperator(userClass, true, true, Object.class).init();
+        fieldOperator.setValueByFieldName(u, "age", 7);
+        assertEquals(7, (int) fieldOperator.getValueByFieldName(u, "age"));
+        new MethodOperator(userClass, true, true, Object.class).init().invokeMethod(u, "setName", "x");
+        // 共享的元数据及生成的访问器不阻止类装载器被回收
+        WeakReference<ClassLoader> reference = new WeakReference<ClassLoader>(loader);
+        loader.close();
+        loader = null;
+        userClass = null;
+        u = null;
+        fieldOperator = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(reference.get());
+    }
+
+    @Test
+    public void testSharedHierarchyMetadata() {
+        FieldOperator memberOperator = BeanUtils.fieldOperate(Member.class);
+        FieldOperator userOperator = BeanUtils.fieldOperate(User.class);
+        // 子类的属性遮蔽父类的同名属性
+        assertEquals(Member.class, memberOperator.getFieldByFieldName("name").getDeclaringClass());
+        // 父类的属性元数据由子类共享
+        assertSame(userOperator.getFieldByFieldName("age"), memberOperator.getFieldByFieldName("age"));
+        assertSame(DeclaredFields.of(User.class).getField("age"), memberOperator.getFieldByFieldName("age"));
+        Member member = new Member();
+        memberOperator.setValueByFieldName(member, "name", "member");
+        assertEquals("member", member.getName());
+        MethodOperator methodOperator = BeanUtils.methodOperate(Member.class);
+        methodOperator.invokeMethod(member, "setAge", 25);
+        assertEquals(25, (int) methodOperator.invokeMethod(member, "getAge"));
+        // 非静态访问时, 父类的静态属性不可见
+        FieldOperator instanceOnly = new FieldOperator(Member.class, false, true, Object.class).init();
+        assertFalse(instanceOnly.getFieldNames().contains("version"));
+    }
+
+    @Test
+    public void testNameTable() {
+        String[] names = new String[500];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "field" + i;
+        }
+        NameTable table = NameTable.of(names);
+        for (int i = 0; i < names.length; i++) {
+            assertEquals(i, table.indexOf(new String(names[i])));
+        }
+        assertEquals(-1, table.indexOf("missing"));
+        // 哈希码相同的名称
+        NameTable colliding = NameTable.of(new String[]{"Aa", "BB", "AaAa", "BBBB", "AaBB"});
+        assertEquals(1, colliding.indexOf("BB"));
+        assertEquals(4, colliding.indexOf("AaBB"));
+        assertEquals(-1, colliding.indexOf("BBAa"));
+    }
+
+    @Test
+    public void testFootprint() {
+        FieldOperator fieldOperator = BeanUtils.fieldOperate(User.class);
+        try {
+            fieldOperator.getFields().clear();
+            fail("fields view should be read-only");
+        } catch (UnsupportedOperationException e) {}
+        assertSame(fieldOperator.getFieldNames(), fieldOperator.getFieldNames());
+        CacheFootprint footprint = BeanUtils.footprint();
+        assertTrue(footprint.getFieldOperators() > 0);
+        assertTrue(footprint.getTotalBytes() > footprint.getSharedMetadataBytes());
+        assertEquals(footprint.getFieldOperatorBytes() + footprint.getMethodOperatorBytes()
+                + footprint.getConstructorOperatorBytes() + footprint.getSharedMetadataBytes(), footprint.getTotalBytes());
+        assertTrue(footprint.toString().contains("totalBytes=" + footprint.getTotalBytes()));
+    }
+
+    @Test
+    public void testFieldAccessor() throws Exception {
+        Field age = User.class.getDeclaredField("age");
+        Field version = User.class.getDeclaredField("version");
+        Field points = Member.class.getDeclaredField("points");
+        Field rating = Team.class.getDeclaredField("rating");
+        Field teamName = Team.class.getDeclaredField("name");
+        age.setAccessible(true);
+        version.setAccessible(true);
+        points.setAccessible(true);
+        rating.setAccessible(true);
+        teamName.setAccessible(true);
+        String[] factories = {
+                "com.github.fanlychie.beanutils.accessor.HiddenClassFieldAccessorFactory",
+                "com.github.fanlychie.beanutils.accessor.VarHandleFieldAccessorFactory",
+                "com.github.fanlychie.beanutils.accessor.ReflectFieldAccessor$Factory"
+        };
+        // 逐个验证当前 JVM 可用的后端
+        for (String factoryClass : factories) {
+            FieldAccessorFactory factory;
+            try {
+                factory = (FieldAccessorFactory) Class.forName(factoryClass).getDeclaredConstructor().newInstance();
+            } catch (ClassNotFoundException | LinkageError e) {
+                continue;
+            }
+            User u = new User();
+            FieldAccessor accessor = factory.newAccessor(age);
+            assertNotNull(factory.getName(), accessor);
+            accessor.set(u, 18);
+            assertEquals(18, u.getAge());
+            assertEquals(18, accessor.getInt(u));
+            assertEquals(18L, accessor.getLong(u));
+            assertEquals(18D, accessor.getDouble(u), 0D);
+            assertEquals(18, accessor.get(u));
+            assertEquals("1.0.0-SNAPSHOT", factory.newAccessor(version).get(null));
+            // 与 Field.set 一致: 按拓宽基本类型转换写入, 无法转换或为 null 时抛出 IllegalArgumentException
+            Member m = new Member();
+            FieldAccessor pointsAccessor = factory.newAccessor(points);
+            pointsAccessor.set(m, 5);
+            assertEquals(5L, m.getPoints());
+            pointsAccessor.set(m, 'a');
+            assertEquals(97L, m.getPoints());
+            Team t = new Team();
+            FieldAccessor ratingAccessor = factory.newAccessor(rating);
+            ratingAccessor.set(t, 5);
+            assertEquals(5D, t.getRating(), 0D);
+            ratingAccessor.set(t, 7L);
+            assertEquals(7D, t.getRating(), 0D);
+            for (Object value : new Object[]{null, 1.5D, "1"}) {
+                try {
+                    pointsAccessor.set(m, value);
+                    fail(factory.getName() + " " + value);
+                } catch (IllegalArgumentException e) {
+                    assertEquals(97L, m.getPoints());
+                }
+            }
+            try {
+                factory.newAccessor(teamName).set(t, 1);
+                fail(factory.getName());
+            } catch (IllegalArgumentException e) {
+                assertNull(t.getName());
+            }
+        }
+        assertTrue(Arrays.asList(FieldAccessors.HIDDEN_CLASS, FieldAccessors.VAR_HANDLE, FieldAccessors.REFLECT)
+                .contains(FieldAccessors.getBackend()));
+        assertEquals(20, BeanUtils.fieldOperate(User.class).getAccessorByFieldName("age").getInt(userOf(20)));
+    }
+
+    @Test
+    public void testTieredFieldAccessor() throws Exception {
+        Field age = User.class.getDeclaredField("age");
+        age.setAccessible(true);
+        List<FieldAccessorFactory> chain = new ArrayList<>();
+        try {
+            chain.add((FieldAccessorFactory) Class.forName(
+                    "com.github.fanlychie.beanutils.accessor.VarHandleFieldAccessorFactory").getDeclaredConstructor().newInstance());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return;
+        }
+        TieredFieldAccessor accessor = new TieredFieldAccessor(age, chain);
+        User u = userOf(5);
+        // 达到阈值前使用反射访问
+        for (int i = 0; i < TieredFieldAccessor.getThreshold() - 1; i++) {
+            assertEquals(5, accessor.getInt(u));
+        }
+        assertFalse(accessor.isPromoted());
+        assertEquals(TieredFieldAccessor.getThreshold() - 1, accessor.getInvocationCount());
+        accessor.set(u, 6);
+        // 由后台线程升级
+        for (int i = 0; i < 500 && !accessor.isPromoted(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(accessor.isPromoted());
+        assertNotSame(ReflectFieldAccessor.class, accessor.getDelegate().getClass());
+        assertTrue(FieldAccessors.getPromotedFields().contains(age));
+        assertEquals(6, accessor.getInt(u));
+    }
+
+    @Test
+    public void testTieredFieldAccessorHiddenClass() throws Exception {
+        Field points = Member.class.getDeclaredField("points");
+        points.setAccessible(true);
+        List<FieldAccessorFactory> chain = new ArrayList<>();
+        try {
+            chain.add((FieldAccessorFactory) Class.forName(
+                    "com.github.fanlychie.beanutils.accessor.HiddenClassFieldAccessorFactory").getDeclaredConstructor().newInstance());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return;
+        }
+        TieredFieldAccessor accessor = new TieredFieldAccessor(points, chain);
+        Member m = new Member();
+        // 升级前后写入的转换规则一致
+        for (int i = 0; i < TieredFieldAccessor.getThreshold() + 1; i++) {
+            accessor.set(m, i);
+        }
+        for (int i = 0; i < 500 && !accessor.isPromoted(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(accessor.isPromoted());
+        assertNotSame(ReflectFieldAccessor.class, accessor.getDelegate().getClass());
+        assertTrue(FieldAccessors.getPromotedFields().contains(points));
+        accessor.set(m, 5);
+        assertEquals(5L, accessor.getLong(m));
+        accessor.set(m, (short) 6);
+        assertEquals(6L, m.getPoints());
+        try {
+            accessor.set(m, null);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals(6L, m.getPoints());
+        }
+    }
+
+    @Test
+    public void testTieredFieldAccessorWithoutBackend() throws Exception {
+        Field name = User.class.getDeclaredField("name");
+        name.setAccessible(true);
+        List<FieldAccessorFactory> chain = new ArrayList<>();
+        chain.add(new ReflectFieldAccessor.Factory());
+        TieredFieldAccessor accessor = new TieredFieldAccessor(name, chain);
+        User u = new User();
+        u.setName("fanlychie");
+        // 只有反射后端时不计数, 也不会升级
+        for (int i = 0; i < TieredFieldAccessor.getThreshold() + 1; i++) {
+            assertEquals("fanlychie", accessor.get(u));
+        }
+        assertEquals(-1, accessor.getInvocationCount());
+        assertFalse(accessor.isPromoted());
+        assertSame(ReflectFieldAccessor.class, accessor.getDelegate().getClass());
+        assertFalse(FieldAccessors.getPromotedFields().contains(name));
+    }
+
+    @Test
+    public void testBeanArena() {
+        BeanArena<User> arena = BeanUtils.beanArena(User.class);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            User u = new User();
+            u.setAge(i % 100);
+            u.setName(i % 2 == 0 ? "even" : null);
+            users.add(u);
+        }
+        arena.appendAll(users);
+        // 通过享元视图读取, 不创建实例
+        BeanArena<User>.Flyweight flyweight = arena.flyweight();
+        int ageSlot = arena.slotOf("age");
+        assertEquals(99, flyweight.moveTo(9999).getInt(ageSlot));
+        assertEquals("even", flyweight.moveTo(4242).getString("name"));
+        assertNull(flyweight.moveTo(4243).getString("name"));
+        // 还原为真实的实例
+        User materialized = arena.materialize(4242);
+        assertEquals(42, materialized.getAge());
+        assertEquals("even", materialized.getName());
+        BeanArena.Footprint footprint = arena.footprint();
+        assertTrue(footprint.getHeapBytes() < footprint.getListHeapBytes());
+        arena.free();
+        assertTrue(arena.isFreed());
+        // 释放后已定位的享元视图不可再读取
+        try {
+            flyweight.getInt(ageSlot);
+            fail();
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("freed"));
+        }
+        // 每页的字节数超出 int 范围
+        try {
+            new BeanArena<>(User.class, BeanArena.MAX_RECORDS_PER_PAGE);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("recordsPerPage"));
+        }
+        // 没有无参构造器的类按名称绑定构造器参数还原
+        BeanArena<Person> persons = BeanUtils.beanArena(Person.class);
+        persons.append(new Person("fanlychie", 18));
+        Person person = persons.materialize(0);
+        assertEquals("fanlychie", person.getName());
+        assertEquals(18, person.getAge());
+        persons.free();
+    }
+
+    @Test
+    public void testBeanFilter() {
+        FieldOperator fieldOperator = BeanUtils.fieldOperate(Account.class);
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            Account account = new Account();
+            account.setBalance(i % 500);
+            account.setActive(i % 2 == 0);
+            fieldOperator.setValueByFieldName(account, "version", (long) i);
+            accounts.add(account);
+        }
+        BeanFilter<Account> filter = BeanUtils.filter(Account.class)
+                .where("balance").gt(100).and("active").eq(true)
+                .or("version").lt(10);
+        List<Account> sequential = filter.filter(accounts);
+        assertEquals(sequential, filter.parallelFilter(accounts));
+        assertEquals(sequential.size(), filter.count(accounts));
+        assertEquals(3980 + 10, sequential.size());
+        // 操作数按字段类型转换
+        assertEquals(60, BeanUtils.filter(Account.class).where("balance").in("1", 2L, 3.0).count(accounts));
+        // 带小数部分的操作数不会被截断成整数
+        assertEquals(20, BeanUtils.filter(Account.class).where("balance").in(1.5, "2.5", new BigDecimal("4.00")).count(accounts));
+        assertEquals(0, BeanUtils.filter(Account.class).where("balance").in(0.5).count(accounts));
+        // 超出 long 范围的整数操作数不会被截断
+        assertEquals(0, BeanUtils.filter(Account.class).where("version").gt(new BigDecimal("1e20")).count(accounts));
+        assertEquals(10000, BeanUtils.filter(Account.class).where("version").lt(new BigDecimal("1e20")).count(accounts));
+        assertEquals(10000, BeanUtils.filter(Account.class).where("version").gt(new BigInteger("-100000000000000000000")).count(accounts));
+        assertEquals(0, BeanUtils.filter(Account.class).where("version").eq("18446744073709551616").count(accounts));
+        assertEquals(0, BeanUtils.filter(Account.class).where("version").in(new BigInteger("100000000000000000000")).count(accounts));
+        assertEquals(1, BeanUtils.filter(Account.class).where("version").in(new BigDecimal("1e20"), 7).count(accounts));
+        assertEquals(0, BeanUtils.filter(Account.class).where("balance").isNull().count(accounts));
+        assertEquals(40, BeanUtils.filter(Account.class).where("balance").between(10, 29).and("version").le("999").count(accounts));
+        try {
+            BeanUtils.filter(Account.class).where("balance").gt("many");
+            fail();
+        } catch (FieldOperateException e) {
+            assertTrue(e.getMessage().contains("balance"));
+        }
+    }
+
+    @Test
+    public void testBeanComparator() {
+        FieldOperator fieldOperator = BeanUtils.fieldOperate(Account.class);
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Account account = new Account();
+            account.setName(i % 7 == 0 ? null : "region" + i % 3);
+            account.setBalance(i % 100);
+            fieldOperator.setValueByFieldName(account, "version", (long) i);
+            accounts.add(account);
+        }
+        BeanComparator<Account> comparator = BeanUtils.comparator(Account.class, "name", "-balance", "version");
+        assertSame(comparator, BeanUtils.comparator(Account.class, "name", "-balance", "version"));
+        List<Account> compared = new ArrayList<>(accounts);
+        Collections.sort(compared, comparator);
+        // null 值排在最后, 同名按余额降序, 再按版本升序
+        assertEquals("region0", compared.get(0).getName());
+        assertEquals(99, compared.get(0).getBalance());
+        assertNull(compared.get(compared.size() - 1).getName());
+        for (int i = 1; i < compared.size(); i++) {
+            assertTrue(comparator.compare(compared.get(i - 1), compared.get(i)) <= 0);
+        }
+        // 提取排序键后排序, 结果与比较器一致
+        List<Account> extracted = new ArrayList<>(accounts);
+        comparator.sort(extracted);
+        assertEquals(compared, extracted);
+        BeanComparator<Account> nullsFirst = BeanUtils.comparator(Account.class, true, "name", "-balance", "version");
+        Account[] array = accounts.toArray(new Account[0]);
+        nullsFirst.sort(array);
+        assertNull(array[0].getName());
+        assertEquals(99, array[0].getBalance());
+    }
+
+    @Test
+    public void testJsonWriter() throws Exception {
+        Team team = new Team();
+        team.setName("A \"队\"\n");
+        team.setRating(4.5);
+        team.setRevision(3);
+        team.setLeader(userOf(-42));
+        team.setMembers(Arrays.asList(userOf(Integer.MAX_VALUE), null, userOf(0)));
+        BeanJsonWriter<Team> writer = BeanUtils.jsonWriter(Team.class);
+        assertSame(writer, BeanUtils.jsonWriter(Team.class));
+        String expected = "{\"name\":\"A \\\"队\\\"\\n\",\"rating\":4.5,\"leader\":{\"age\":-42,\"name\":null},"
+                + "\"members\":[{\"age\":2147483647,\"name\":null},null,{\"age\":0,\"name\":null}],\"tag\":null}";
+        assertEquals(expected, writer.toString(team));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(team, out);
+        assertEquals(expected, out.toString("UTF-8"));
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        writer.write(team, buffer);
+        assertEquals(expected.getBytes("UTF-8").length, buffer.position());
+        out.reset();
+        BeanUtils.jsonWriter(User.class).writeAll(Arrays.asList(userOf(1), userOf(2)), out);
+        assertEquals("[{\"age\":1,\"name\":null},{\"age\":2,\"name\":null}]", out.toString("UTF-8"));
+        // JDK 的类型不按 Bean 展开, 以 toString 写出为字符串
+        Team tagged = new Team();
+        tagged.setTag(Locale.CHINA);
+        assertTrue(writer.toString(tagged).endsWith("\"tag\":\"zh_CN\"}"));
+        UUID id = new UUID(1, 2);
+        tagged.setTag(Arrays.asList(id, URI.create("http://example.com/a?b=1"), Locale.CHINA));
+        assertTrue(writer.toString(tagged).endsWith("\"tag\":[\"" + id + "\",\"http://example.com/a?b=1\",\"zh_CN\"]}"));
+    }
+
+    @Test
+    public void testInvokeAll() {
+        MethodOperator methodOperator = BeanUtils.methodOperate(User.class);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            users.add(userOf(i));
+        }
+        // void 方法不收集结果
+        assertNull(methodOperator.invokeAll(users, "setName", "bulk"));
+        Object[] ages = methodOperator.invokeAll(users, "getAge");
+        assertEquals(1000, ages.length);
+        assertEquals(999, ages[999]);
+        assertEquals("bulk", users.get(500).getName());
+        // 单个元素失败不中止其余元素
+        users.set(700, null);
+        for (boolean parallel : new boolean[]{false, true}) {
+            InvocationResults results = methodOperator.tryInvokeAll(users, "getName", parallel);
+            assertTrue(results.hasFailures());
+            assertEquals(1, results.getFailures().size());
+            assertEquals(700, results.getFailures().get(0).getIndex());
+            assertTrue(results.getFailures().get(0).getCause() instanceof NullPointerException);
+            assertEquals("bulk", results.getResults()[999]);
+        }
+        assertNull(methodOperator.tryInvokeAll(users, "missing", false));
+        try {
+            methodOperator.invokeAll(users, "getAge");
+            fail();
+        } catch (NullPointerException e) {
+            // 与 invokeMethod 一致, 遇到首个失败即中止
+        }
+    }
+
+    @Test
+    public void testBeanMerger() {
+        Account entity = new Account();
+        entity.setName("entity");
+        entity.setBalance(100);
+        Account patch = new Account();
+        patch.setActive(true);
+        BeanMerger<Account, Account> merger = BeanUtils.merger(Account.class, Account.class);
+        assertSame(merger, BeanUtils.merger(Account.class, Account.class));
+        // null 与默认值不覆盖目标
+        merger.merge(patch, entity);
+        assertEquals("entity", entity.getName());
+        assertEquals(100, entity.getBalance());
+        assertTrue(entity.isActive());
+
+        Team team = new Team();
+        team.setName("team");
+        team.setLeader(userOf(30));
+        team.setMembers(new ArrayList<>(Arrays.asList(userOf(1))));
+        Team teamPatch = new Team();
+        teamPatch.setName("patched");
+        User leaderPatch = new User();
+        leaderPatch.setName("leader");
+        teamPatch.setLeader(leaderPatch);
+        teamPatch.setMembers(Arrays.asList(userOf(2), userOf(3)));
+        BeanMerger<Team, Team> teamMerger = BeanUtils.merger(Team.class, Team.class)
+                .withStrategy("name", MergeStrategy.KEEP)
+                .withStrategy("members", MergeStrategy.APPEND)
+                .withStrategy("leader", MergeStrategy.DEEP)
+                .atomic();
+        // 修改策略返回新的计划, 缓存的计划不变
+        assertEquals(MergeStrategy.OVERWRITE, BeanUtils.merger(Team.class, Team.class).getStrategy("members"));
+        assertTrue(teamMerger.isAtomic());
+        User leader = team.getLeader();
+        teamMerger.merge(teamPatch, team);
+        assertEquals("team", team.getName());
+        assertEquals(3, team.getMembers().size());
+        assertSame(leader, team.getLeader());
+        assertEquals("leader", leader.getName());
+        assertEquals(30, leader.getAge());
+        try {
+            teamMerger.withStrategy("rating", MergeStrategy.APPEND);
+            fail();
+        } catch (FieldOperateException e) {
+            assertTrue(e.getMessage().contains("rating"));
+        }
+        // 叶子类型的属性没有可递归的属性, 不能使用 DEEP 策略
+        for (String name : Arrays.asList("name", "members")) {
+            try {
+                teamMerger.withStrategy(name, MergeStrategy.DEEP);
+                fail();
+            } catch (FieldOperateException e) {
+                assertTrue(e.getMessage().contains(name));
+            }
+        }
+    }
+
+    private static User userOf(int age) {
+        User u = new User();
+        u.setAge(age);
+        return u;
+    }
+
     @BeforeClass
     public static void before() {
         System.out.println(">>>>>>>>>>>>> 单元测试开始");
@@ -0,0 +1,47 @@
+package com.github.fanlychie.beanutils.test.model;
+
+public class Account {
+
+    private String name;
+
+    private boolean active;
+
+    private int balance;
+
+    private long version;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name == null ? null : name.trim();
+    }
+
+    public Account name(String name) {
+        this.name = "builder:" + name;
+        return this;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public int getBalance() {
+        return balance;
+    }
+
+    public Account setBalance(int balance) {
+        this.balance = Math.max(0, balance);
+        return this;
+    }
+
+    public String getDisplayName() {
+        return name + (active ? "" : " (inactive)");
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.github.fanlychie.beanutils.test.model;
+
+public class Member extends User {
+
+    private String name;
+
+    private long points;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getPoints() {
+        return points;
+    }
+
+    public void setPoints(long points) {
+        this.points = points;
+    }
+
+}
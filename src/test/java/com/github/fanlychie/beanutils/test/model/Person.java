@@ -0,0 +1,28 @@
+package com.github.fanlychie.beanutils.test.model;
+
+import com.github.fanlychie.beanutils.annotation.ParameterName;
+
+public final class Person {
+
+    private final String name;
+
+    private final int age;
+
+    public Person(@ParameterName("name") String name) {
+        this(name, 0);
+    }
+
+    public Person(@ParameterName("name") String name, @ParameterName("age") int age) {
+        this.name = name;
+        this.age = age;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+}